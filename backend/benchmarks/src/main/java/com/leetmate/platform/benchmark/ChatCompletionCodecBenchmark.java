@@ -0,0 +1,122 @@
+package com.leetmate.platform.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leetmate.platform.ai.AiReviewResult;
+import com.leetmate.platform.ai.ChatCompletionCodec;
+import com.leetmate.platform.ai.ReviewTextParser;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+/**
+ * Measures writing the OpenAI request body for a submission with {@link ChatCompletionCodec} and reading the
+ * plain-text answer with {@link ReviewTextParser}, whole and as streamed fragments, next to the
+ * {@link HandBuiltChatPayloadBaseline string-based implementation} they replaced.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ChatCompletionCodecBenchmark {
+
+    private static final String MODEL = "gpt-4o-mini";
+    private static final int ANSWER_SUGGESTIONS = 40;
+    // typical size of a streamed completion delta
+    private static final int FRAGMENT_CHARS = 16;
+
+    @Param({"1024", "10240", "102400"})
+    public int codeBytes;
+
+    private final ChatCompletionCodec codec = new ChatCompletionCodec(new ObjectMapper());
+    private final HandBuiltChatPayloadBaseline baseline = new HandBuiltChatPayloadBaseline();
+    private String code;
+    private String answer;
+    private String[] fragments;
+
+    /**
+     * Generates the submission and a review answer for it.
+     */
+    @Setup
+    public void setUp() {
+        code = SubmissionCorpus.generate(SubmissionCorpus.Shape.STRING_HEAVY, codeBytes);
+        StringBuilder builder = new StringBuilder("The solution is correct but does more work than needed.\n\n");
+        for (int i = 0; i < ANSWER_SUGGESTIONS; i++) {
+            builder.append("- Extract the branch in solve").append(i).append(" into a helper and name it.\n");
+        }
+        answer = builder.toString();
+        fragments = new String[(answer.length() + FRAGMENT_CHARS - 1) / FRAGMENT_CHARS];
+        for (int i = 0; i < fragments.length; i++) {
+            fragments[i] = answer.substring(i * FRAGMENT_CHARS, Math.min(answer.length(), (i + 1) * FRAGMENT_CHARS));
+        }
+    }
+
+    /**
+     * @return encoded body size
+     */
+    @Benchmark
+    public int codecRequest() {
+        List<CharSequence> prompt = Arrays.asList("Review the following ", "java", " code.\n<CODE>\n", code,
+                "\n</CODE>\n");
+        DataBuffer buffer = codec.encode(new ChatCompletionCodec.Request(MODEL, prompt, false, false),
+                DefaultDataBufferFactory.sharedInstance);
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+
+    /**
+     * @return body built by the previous implementation
+     */
+    @Benchmark
+    public byte[] handBuiltRequest() {
+        return baseline.request(MODEL, "java", code);
+    }
+
+    /**
+     * @return review parsed from the complete answer
+     */
+    @Benchmark
+    public AiReviewResult parseAnswer() {
+        return new ReviewTextParser().append(answer).toResult();
+    }
+
+    /**
+     * @return review parsed from the answer as it streams in
+     */
+    @Benchmark
+    public AiReviewResult parseStreamedAnswer() {
+        ReviewTextParser parser = new ReviewTextParser();
+        for (String fragment : fragments) {
+            parser.append(fragment);
+        }
+        return parser.toResult();
+    }
+
+    /**
+     * @return review parsed by the previous implementation after the stream was collected
+     */
+    @Benchmark
+    public AiReviewResult splitAnswerBaseline() {
+        StringBuilder collected = new StringBuilder();
+        for (String fragment : fragments) {
+            collected.append(fragment);
+        }
+        return baseline.parse(collected.toString());
+    }
+}
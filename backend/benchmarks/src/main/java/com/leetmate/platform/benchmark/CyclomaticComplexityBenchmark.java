@@ -0,0 +1,74 @@
+package com.leetmate.platform.benchmark;
+
+import com.leetmate.platform.analysis.CStyleCodeAnalyzer;
+import com.leetmate.platform.analysis.CodeMetrics;
+import com.leetmate.platform.util.CyclomaticComplexityCalculator;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link CyclomaticComplexityCalculator#calculate(String)} across realistic submission sizes and shapes,
+ * next to the {@link RegexComplexityBaseline regex implementation} it replaced and the per-function
+ * {@link CStyleCodeAnalyzer} used for reviews.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CyclomaticComplexityBenchmark {
+
+    @Param({"1024", "10240", "51200", "204800"})
+    public int bytes;
+
+    @Param({"PLAIN", "COMMENT_HEAVY", "STRING_HEAVY"})
+    public SubmissionCorpus.Shape shape;
+
+    private final CyclomaticComplexityCalculator calculator = new CyclomaticComplexityCalculator();
+    private final RegexComplexityBaseline baseline = new RegexComplexityBaseline();
+    private final CStyleCodeAnalyzer analyzer = new CStyleCodeAnalyzer();
+    private String code;
+
+    /**
+     * Generates the submission for the current parameters.
+     */
+    @Setup
+    public void setUp() {
+        code = SubmissionCorpus.generate(shape, bytes);
+    }
+
+    /**
+     * @return estimated complexity, returned so the JIT cannot drop the call
+     */
+    @Benchmark
+    public int calculate() {
+        return calculator.calculate(code);
+    }
+
+    /**
+     * @return estimated complexity computed by the previous implementation
+     */
+    @Benchmark
+    public int regexBaseline() {
+        return baseline.calculate(code);
+    }
+
+    /**
+     * @return full metrics including the per-function breakdown
+     */
+    @Benchmark
+    public CodeMetrics cStyleAnalyzer() {
+        return analyzer.analyze(code);
+    }
+}
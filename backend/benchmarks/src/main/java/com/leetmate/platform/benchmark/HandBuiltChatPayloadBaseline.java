@@ -0,0 +1,77 @@
+package com.leetmate.platform.benchmark;
+
+import com.leetmate.platform.ai.AiReviewResult;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * The previous string-formatting request builder and line-splitting answer parser of
+ * {@link com.leetmate.platform.ai.ChatGptAiReviewProvider}, kept as the baseline the
+ * {@link com.leetmate.platform.ai.ChatCompletionCodec streaming codec} is compared against.
+ */
+final class HandBuiltChatPayloadBaseline {
+
+    private static final String PROMPT_TEMPLATE = """
+            You are a senior software engineer.
+            Review the following %s code. Provide:
+            1. A concise summary (<=3 sentences)
+            2. Potential issues or errors
+            3. Suggestions for improvement
+            4. Optional performance or complexity notes
+            
+            Respond in plain text with bullet points for suggestions.
+            
+            <CODE>
+            %s
+            </CODE>
+            """;
+
+    /**
+     * Builds the request body the way the provider used to, including the final encoding to bytes.
+     *
+     * @param model    model name
+     * @param language submission language
+     * @param code     submitted code
+     * @return UTF-8 request body
+     */
+    byte[] request(String model, String language, String code) {
+        String payload = """
+                {
+                  "model": "%s",
+                  "messages": [
+                    {"role": "system", "content": "You are a helpful AI code reviewer."},
+                    {"role": "user", "content": %s}
+                  ],
+                  "temperature": 0.2
+                }
+                """.formatted(model, toJsonString(PROMPT_TEMPLATE.formatted(language, code)));
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param content answer text
+     * @return parsed review
+     */
+    AiReviewResult parse(String content) {
+        String[] lines = content.split("\\r?\\n");
+        String summary = lines.length > 0 ? lines[0].trim() : content.trim();
+        List<String> suggestions = Arrays.stream(lines)
+                .map(String::trim)
+                .filter(line -> line.startsWith("-") || line.startsWith("*"))
+                .map(line -> line.replaceFirst("^[*-]\\s*", ""))
+                .collect(Collectors.toList());
+        return new AiReviewResult(summary, suggestions, Instant.now());
+    }
+
+    private String toJsonString(String input) {
+        String escaped = input.replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r")
+                .replace("\t", "\\t");
+        return "\"" + escaped + "\"";
+    }
+}
@@ -0,0 +1,79 @@
+package com.leetmate.platform.benchmark;
+
+import com.leetmate.platform.security.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Measures login verification throughput under a burst of concurrent sign-ins, once with BCrypt on the calling
+ * threads as before and once through the bounded {@link PasswordHasher} pool. The pool trades some peak throughput
+ * for leaving the remaining cores, and every caller not currently hashing, free for other requests.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(16)
+@State(Scope.Benchmark)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "correct horse battery staple";
+
+    @Param({"10", "12"})
+    public int strength;
+
+    private BCryptPasswordEncoder encoder;
+    private PasswordHasher hasher;
+    private String storedHash;
+
+    /**
+     * Hashes the password at the benchmarked cost and starts the pool with its default size.
+     */
+    @Setup
+    public void setUp() {
+        encoder = new BCryptPasswordEncoder(strength);
+        // the queue fits every benchmark thread, so no verification is rejected
+        hasher = new PasswordHasher(new SimpleMeterRegistry(), strength, 4, 31, Duration.ofMillis(250), 0, 64);
+        storedHash = encoder.encode(PASSWORD);
+    }
+
+    /**
+     * Stops the hashing threads.
+     */
+    @TearDown
+    public void tearDown() {
+        hasher.destroy();
+    }
+
+    /**
+     * @return whether the password matched, verified on the calling thread
+     */
+    @Benchmark
+    public boolean verifyOnCallingThread() {
+        return encoder.matches(PASSWORD, storedHash);
+    }
+
+    /**
+     * @return whether the password matched, verified on the hashing pool
+     */
+    @Benchmark
+    public boolean verifyOnHashingPool() {
+        return hasher.verify(PASSWORD, storedHash).join().matches();
+    }
+}
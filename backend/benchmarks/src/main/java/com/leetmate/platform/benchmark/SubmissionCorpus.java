@@ -0,0 +1,103 @@
+package com.leetmate.platform.benchmark;
+
+import java.util.Random;
+
+/**
+ * Deterministic generator for Java-like submission code of a given size and shape, so that benchmark runs are
+ * comparable across machines and releases.
+ */
+public final class SubmissionCorpus {
+
+    /**
+     * Character mix of the generated code.
+     */
+    public enum Shape {
+        /** Branch-heavy methods with little commentary. */
+        PLAIN,
+        /** Javadoc, block and line comments outweigh the code. */
+        COMMENT_HEAVY,
+        /** Long string and char literals, including escapes and branch keywords inside literals. */
+        STRING_HEAVY
+    }
+
+    private SubmissionCorpus() {
+    }
+
+    /**
+     * Generates a submission of roughly {@code bytes} characters.
+     *
+     * @param shape character mix
+     * @param bytes target size
+     * @return generated code
+     */
+    static String generate(Shape shape, int bytes) {
+        Random random = new Random(bytes * 31L + shape.ordinal());
+        StringBuilder builder = new StringBuilder(bytes + 512);
+        builder.append("import java.util.*;\n\nclass Solution {\n");
+        int method = 0;
+        while (builder.length() < bytes) {
+            switch (shape) {
+                case PLAIN -> appendPlainMethod(builder, method++, random);
+                case COMMENT_HEAVY -> appendCommentedMethod(builder, method++, random);
+                case STRING_HEAVY -> appendStringMethod(builder, method++, random);
+            }
+        }
+        return builder.append("}\n").toString();
+    }
+
+    private static void appendPlainMethod(StringBuilder builder, int index, Random random) {
+        builder.append("    int solve").append(index).append("(int[] nums, int target) {\n")
+                .append("        int best = 0;\n")
+                .append("        for (int i = 0; i < nums.length; i++) {\n")
+                .append("            if (nums[i] > target && i % 2 == 0 || nums[i] == ").append(random.nextInt(100))
+                .append(") {\n")
+                .append("                best = Math.max(best, nums[i]);\n")
+                .append("            } else {\n")
+                .append("                best = best > 0 ? best - 1 : best;\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        while (best > target) {\n")
+                .append("            best /= 2;\n")
+                .append("        }\n")
+                .append("        switch (best % 3) {\n")
+                .append("            case 0: return best;\n")
+                .append("            case 1: return best + 1;\n")
+                .append("            default: return -1;\n")
+                .append("        }\n")
+                .append("    }\n\n");
+    }
+
+    private static void appendCommentedMethod(StringBuilder builder, int index, Random random) {
+        builder.append("    /**\n")
+                .append("     * Walks the array once; if the value exceeds the target we keep it, for every\n")
+                .append("     * other case the running best decays. While this is O(n) it could catch up to\n")
+                .append("     * ").append(random.nextInt(1000)).append(" elements per millisecond && more.\n")
+                .append("     */\n")
+                .append("    int solve").append(index).append("(int[] nums, int target) {\n")
+                .append("        // running maximum, if any\n")
+                .append("        int best = 0; // for now\n")
+                .append("        /* iterate while || until the end */\n")
+                .append("        for (int i = 0; i < nums.length; i++) {\n")
+                .append("            // case: larger than target?\n")
+                .append("            if (nums[i] > target) {\n")
+                .append("                best = nums[i]; /* catch the new best */\n")
+                .append("            }\n")
+                .append("        }\n")
+                .append("        return best;\n")
+                .append("    }\n\n");
+    }
+
+    private static void appendStringMethod(StringBuilder builder, int index, Random random) {
+        builder.append("    String describe").append(index).append("(int value) {\n")
+                .append("        String prefix = \"if value is large while for case catch && || ? \\\"quoted\\\" ")
+                .append(random.nextInt(10_000)).append("\";\n")
+                .append("        char separator = '\\'';\n")
+                .append("        String body = \"Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do \"\n")
+                .append("                + \"eiusmod tempor incididunt ut labore et dolore magna aliqua // not a comment\";\n")
+                .append("        if (value > ").append(random.nextInt(100)).append(") {\n")
+                .append("            return prefix + separator + body;\n")
+                .append("        }\n")
+                .append("        return \"/* still a string */\" + separator + '?';\n")
+                .append("    }\n\n");
+    }
+}
@@ -0,0 +1,150 @@
+package com.leetmate.platform.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.leetmate.platform.analysis.CStyleCodeAnalyzer;
+import com.leetmate.platform.dto.common.PageResponse;
+import com.leetmate.platform.dto.submission.SubmissionResponse;
+import com.leetmate.platform.dto.submission.SubmissionSummaryResponse;
+import com.leetmate.platform.entity.Challenge;
+import com.leetmate.platform.entity.ChallengeDifficulty;
+import com.leetmate.platform.entity.StudyGroup;
+import com.leetmate.platform.entity.Submission;
+import com.leetmate.platform.entity.SubmissionReview;
+import com.leetmate.platform.entity.User;
+import com.leetmate.platform.entity.UserRole;
+import com.leetmate.platform.repository.SubmissionRepository;
+import com.leetmate.platform.service.SubmissionService;
+import java.lang.reflect.Proxy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the submission read path after the database: mapping a {@link Submission} to its
+ * {@link SubmissionResponse} through {@link SubmissionService#getSubmission(UUID)} and serializing single responses
+ * and full {@link PageResponse} pages with a Jackson mapper configured like Spring Boot's, next to pages of the
+ * code-less {@link SubmissionSummaryResponse}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubmissionResponseBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    @Param({"1024", "10240", "51200"})
+    public int codeBytes;
+
+    private final ObjectMapper mapper = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private SubmissionService service;
+    private UUID submissionId;
+    private SubmissionResponse response;
+    private PageResponse<SubmissionResponse> page;
+    private PageResponse<SubmissionSummaryResponse> summaryPage;
+
+    /**
+     * Builds a reviewed submission and a service whose repository serves it from memory.
+     */
+    @Setup
+    public void setUp() {
+        Instant now = Instant.now();
+        User mentor = new User(UUID.randomUUID(), "Mentor", "mentor@bench.test", "hash", UserRole.MENTOR, now);
+        User mentee = new User(UUID.randomUUID(), "Mentee", "mentee@bench.test", "hash", UserRole.MENTEE, now);
+        StudyGroup group = new StudyGroup(UUID.randomUUID(), mentor, "Group", "Benchmark group", List.of("java"), now);
+        Challenge challenge = new Challenge(UUID.randomUUID(), group, "Two Sum", "Find two numbers", "java",
+                ChallengeDifficulty.EASY, "class Solution {}", now);
+        String code = SubmissionCorpus.generate(SubmissionCorpus.Shape.PLAIN, codeBytes);
+        Submission submission = new Submission(UUID.randomUUID(), challenge, mentee, "java", code, 1, now);
+        submission.attachReview(new SubmissionReview(UUID.randomUUID(), now, "Readable solution with linear scans.",
+                12, List.of("Prefer early returns.", "Extract the inner loop.", "Name the magic numbers."),
+                new CStyleCodeAnalyzer().analyze(code).functions()));
+        submissionId = submission.getId();
+
+        SubmissionRepository repository = inMemoryRepository(submission);
+        service = new SubmissionService(repository, null, null, null, null);
+        response = service.getSubmission(submissionId);
+        List<SubmissionResponse> content = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            content.add(response);
+        }
+        page = new PageResponse<>(content, 0, PAGE_SIZE, 1_000, 50);
+        SubmissionSummaryResponse summary = new SubmissionSummaryResponse(response.getId(),
+                response.getChallengeId(), response.getMenteeId(), response.getMenteeName(), response.getLanguage(),
+                response.getCreditsAwarded(), response.getCreatedAt(), response.getReviewStatus(),
+                response.getReview().getComplexity());
+        List<SubmissionSummaryResponse> summaries = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            summaries.add(summary);
+        }
+        summaryPage = new PageResponse<>(summaries, 0, PAGE_SIZE, 1_000, 50);
+    }
+
+    /**
+     * @return mapped response
+     */
+    @Benchmark
+    public SubmissionResponse toResponse() {
+        return service.getSubmission(submissionId);
+    }
+
+    /**
+     * @return serialized submission
+     * @throws Exception when serialization fails
+     */
+    @Benchmark
+    public byte[] serializeSubmission() throws Exception {
+        return mapper.writeValueAsBytes(response);
+    }
+
+    /**
+     * @return serialized page of submissions
+     * @throws Exception when serialization fails
+     */
+    @Benchmark
+    public byte[] serializePage() throws Exception {
+        return mapper.writeValueAsBytes(page);
+    }
+
+    /**
+     * @return serialized page of submission summaries
+     * @throws Exception when serialization fails
+     */
+    @Benchmark
+    public byte[] serializeSummaryPage() throws Exception {
+        return mapper.writeValueAsBytes(summaryPage);
+    }
+
+    private static SubmissionRepository inMemoryRepository(Submission submission) {
+        return (SubmissionRepository) Proxy.newProxyInstance(SubmissionRepository.class.getClassLoader(),
+                new Class<?>[] {SubmissionRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return Optional.of(submission);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
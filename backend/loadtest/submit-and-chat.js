@@ -0,0 +1,98 @@
+// k6 load test for the submit and chat endpoints.
+//
+// Compare the default thread-per-request mode with the virtual-threads profile:
+//   ./mvnw spring-boot:run                    # platform threads (Tomcat pool, 200 threads)
+//   ./mvnw -Pvirtual-threads spring-boot:run  # Java 21 virtual threads
+//   k6 run -e VUS=400 -e MODE=platform loadtest/submit-and-chat.js
+//   k6 run -e VUS=400 -e MODE=virtual loadtest/submit-and-chat.js
+//
+// Shrinking the Tomcat pool (SERVER_TOMCAT_THREADS_MAX=50) makes the ceiling visible on a laptop. Compare
+// http_reqs/s and the p95 of http_req_duration{endpoint:*} between the two runs. Each run writes its summary to
+// loadtest/results/<MODE>-<VUS>vus.json; commit both files and add a row to loadtest/results/README.md.
+import http from 'k6/http';
+import { check } from 'k6';
+import { textSummary } from 'https://jslib.k6.io/k6-summary/0.0.2/index.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 200);
+const DURATION = __ENV.DURATION || '60s';
+const MODE = __ENV.MODE || 'platform';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+export const options = {
+  scenarios: {
+    submit: { executor: 'constant-vus', exec: 'submit', vus: Math.ceil(VUS / 2), duration: DURATION },
+    chat: { executor: 'constant-vus', exec: 'chat', vus: Math.floor(VUS / 2), duration: DURATION },
+  },
+  thresholds: {
+    'http_req_failed': ['rate<0.01'],
+    // Declared so the summary reports each endpoint separately.
+    'http_req_duration{endpoint:submit}': ['p(95)>=0'],
+    'http_req_duration{endpoint:chat-post}': ['p(95)>=0'],
+    'http_req_duration{endpoint:chat-list}': ['p(95)>=0'],
+  },
+};
+
+function register(role) {
+  const suffix = `${Date.now()}-${Math.floor(Math.random() * 1e6)}`;
+  const res = http.post(`${BASE_URL}/auth/register`, JSON.stringify({
+    name: `Load ${role}`,
+    email: `load-${role.toLowerCase()}-${suffix}@test.com`,
+    password: 'password',
+    role,
+  }), { headers: JSON_HEADERS });
+  check(res, { registered: (r) => r.status === 200 || r.status === 201 });
+  return res.json('token');
+}
+
+function auth(token) {
+  return { headers: { ...JSON_HEADERS, Authorization: `Bearer ${token}` } };
+}
+
+export function setup() {
+  const mentorToken = register('MENTOR');
+  const menteeToken = register('MENTEE');
+  const groupId = http.post(`${BASE_URL}/groups`, JSON.stringify({
+    name: 'Load test group',
+    description: 'Created by loadtest/submit-and-chat.js',
+    tags: ['load'],
+  }), auth(mentorToken)).json('id');
+  const challengeId = http.post(`${BASE_URL}/groups/${groupId}/challenges`, JSON.stringify({
+    title: 'Two Sum',
+    description: 'Load test challenge',
+    language: 'java',
+    difficulty: 'easy',
+    starterCode: 'class Solution {}',
+  }), auth(mentorToken)).json('id');
+  http.post(`${BASE_URL}/groups/${groupId}/join`, null, auth(menteeToken));
+  const threadId = http.post(`${BASE_URL}/groups/${groupId}/threads`, JSON.stringify({
+    title: 'Load test thread',
+    initialMessage: 'Hello',
+  }), auth(menteeToken)).json('id');
+  return { menteeToken, challengeId, threadId };
+}
+
+export function submit(data) {
+  const res = http.post(`${BASE_URL}/challenges/${data.challengeId}/submissions`, JSON.stringify({
+    language: 'java',
+    code: `class Solution { int run() { return ${__VU * 100000 + __ITER}; } }`,
+  }), { ...auth(data.menteeToken), tags: { endpoint: 'submit' } });
+  check(res, { 'submit accepted': (r) => r.status === 202 });
+}
+
+export function chat(data) {
+  const post = http.post(`${BASE_URL}/threads/${data.threadId}/messages`, JSON.stringify({
+    content: `message ${__VU}-${__ITER}`,
+  }), { ...auth(data.menteeToken), tags: { endpoint: 'chat-post' } });
+  check(post, { 'message posted': (r) => r.status === 200 || r.status === 201 });
+  const list = http.get(`${BASE_URL}/threads/${data.threadId}/messages?page=0&size=20`,
+    { ...auth(data.menteeToken), tags: { endpoint: 'chat-list' } });
+  check(list, { 'messages listed': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+  return {
+    stdout: textSummary(data, { indent: ' ', enableColors: true }),
+    [`loadtest/results/${MODE}-${VUS}vus.json`]: JSON.stringify(data, null, 2),
+  };
+}
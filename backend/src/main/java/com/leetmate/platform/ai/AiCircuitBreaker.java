@@ -0,0 +1,161 @@
+package com.leetmate.platform.ai;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.util.Assert;
+
+/**
+ * Count-based circuit breaker guarding calls to the AI provider. The circuit opens once the failure rate over the
+ * last {@code windowSize} calls reaches the threshold, rejects calls while open and, after {@code openDuration},
+ * lets a single trial call through: its success closes the circuit, its failure opens it again.
+ */
+class AiCircuitBreaker {
+
+    /**
+     * Circuit state.
+     */
+    enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final Duration openDuration;
+    private final Clock clock;
+
+    private State state = State.CLOSED;
+    private int recorded;
+    private int next;
+    private int failures;
+    private boolean trialInFlight;
+    private Instant openedAt;
+    private Duration openTime = Duration.ZERO;
+
+    /**
+     * Creates a closed circuit breaker.
+     *
+     * @param windowSize           number of most recent calls the failure rate is computed over
+     * @param minimumCalls         calls required before the failure rate is evaluated
+     * @param failureRateThreshold failure percentage that opens the circuit
+     * @param openDuration         time the circuit stays open before a trial call is allowed
+     * @param clock                clock measuring the open duration
+     */
+    AiCircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration, Clock clock) {
+        Assert.isTrue(windowSize > 0, "windowSize must be positive");
+        Assert.isTrue(minimumCalls > 0 && minimumCalls <= windowSize, "minimumCalls must be between 1 and windowSize");
+        Assert.isTrue(failureRateThreshold > 0 && failureRateThreshold <= 100,
+                "failureRateThreshold must be between 1 and 100");
+        this.window = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDuration = openDuration;
+        this.clock = clock;
+    }
+
+    /**
+     * Asks for permission to call the provider. Every granted permission must be followed by exactly one of
+     * {@link #onSuccess()}, {@link #onFailure()} or {@link #release()}.
+     *
+     * @return whether the call may proceed
+     */
+    synchronized boolean tryAcquire() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) {
+                    yield false;
+                }
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * Records a successful call.
+     */
+    synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    /**
+     * Records a failed call.
+     */
+    synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (recorded >= minimumCalls && failures * 100 >= failureRateThreshold * recorded) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * Returns a permission without recording an outcome, e.g. when the call was cancelled.
+     */
+    synchronized void release() {
+        trialInFlight = false;
+    }
+
+    /**
+     * @return current state
+     */
+    synchronized State state() {
+        if (state == State.OPEN && !clock.instant().isBefore(openedAt.plus(openDuration))) {
+            return State.HALF_OPEN;
+        }
+        return state;
+    }
+
+    /**
+     * @return total time the circuit spent open or half-open, including the current period
+     */
+    synchronized Duration openTime() {
+        return state == State.CLOSED ? openTime : openTime.plus(Duration.between(openedAt, clock.instant()));
+    }
+
+    private void record(boolean failure) {
+        if (recorded == window.length) {
+            failures -= window[next] ? 1 : 0;
+        } else {
+            recorded++;
+        }
+        window[next] = failure;
+        failures += failure ? 1 : 0;
+        next = (next + 1) % window.length;
+    }
+
+    private void open() {
+        if (state == State.CLOSED) {
+            openedAt = clock.instant();
+        } else {
+            // a failed trial restarts the wait but keeps counting towards the same outage
+            openTime = openTime.plus(Duration.between(openedAt, clock.instant()));
+            openedAt = clock.instant();
+        }
+        state = State.OPEN;
+        trialInFlight = false;
+    }
+
+    private void close() {
+        openTime = openTime.plus(Duration.between(openedAt, clock.instant()));
+        state = State.CLOSED;
+        trialInFlight = false;
+        recorded = 0;
+        next = 0;
+        failures = 0;
+    }
+}
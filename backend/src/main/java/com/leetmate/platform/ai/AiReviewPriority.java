@@ -0,0 +1,45 @@
+package com.leetmate.platform.ai;
+
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Scheduling priority of an AI review when calls to the provider are rate limited, highest first. The priority
+ * travels in the Reactor context of the review publisher, so callers attach it without widening the provider API.
+ */
+public enum AiReviewPriority {
+
+    /**
+     * Review explicitly requested again by a mentor.
+     */
+    MENTOR_REREVIEW,
+
+    /**
+     * First review of a newly submitted solution.
+     */
+    SUBMISSION,
+
+    /**
+     * Reviews of a backlog processed in bulk.
+     */
+    BULK_RESCORE;
+
+    private static final Class<AiReviewPriority> CONTEXT_KEY = AiReviewPriority.class;
+
+    /**
+     * @return Reactor context carrying this priority
+     */
+    public Context asContext() {
+        return Context.of(CONTEXT_KEY, this);
+    }
+
+    /**
+     * Reads the priority of the current review.
+     *
+     * @param context Reactor context of the review publisher
+     * @return attached priority, {@link #SUBMISSION} when none is attached
+     */
+    public static AiReviewPriority from(ContextView context) {
+        return context.getOrDefault(CONTEXT_KEY, SUBMISSION);
+    }
+}
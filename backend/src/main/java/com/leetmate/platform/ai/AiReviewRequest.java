@@ -0,0 +1,10 @@
+package com.leetmate.platform.ai;
+
+/**
+ * Code to be reviewed as part of a batch.
+ *
+ * @param language submission language
+ * @param code     submission code
+ */
+public record AiReviewRequest(String language, String code) {
+}
@@ -11,6 +11,7 @@ public class AiReviewResult {
     private final String summary;
     private final List<String> suggestions;
     private final Instant createdAt;
+    private final boolean degraded;
 
     /**
      * Creates a new immutable result.
@@ -20,9 +21,22 @@ public class AiReviewResult {
      * @param createdAt   review timestamp
      */
     public AiReviewResult(String summary, List<String> suggestions, Instant createdAt) {
+        this(summary, suggestions, createdAt, false);
+    }
+
+    /**
+     * Creates a new immutable result.
+     *
+     * @param summary     review summary
+     * @param suggestions actionable suggestions
+     * @param createdAt   review timestamp
+     * @param degraded    whether this is a fallback produced without the AI model
+     */
+    public AiReviewResult(String summary, List<String> suggestions, Instant createdAt, boolean degraded) {
         this.summary = summary;
         this.suggestions = List.copyOf(suggestions);
         this.createdAt = createdAt;
+        this.degraded = degraded;
     }
 
     /**
@@ -45,4 +59,11 @@ public class AiReviewResult {
     public Instant getCreatedAt() {
         return createdAt;
     }
+
+    /**
+     * @return whether this is a fallback produced without the AI model; such results must not be cached
+     */
+    public boolean isDegraded() {
+        return degraded;
+    }
 }
@@ -0,0 +1,26 @@
+package com.leetmate.platform.ai;
+
+import java.util.List;
+import java.util.Optional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveAiReviewProvider} able to review several submissions with a single model request.
+ */
+public interface BatchAiReviewProvider extends ReactiveAiReviewProvider {
+
+    /**
+     * Reviews all requests. The default implementation issues one review per request.
+     *
+     * @param requests code to review
+     * @return publisher emitting one entry per request, in request order; an entry is empty when the model's answer
+     *         left that request out, so the caller can review it again on its own
+     */
+    default Mono<List<Optional<AiReviewResult>>> reviewBatch(List<AiReviewRequest> requests) {
+        return Flux.fromIterable(requests)
+                .flatMapSequential(request -> reviewAsync(request.language(), request.code()))
+                .map(Optional::of)
+                .collectList();
+    }
+}
@@ -0,0 +1,188 @@
+package com.leetmate.platform.ai;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Micro-batching front of the AI provider for bursts such as group contests. Reviews arriving within
+ * {@code maxWait} of each other are collected, up to {@code maxBatchSize} submissions or {@code maxBatchChars}
+ * characters of code, and sent as a single model request whose per-item results are handed back to the individual
+ * callers. Each review therefore waits at most {@code maxWait} longer in exchange for far fewer requests against the
+ * provider's rate limits. A batch is sent with the highest {@link AiReviewPriority} among its submissions. Batched
+ * reviews are not streamed. Submissions the batch answer left out are reviewed again on their own through the same
+ * delegate, so the retries are still subject to its bulkhead and circuit breaker. When disabled, reviews pass
+ * straight through.
+ */
+@Component
+@Qualifier("aiReviewDelegate")
+@Profile("!test")
+public class BatchingAiReviewProvider implements AiReviewProvider, ReactiveAiReviewProvider {
+
+    private final BatchAiReviewProvider delegate;
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final int maxBatchChars;
+    private final Duration maxWait;
+    private final DistributionSummary batchSizes;
+    private final Object lock = new Object();
+
+    private List<Pending> pending = new ArrayList<>();
+    private int pendingChars;
+    private long generation;
+    private Disposable flushTimer;
+
+    /**
+     * Creates the batching provider.
+     *
+     * @param delegate      provider reviewing complete batches
+     * @param meterRegistry registry for the batch size distribution
+     * @param enabled       whether reviews are batched at all
+     * @param maxBatchSize  submissions per batch
+     * @param maxBatchChars code characters per batch, bounding the prompt size
+     * @param maxWait       time the first submission of a batch waits for others
+     */
+    public BatchingAiReviewProvider(@Qualifier("resilientAiReviewProvider") BatchAiReviewProvider delegate,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${app.ai-review.batch.enabled:false}") boolean enabled,
+                                    @Value("${app.ai-review.batch.max-size:10}") int maxBatchSize,
+                                    @Value("${app.ai-review.batch.max-chars:40000}") int maxBatchChars,
+                                    @Value("${app.ai-review.batch.max-wait:PT1S}") Duration maxWait) {
+        Assert.isTrue(maxBatchSize > 0, "maxBatchSize must be positive");
+        Assert.isTrue(maxBatchChars > 0, "maxBatchChars must be positive");
+        this.delegate = delegate;
+        this.enabled = enabled;
+        this.maxBatchSize = maxBatchSize;
+        this.maxBatchChars = maxBatchChars;
+        this.maxWait = maxWait;
+        this.batchSizes = DistributionSummary.builder("ai.review.batch.size")
+                .description("Submissions reviewed per model request")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AiReviewResult review(String language, String code) {
+        return reviewAsync(language, code).block();
+    }
+
+    @Override
+    public Mono<AiReviewResult> reviewAsync(String language, String code) {
+        return reviewAsync(language, code, text -> {
+        });
+    }
+
+    @Override
+    public Mono<AiReviewResult> reviewAsync(String language, String code, Consumer<String> onText) {
+        if (!enabled) {
+            return delegate.reviewAsync(language, code, onText);
+        }
+        return Mono.deferContextual(context -> {
+            Sinks.One<AiReviewResult> sink = Sinks.one();
+            add(new Pending(new AiReviewRequest(language, code), AiReviewPriority.from(context), sink));
+            return sink.asMono();
+        });
+    }
+
+    private void add(Pending item) {
+        int chars = item.request().code() == null ? 0 : item.request().code().length();
+        List<List<Pending>> ready = new ArrayList<>(2);
+        synchronized (lock) {
+            if (!pending.isEmpty() && pendingChars + chars > maxBatchChars) {
+                ready.add(drain());
+            }
+            pending.add(item);
+            pendingChars += chars;
+            if (pending.size() >= maxBatchSize || pendingChars >= maxBatchChars) {
+                ready.add(drain());
+            } else if (flushTimer == null) {
+                long batch = generation;
+                flushTimer = Schedulers.parallel().schedule(() -> flushExpired(batch), maxWait.toMillis(),
+                        TimeUnit.MILLISECONDS);
+            }
+        }
+        ready.forEach(this::send);
+    }
+
+    private void flushExpired(long batch) {
+        List<Pending> ready;
+        synchronized (lock) {
+            // the batch this timer was started for may already have been sent because it filled up
+            if (batch != generation || pending.isEmpty()) {
+                return;
+            }
+            ready = drain();
+        }
+        send(ready);
+    }
+
+    private List<Pending> drain() {
+        List<Pending> batch = pending;
+        pending = new ArrayList<>();
+        pendingChars = 0;
+        generation++;
+        if (flushTimer != null) {
+            flushTimer.dispose();
+            flushTimer = null;
+        }
+        return batch;
+    }
+
+    private void send(List<Pending> batch) {
+        batchSizes.record(batch.size());
+        List<AiReviewRequest> requests = batch.stream().map(Pending::request).toList();
+        AiReviewPriority priority = batch.stream().map(Pending::priority).min(Comparator.naturalOrder())
+                .orElse(AiReviewPriority.SUBMISSION);
+        // a lone submission keeps the tighter single-review deadline
+        Mono<List<Optional<AiReviewResult>>> reviews = requests.size() == 1
+                ? delegate.reviewAsync(requests.get(0).language(), requests.get(0).code())
+                        .map(result -> List.of(Optional.of(result)))
+                : delegate.reviewBatch(requests);
+        AtomicBoolean answered = new AtomicBoolean();
+        reviews.contextWrite(priority.asContext()).subscribe(results -> {
+            answered.set(true);
+            if (results.size() != batch.size()) {
+                IllegalStateException error = new IllegalStateException(
+                        "AI provider returned %d reviews for %d submissions".formatted(results.size(), batch.size()));
+                batch.forEach(item -> item.sink().tryEmitError(error));
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                Pending item = batch.get(i);
+                results.get(i).ifPresentOrElse(item.sink()::tryEmitValue, () -> retry(item));
+            }
+        }, error -> batch.forEach(item -> item.sink().tryEmitError(error)), () -> {
+            // items handed to retry() are still waiting for their own answer
+            if (!answered.get()) {
+                batch.forEach(item -> item.sink().tryEmitEmpty());
+            }
+        });
+    }
+
+    private void retry(Pending item) {
+        delegate.reviewAsync(item.request().language(), item.request().code())
+                .contextWrite(item.priority().asContext())
+                .subscribe(item.sink()::tryEmitValue, item.sink()::tryEmitError, item.sink()::tryEmitEmpty);
+    }
+
+    /**
+     * Submission waiting for its batch to be sent.
+     */
+    private record Pending(AiReviewRequest request, AiReviewPriority priority, Sinks.One<AiReviewResult> sink) {
+    }
+}
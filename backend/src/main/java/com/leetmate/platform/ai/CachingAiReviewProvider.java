@@ -0,0 +1,199 @@
+package com.leetmate.platform.ai;
+
+import com.leetmate.platform.config.OpenAiProperties;
+import com.leetmate.platform.entity.AiReviewCacheEntry;
+import com.leetmate.platform.repository.AiReviewCacheRepository;
+import com.leetmate.platform.util.CodeNormalizer;
+import com.leetmate.platform.util.ExpiringLruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Content-addressed cache in front of the real AI provider. Reviews are keyed on language, model and a SHA-256 hash
+ * of the normalized code and looked up in a bounded in-memory tier first and in Postgres second, so equivalent
+ * submissions only pay for a single LLM call.
+ */
+@Component
+@Primary
+public class CachingAiReviewProvider implements AiReviewProvider, ReactiveAiReviewProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingAiReviewProvider.class);
+
+    private final ReactiveAiReviewProvider delegate;
+    private final AiReviewCacheRepository repository;
+    private final CodeNormalizer normalizer;
+    private final OpenAiProperties properties;
+    private final Duration ttl;
+    private final ExpiringLruCache<String, AiReviewResult> memory;
+    private final ConcurrentMap<String, Mono<AiReviewResult>> inFlight = new ConcurrentHashMap<>();
+    private final Counter memoryHits;
+    private final Counter databaseHits;
+    private final Counter misses;
+
+    /**
+     * Creates the caching provider.
+     *
+     * @param delegate      provider performing the actual review
+     * @param repository    persistent cache tier
+     * @param normalizer    code normalizer used to build cache keys
+     * @param properties    OpenAI configuration, the model is part of the key
+     * @param meterRegistry registry for hit/miss metrics
+     * @param maxEntries    size of the in-memory tier
+     * @param ttl           lifetime of cached reviews
+     */
+    public CachingAiReviewProvider(@Qualifier("aiReviewDelegate") ReactiveAiReviewProvider delegate,
+                                   AiReviewCacheRepository repository,
+                                   CodeNormalizer normalizer,
+                                   OpenAiProperties properties,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.ai-review-cache.max-entries:1000}") int maxEntries,
+                                   @Value("${app.ai-review-cache.ttl:P30D}") Duration ttl) {
+        this.delegate = delegate;
+        this.repository = repository;
+        this.normalizer = normalizer;
+        this.properties = properties;
+        this.ttl = ttl;
+        this.memory = new ExpiringLruCache<>(maxEntries, ttl);
+        this.memoryHits = lookups(meterRegistry, "memory", "hit");
+        this.databaseHits = lookups(meterRegistry, "database", "hit");
+        this.misses = lookups(meterRegistry, "all", "miss");
+        Gauge.builder("ai.review.cache.size", memory, ExpiringLruCache::size)
+                .description("Reviews held in the in-memory cache tier")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AiReviewResult review(String language, String code) {
+        return reviewAsync(language, code).block();
+    }
+
+    @Override
+    public Mono<AiReviewResult> reviewAsync(String language, String code) {
+        return reviewAsync(language, code, text -> {
+        });
+    }
+
+    @Override
+    public Mono<AiReviewResult> reviewAsync(String language, String code, Consumer<String> onText) {
+        return Mono.defer(() -> {
+            String key = cacheKey(language, code);
+            AiReviewResult cached = memory.get(key);
+            if (cached != null) {
+                memoryHits.increment();
+                return Mono.just(fresh(cached));
+            }
+            // concurrent identical submissions share a single lookup and LLM call; only the first one streams
+            return inFlight.computeIfAbsent(key, k -> shared(k, language, code, onText)).map(this::fresh);
+        });
+    }
+
+    /**
+     * Removes persisted reviews that outlived the configured TTL.
+     */
+    @Scheduled(fixedDelayString = "${app.ai-review-cache.purge-interval:PT6H}",
+            initialDelayString = "${app.ai-review-cache.purge-interval:PT6H}")
+    public void purgeExpired() {
+        int removed = repository.deleteCreatedBefore(Instant.now().minus(ttl));
+        if (removed > 0) {
+            log.info("Purged {} expired AI review cache entries", removed);
+        }
+    }
+
+    String cacheKey(String language, String code) {
+        String lang = language == null ? "" : language.trim().toLowerCase(Locale.ROOT);
+        String normalized = normalizer.normalize(lang, code);
+        return lang + ":" + properties.getModel() + ":" + sha256(normalized);
+    }
+
+    private Mono<AiReviewResult> shared(String key, String language, String code, Consumer<String> onText) {
+        AtomicReference<Mono<AiReviewResult>> self = new AtomicReference<>();
+        // the entry is removed before the outcome reaches any subscriber, so a request made once a review has
+        // completed goes through the cache tiers again instead of replaying a degraded result or an error
+        Mono<AiReviewResult> shared = load(key, language, code, onText)
+                .doOnEach(signal -> inFlight.remove(key, self.get()))
+                .doOnCancel(() -> inFlight.remove(key, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    private Mono<AiReviewResult> load(String key, String language, String code, Consumer<String> onText) {
+        return Mono.fromCallable(() -> repository.findByCacheKeyAndCreatedAtAfter(key, Instant.now().minus(ttl)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(entry -> {
+                    if (entry.isPresent()) {
+                        databaseHits.increment();
+                        AiReviewResult result = toResult(entry.get());
+                        memory.put(key, result);
+                        return Mono.just(result);
+                    }
+                    misses.increment();
+                    return delegate.reviewAsync(language, code, onText)
+                            .flatMap(result -> store(key, language, result).thenReturn(result));
+                });
+    }
+
+    private Mono<Void> store(String key, String language, AiReviewResult result) {
+        if (result.isDegraded()) {
+            // a fallback must not stand in for the real review once the provider recovers
+            return Mono.empty();
+        }
+        memory.put(key, result);
+        return Mono.fromRunnable(() -> repository.save(new AiReviewCacheEntry(key,
+                        language.trim().toLowerCase(Locale.ROOT), properties.getModel(), result.getSummary(),
+                        result.getSuggestions(), Instant.now())))
+                .subscribeOn(Schedulers.boundedElastic())
+                .onErrorResume(ex -> {
+                    // another node may have stored the same review first; the in-memory tier is already populated
+                    log.debug("Could not persist AI review cache entry {}", key, ex);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private AiReviewResult toResult(AiReviewCacheEntry entry) {
+        return new AiReviewResult(entry.getSummary(), entry.getSuggestions(), entry.getCreatedAt());
+    }
+
+    private AiReviewResult fresh(AiReviewResult cached) {
+        return new AiReviewResult(cached.getSummary(), cached.getSuggestions(), Instant.now(), cached.isDegraded());
+    }
+
+    private static Counter lookups(MeterRegistry registry, String tier, String result) {
+        return Counter.builder("ai.review.cache.lookups")
+                .description("AI review cache lookups by tier and outcome")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(registry);
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
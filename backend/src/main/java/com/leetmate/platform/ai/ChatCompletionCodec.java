@@ -0,0 +1,172 @@
+package com.leetmate.platform.ai;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.List;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.util.StringUtils;
+import org.springframework.web.reactive.function.BodyInserter;
+import reactor.core.publisher.Mono;
+
+/**
+ * Streaming JSON codec for the Chat Completions API. The request body is generated straight into the outgoing
+ * {@link DataBuffer}, and the prompt is kept as the parts it is assembled from, so submitted code is escaped once
+ * while it is written instead of being copied into a formatted prompt and payload string first.
+ */
+public final class ChatCompletionCodec {
+
+    private static final String SYSTEM_PROMPT = "You are a helpful AI code reviewer.";
+    private static final double TEMPERATURE = 0.2;
+    // model name, system prompt and field names around the user prompt
+    private static final int ENVELOPE_BYTES = 256;
+
+    private final ObjectMapper objectMapper;
+    private final JsonFactory jsonFactory;
+
+    /**
+     * Creates the codec.
+     *
+     * @param objectMapper mapper whose factory creates generators and which reads streamed chunks
+     */
+    public ChatCompletionCodec(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * @param request completion request
+     * @return inserter encoding the request when the body is written, again on every retry
+     */
+    public BodyInserter<Request, ReactiveHttpOutputMessage> body(Request request) {
+        return (message, context) -> message.writeWith(Mono.fromCallable(() -> encode(request,
+                message.bufferFactory())));
+    }
+
+    /**
+     * Encodes a completion request.
+     *
+     * @param request       completion request
+     * @param bufferFactory factory of the outgoing buffer
+     * @return buffer holding the UTF-8 JSON body, owned by the caller
+     */
+    public DataBuffer encode(Request request, DataBufferFactory bufferFactory) {
+        // escapes and multi-byte characters may grow the body, the buffer expands when the estimate is short
+        DataBuffer buffer = bufferFactory.allocateBuffer(request.promptLength() + ENVELOPE_BYTES);
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer.asOutputStream(), JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField("model", request.model());
+            generator.writeArrayFieldStart("messages");
+            generator.writeStartObject();
+            generator.writeStringField("role", "system");
+            generator.writeStringField("content", SYSTEM_PROMPT);
+            generator.writeEndObject();
+            generator.writeStartObject();
+            generator.writeStringField("role", "user");
+            generator.writeFieldName("content");
+            generator.writeString(new PromptReader(request.prompt()), -1);
+            generator.writeEndObject();
+            generator.writeEndArray();
+            generator.writeNumberField("temperature", TEMPERATURE);
+            if (request.stream()) {
+                generator.writeBooleanField("stream", true);
+            }
+            if (request.jsonResponse()) {
+                generator.writeObjectFieldStart("response_format");
+                generator.writeStringField("type", "json_object");
+                generator.writeEndObject();
+            }
+            generator.writeEndObject();
+        } catch (IOException ex) {
+            DataBufferUtils.release(buffer);
+            throw new UncheckedIOException("Could not encode chat completion request", ex);
+        }
+        return buffer;
+    }
+
+    /**
+     * Reads the text delta of one streamed completion chunk.
+     *
+     * @param chunk data of a server-sent event
+     * @return generated text, empty when the chunk carries none or cannot be read
+     * @throws JsonProcessingException when the chunk is not JSON
+     */
+    public String deltaContent(String chunk) throws JsonProcessingException {
+        if (!StringUtils.hasText(chunk)) {
+            return "";
+        }
+        return objectMapper.readTree(chunk).path("choices").path(0).path("delta").path("content").asText("");
+    }
+
+    /**
+     * Chat completion request with a single user prompt.
+     *
+     * @param model        model name
+     * @param prompt       parts of the user prompt, sent concatenated
+     * @param stream       whether the answer is streamed as server-sent events
+     * @param jsonResponse whether the model must answer with a JSON object
+     */
+    public record Request(String model, List<CharSequence> prompt, boolean stream, boolean jsonResponse) {
+
+        /**
+         * @return characters of the user prompt
+         */
+        public int promptLength() {
+            int length = 0;
+            for (CharSequence part : prompt) {
+                length += part == null ? 0 : part.length();
+            }
+            return length;
+        }
+    }
+
+    /**
+     * Reads prompt parts in sequence without concatenating them.
+     */
+    private static final class PromptReader extends Reader {
+
+        private final List<CharSequence> parts;
+        private int part;
+        private int offset;
+
+        PromptReader(List<CharSequence> parts) {
+            this.parts = parts;
+        }
+
+        @Override
+        public int read(char[] buffer, int off, int len) {
+            int read = 0;
+            while (read < len && part < parts.size()) {
+                CharSequence current = parts.get(part) == null ? "" : parts.get(part);
+                int count = Math.min(len - read, current.length() - offset);
+                if (current instanceof String string) {
+                    string.getChars(offset, offset + count, buffer, off + read);
+                } else {
+                    for (int i = 0; i < count; i++) {
+                        buffer[off + read + i] = current.charAt(offset + i);
+                    }
+                }
+                read += count;
+                offset += count;
+                if (offset == current.length()) {
+                    part++;
+                    offset = 0;
+                }
+            }
+            return read == 0 && len > 0 ? -1 : read;
+        }
+
+        @Override
+        public void close() {
+            part = parts.size();
+        }
+    }
+}
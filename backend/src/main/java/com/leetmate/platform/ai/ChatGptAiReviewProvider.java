@@ -1,22 +1,51 @@
 package com.leetmate.platform.ai;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.leetmate.platform.config.OpenAiProperties;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
- * Production-ready OpenAI backed implementation of {@link AiReviewProvider}.
+ * Production-ready OpenAI backed implementation of {@link AiReviewProvider} and {@link BatchAiReviewProvider}.
+ * Batches are sent as one JSON-mode completion; submissions the model leaves out of its answer are reviewed
+ * individually. Streaming reviews use the server-sent event mode of the Chat Completions API. Every request passes
+ * the {@link OpenAiRateLimiter} with an estimate of its prompt and completion tokens. Requests are written and plain-text
+ * answers read by {@link ChatCompletionCodec} and {@link ReviewTextParser}, without copying the submitted code into
+ * intermediate strings.
  */
 @Component
+@Qualifier("openAiReviewProvider")
 @Profile("!test")
-public class ChatGptAiReviewProvider implements AiReviewProvider {
+public class ChatGptAiReviewProvider implements AiReviewProvider, BatchAiReviewProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatGptAiReviewProvider.class);
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> EVENT_TYPE =
+            new ParameterizedTypeReference<>() {
+            };
+    private static final String STREAM_DONE = "[DONE]";
+    // rough English/code average used by OpenAI's own guidance, enough to budget requests
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int COMPLETION_TOKENS_PER_REVIEW = 600;
 
     private static final String PROMPT_TEMPLATE = """
             You are a senior software engineer.
@@ -32,69 +61,165 @@ public class ChatGptAiReviewProvider implements AiReviewProvider {
             %s
             </CODE>
             """;
+    // the prompt is sent as the parts around the placeholders, so the code is never formatted into a new string
+    private static final String[] PROMPT_PARTS = PROMPT_TEMPLATE.split("%s", -1);
+
+    private static final String BATCH_PROMPT_TEMPLATE = """
+            You are a senior software engineer.
+            Review each of the following %d submissions independently. For every submission provide a concise
+            summary (<=3 sentences) and suggestions covering potential issues, improvements and optional
+            performance or complexity notes.
+            
+            Respond with a JSON object of the form
+            {"reviews": [{"id": "<submission id>", "summary": "...", "suggestions": ["..."]}]}
+            containing exactly one entry per submission id.
+            
+            """;
+
+    private static final String BATCH_ITEM_OPEN = "<SUBMISSION id=\"%d\" language=\"%s\">\n";
+    private static final String BATCH_ITEM_CLOSE = "\n</SUBMISSION>\n";
 
     private final WebClient webClient;
     private final OpenAiProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ChatCompletionCodec codec;
 
     /**
      * Creates a new provider.
      *
-     * @param webClient  shared WebClient
-     * @param properties OpenAI configuration
+     * @param webClient    shared WebClient
+     * @param properties   OpenAI configuration
+     * @param objectMapper mapper writing requests and reading answers
+     * @param rateLimiter  client-side limiter for OpenAI requests
      */
-    public ChatGptAiReviewProvider(WebClient webClient, OpenAiProperties properties) {
-        this.webClient = webClient;
+    public ChatGptAiReviewProvider(WebClient webClient, OpenAiProperties properties, ObjectMapper objectMapper,
+                                   OpenAiRateLimiter rateLimiter) {
+        this.webClient = webClient.mutate().filter(rateLimiter).build();
         this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.codec = new ChatCompletionCodec(objectMapper);
     }
 
     @Override
     public AiReviewResult review(String language, String code) {
+        return reviewAsync(language, code).block();
+    }
+
+    @Override
+    public Mono<AiReviewResult> reviewAsync(String language, String code) {
+        return complete(request(prompt(language, code), false, false), 1)
+                .map(content -> new ReviewTextParser().append(content).toResult());
+    }
+
+    @Override
+    public Mono<AiReviewResult> reviewAsync(String language, String code, Consumer<String> onText) {
+        if (!StringUtils.hasText(properties.getApiKey())) {
+            return Mono.error(new IllegalStateException("OpenAI API key is not configured"));
+        }
+        ChatCompletionCodec.Request request = request(prompt(language, code), true, false);
+        return Mono.defer(() -> {
+            ReviewTextParser answer = new ReviewTextParser();
+            return post(request, 1)
+                    .bodyToFlux(EVENT_TYPE)
+                    .map(event -> event.data() == null ? "" : event.data())
+                    .takeWhile(data -> !STREAM_DONE.equals(data.trim()))
+                    .map(this::deltaContent)
+                    .filter(StringUtils::hasLength)
+                    .doOnNext(delta -> {
+                        answer.append(delta);
+                        onText.accept(delta);
+                    })
+                    .then(Mono.fromSupplier(answer::toResult));
+        });
+    }
+
+    @Override
+    public Mono<List<Optional<AiReviewResult>>> reviewBatch(List<AiReviewRequest> requests) {
+        if (requests.size() == 1) {
+            AiReviewRequest request = requests.get(0);
+            return reviewAsync(request.language(), request.code()).map(result -> List.of(Optional.of(result)));
+        }
+        List<CharSequence> prompt = new ArrayList<>(1 + requests.size() * 3);
+        prompt.add(BATCH_PROMPT_TEMPLATE.formatted(requests.size()));
+        for (int i = 0; i < requests.size(); i++) {
+            AiReviewRequest request = requests.get(i);
+            prompt.add(BATCH_ITEM_OPEN.formatted(i + 1, request.language()));
+            prompt.add(request.code());
+            prompt.add(BATCH_ITEM_CLOSE);
+        }
+        return complete(request(prompt, false, true), requests.size())
+                .map(content -> {
+                    Map<Integer, AiReviewResult> answered = parseBatch(content, requests.size());
+                    if (answered.size() < requests.size()) {
+                        log.warn("Batch answer covered {} of {} submissions, returning the rest unanswered",
+                                answered.size(), requests.size());
+                    }
+                    // unanswered submissions are retried by the caller, through the bulkhead and circuit breaker
+                    List<Optional<AiReviewResult>> results = new ArrayList<>(requests.size());
+                    for (int i = 0; i < requests.size(); i++) {
+                        results.add(Optional.ofNullable(answered.get(i)));
+                    }
+                    return results;
+                });
+    }
+
+    private Mono<String> complete(ChatCompletionCodec.Request request, int reviews) {
         if (!StringUtils.hasText(properties.getApiKey())) {
-            throw new IllegalStateException("OpenAI API key is not configured");
+            return Mono.error(new IllegalStateException("OpenAI API key is not configured"));
         }
-        String payload = """
-                {
-                  "model": "%s",
-                  "messages": [
-                    {"role": "system", "content": "You are a helpful AI code reviewer."},
-                    {"role": "user", "content": %s}
-                  ],
-                  "temperature": 0.2
-                }
-                """.formatted(
-                properties.getModel(),
-                toJsonString(PROMPT_TEMPLATE.formatted(language, code))
-        );
-
-        ChatCompletionResponse response = webClient.post()
+        return Mono.defer(() -> post(request, reviews).bodyToMono(ChatCompletionResponse.class))
+                .map(ChatCompletionResponse::messageContent)
+                .defaultIfEmpty("");
+    }
+
+    private WebClient.ResponseSpec post(ChatCompletionCodec.Request request, int reviews) {
+        return webClient.post()
                 .uri(properties.getBaseUrl() + "/chat/completions")
+                .attribute(OpenAiRateLimiter.TOKENS_ATTRIBUTE,
+                        request.promptLength() / CHARS_PER_TOKEN + reviews * COMPLETION_TOKENS_PER_REVIEW)
                 .contentType(MediaType.APPLICATION_JSON)
                 .header("Authorization", "Bearer " + properties.getApiKey())
-                .bodyValue(payload)
-                .retrieve()
-                .bodyToMono(ChatCompletionResponse.class)
-                .block();
-
-        String content = response == null ? "" : response.messageContent();
-        if (!StringUtils.hasText(content)) {
-            content = "No review generated.";
+                .body(codec.body(request))
+                .retrieve();
+    }
+
+    private String deltaContent(String chunk) {
+        try {
+            return codec.deltaContent(chunk);
+        } catch (JsonProcessingException ex) {
+            log.debug("Skipping unreadable completion chunk: {}", ex.getOriginalMessage());
+            return "";
         }
+    }
+
+    private ChatCompletionCodec.Request request(List<CharSequence> prompt, boolean stream, boolean jsonResponse) {
+        return new ChatCompletionCodec.Request(properties.getModel(), prompt, stream, jsonResponse);
+    }
 
-        String[] lines = content.split("\\r?\\n");
-        String summary = lines.length > 0 ? lines[0].trim() : content.trim();
-        List<String> suggestions = Arrays.stream(lines)
-                .map(String::trim)
-                .filter(line -> line.startsWith("-") || line.startsWith("*"))
-                .map(line -> line.replaceFirst("^[*-]\\s*", ""))
-                .collect(Collectors.toList());
-        return new AiReviewResult(summary, suggestions, Instant.now());
+    private static List<CharSequence> prompt(String language, String code) {
+        return Arrays.asList(PROMPT_PARTS[0], language, PROMPT_PARTS[1], code, PROMPT_PARTS[2]);
     }
 
-    private String toJsonString(String input) {
-        String escaped = input.replace("\\", "\\\\")
-                .replace("\"", "\\\"")
-                .replace("\n", "\\n");
-        return "\"" + escaped + "\"";
+    private Map<Integer, AiReviewResult> parseBatch(String content, int size) {
+        Map<Integer, AiReviewResult> answered = new HashMap<>();
+        JsonNode reviews;
+        try {
+            reviews = objectMapper.readTree(content).path("reviews");
+        } catch (JsonProcessingException ex) {
+            log.warn("Batch answer is not valid JSON: {}", ex.getOriginalMessage());
+            return answered;
+        }
+        for (JsonNode review : reviews) {
+            int index = review.path("id").asInt(0) - 1;
+            String summary = review.path("summary").asText("").trim();
+            if (index < 0 || index >= size || !StringUtils.hasText(summary)) {
+                continue;
+            }
+            List<String> suggestions = new ArrayList<>();
+            review.path("suggestions").forEach(suggestion -> suggestions.add(suggestion.asText().trim()));
+            answered.put(index, new AiReviewResult(summary, suggestions, Instant.now()));
+        }
+        return answered;
     }
 
     private record ChatCompletionResponse(List<Choice> choices) {
@@ -2,15 +2,18 @@ package com.leetmate.platform.ai;
 
 import java.time.Instant;
 import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
 
 /**
  * Deterministic AI provider used in tests to avoid external calls.
  */
 @Component
+@Qualifier("aiReviewDelegate")
 @Profile("test")
-public class MockAiReviewProvider implements AiReviewProvider {
+public class MockAiReviewProvider implements AiReviewProvider, ReactiveAiReviewProvider {
 
     @Override
     public AiReviewResult review(String language, String code) {
@@ -19,4 +22,9 @@ public class MockAiReviewProvider implements AiReviewProvider {
                 List.of("Use descriptive variable names", "Add more tests"),
                 Instant.now());
     }
+
+    @Override
+    public Mono<AiReviewResult> reviewAsync(String language, String code) {
+        return Mono.fromSupplier(() -> review(language, code));
+    }
 }
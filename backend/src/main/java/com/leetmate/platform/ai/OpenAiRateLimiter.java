@@ -0,0 +1,336 @@
+package com.leetmate.platform.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+/**
+ * Client-side rate limiter for OpenAI requests. Requests and tokens are drawn from two token buckets refilled
+ * continuously at the per-minute limits; the buckets adopt the limits and lower their budget to the remaining
+ * amounts reported in {@code x-ratelimit-*} response headers, and a 429 pauses all calls until the reported reset.
+ * Callers waiting for budget are served strictly by {@link AiReviewPriority}, then in arrival order. The expected
+ * token cost of a request is passed in the {@link #TOKENS_ATTRIBUTE} request attribute.
+ */
+@Component
+@Profile("!test")
+public class OpenAiRateLimiter implements ExchangeFilterFunction {
+
+    /**
+     * Request attribute holding the estimated prompt plus completion tokens of a request.
+     */
+    public static final String TOKENS_ATTRIBUTE = OpenAiRateLimiter.class.getName() + ".tokens";
+
+    private static final long MINUTE_NANOS = TimeUnit.MINUTES.toNanos(1);
+    private static final Pattern DURATION_PART = Pattern.compile("(\\d+(?:\\.\\d+)?)(ms|h|m|s)");
+    private static final Duration DEFAULT_PAUSE = Duration.ofSeconds(1);
+
+    private final Object lock = new Object();
+    private final Bucket requests;
+    private final Bucket tokens;
+    private final PriorityQueue<Waiter> queue = new PriorityQueue<>();
+    private final int maxRetries;
+    private final Map<AiReviewPriority, Timer> waitTimers = new EnumMap<>(AiReviewPriority.class);
+    private final Counter throttled;
+
+    private long sequence;
+    private long pausedUntil;
+    private boolean drainScheduled;
+
+    /**
+     * Creates the limiter with full buckets.
+     *
+     * @param requestsPerMinute initial request limit, replaced by the limit OpenAI reports
+     * @param tokensPerMinute   initial token limit, replaced by the limit OpenAI reports
+     * @param maxRetries        times a request answered with 429 is queued again
+     * @param meterRegistry     registry for queue and wait metrics
+     */
+    public OpenAiRateLimiter(@Value("${app.ai-review.rate-limit.requests-per-minute:500}") int requestsPerMinute,
+                             @Value("${app.ai-review.rate-limit.tokens-per-minute:200000}") int tokensPerMinute,
+                             @Value("${app.ai-review.rate-limit.max-retries:2}") int maxRetries,
+                             MeterRegistry meterRegistry) {
+        Assert.isTrue(requestsPerMinute > 0 && tokensPerMinute > 0, "rate limits must be positive");
+        long now = System.nanoTime();
+        this.requests = new Bucket(requestsPerMinute, now);
+        this.tokens = new Bucket(tokensPerMinute, now);
+        this.pausedUntil = now;
+        this.maxRetries = maxRetries;
+        for (AiReviewPriority priority : AiReviewPriority.values()) {
+            waitTimers.put(priority, Timer.builder("ai.review.ratelimit.wait")
+                    .description("Time OpenAI requests waited for rate limit budget")
+                    .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.throttled = Counter.builder("ai.review.ratelimit.throttled")
+                .description("OpenAI requests answered with 429 Too Many Requests")
+                .register(meterRegistry);
+        Gauge.builder("ai.review.ratelimit.queue.depth", this, OpenAiRateLimiter::queueDepth)
+                .description("OpenAI requests waiting for rate limit budget")
+                .register(meterRegistry);
+        Gauge.builder("ai.review.ratelimit.available", this, limiter -> limiter.available(limiter.requests))
+                .description("Rate limit budget currently available")
+                .tag("budget", "requests")
+                .register(meterRegistry);
+        Gauge.builder("ai.review.ratelimit.available", this, limiter -> limiter.available(limiter.tokens))
+                .description("Rate limit budget currently available")
+                .tag("budget", "tokens")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        int cost = request.attribute(TOKENS_ATTRIBUTE).map(Integer.class::cast).orElse(0);
+        return Mono.deferContextual(context -> exchange(request, next, context, cost, 0));
+    }
+
+    /**
+     * @return requests waiting for budget
+     */
+    public int queueDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    /**
+     * Waits until a request costing {@code cost} tokens fits into both budgets and takes it from them.
+     *
+     * @param priority priority of the request
+     * @param cost     estimated tokens of the request
+     * @return publisher completing once the request may be sent; cancelling it leaves the queue
+     */
+    Mono<Void> acquire(AiReviewPriority priority, int cost) {
+        return Mono.create(sink -> {
+            Waiter waiter;
+            synchronized (lock) {
+                waiter = new Waiter(priority, Math.max(0, cost), sequence++, System.nanoTime(), sink);
+                queue.add(waiter);
+            }
+            sink.onCancel(() -> {
+                synchronized (lock) {
+                    queue.remove(waiter);
+                }
+            });
+            drain();
+        });
+    }
+
+    /**
+     * Adopts the limits, remaining budgets and resets reported by OpenAI.
+     *
+     * @param headers response headers
+     * @param status  response status
+     */
+    void update(HttpHeaders headers, HttpStatusCode status) {
+        long now = System.nanoTime();
+        synchronized (lock) {
+            requests.adjust(number(headers, "x-ratelimit-limit-requests"),
+                    number(headers, "x-ratelimit-remaining-requests"), now);
+            tokens.adjust(number(headers, "x-ratelimit-limit-tokens"),
+                    number(headers, "x-ratelimit-remaining-tokens"), now);
+            if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+                pausedUntil = Math.max(pausedUntil, now + pause(headers).toNanos());
+            }
+        }
+        drain();
+    }
+
+    private Mono<ClientResponse> exchange(ClientRequest request, ExchangeFunction next, ContextView context,
+                                          int cost, int attempt) {
+        return RateLimitWait.track(context, acquire(AiReviewPriority.from(context), cost))
+                .then(Mono.defer(() -> next.exchange(request)))
+                .flatMap(response -> {
+                    update(response.headers().asHttpHeaders(), response.statusCode());
+                    if (response.statusCode().value() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                        return Mono.just(response);
+                    }
+                    throttled.increment();
+                    if (attempt >= maxRetries) {
+                        return Mono.just(response);
+                    }
+                    return response.releaseBody().then(exchange(request, next, context, cost, attempt + 1));
+                });
+    }
+
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (lock) {
+            long now = System.nanoTime();
+            requests.refill(now);
+            tokens.refill(now);
+            long delay = 0;
+            while (!queue.isEmpty()) {
+                Waiter head = queue.peek();
+                delay = Math.max(pausedUntil - now, Math.max(requests.nanosUntil(1), tokens.nanosUntil(head.cost)));
+                if (delay > 0) {
+                    break;
+                }
+                queue.poll();
+                requests.take(1);
+                tokens.take(head.cost);
+                granted.add(head);
+            }
+            if (delay > 0 && !drainScheduled) {
+                drainScheduled = true;
+                Schedulers.parallel().schedule(() -> {
+                    synchronized (lock) {
+                        drainScheduled = false;
+                    }
+                    drain();
+                }, delay, TimeUnit.NANOSECONDS);
+            }
+        }
+        long now = System.nanoTime();
+        for (Waiter waiter : granted) {
+            waitTimers.get(waiter.priority).record(now - waiter.enqueuedAt, TimeUnit.NANOSECONDS);
+            waiter.sink.success();
+        }
+    }
+
+    private double available(Bucket bucket) {
+        synchronized (lock) {
+            bucket.refill(System.nanoTime());
+            return bucket.available;
+        }
+    }
+
+    private static Duration pause(HttpHeaders headers) {
+        String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null && retryAfter.trim().matches("\\d+")) {
+            return Duration.ofSeconds(Long.parseLong(retryAfter.trim()));
+        }
+        Duration requestsReset = duration(headers.getFirst("x-ratelimit-reset-requests"));
+        Duration tokensReset = duration(headers.getFirst("x-ratelimit-reset-tokens"));
+        Duration pause = requestsReset.compareTo(tokensReset) >= 0 ? requestsReset : tokensReset;
+        return pause.isZero() ? DEFAULT_PAUSE : pause;
+    }
+
+    /**
+     * Parses OpenAI reset durations such as {@code 20ms}, {@code 1s} or {@code 6m0s}.
+     *
+     * @param value header value, may be {@code null}
+     * @return parsed duration, zero when absent or unreadable
+     */
+    static Duration duration(String value) {
+        if (value == null) {
+            return Duration.ZERO;
+        }
+        Matcher matcher = DURATION_PART.matcher(value);
+        double millis = 0;
+        while (matcher.find()) {
+            double amount = Double.parseDouble(matcher.group(1));
+            millis += switch (matcher.group(2)) {
+                case "ms" -> amount;
+                case "s" -> amount * 1_000;
+                case "m" -> amount * 60_000;
+                default -> amount * 3_600_000;
+            };
+        }
+        return Duration.ofMillis(Math.round(millis));
+    }
+
+    private static long number(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+            return -1;
+        }
+    }
+
+    /**
+     * Per-minute budget refilled continuously.
+     */
+    private static final class Bucket {
+
+        private double capacity;
+        private double available;
+        private long refilledAt;
+
+        Bucket(double capacity, long now) {
+            this.capacity = capacity;
+            this.available = capacity;
+            this.refilledAt = now;
+        }
+
+        void refill(long now) {
+            available = Math.min(capacity, available + (now - refilledAt) * capacity / MINUTE_NANOS);
+            refilledAt = now;
+        }
+
+        long nanosUntil(double amount) {
+            // a request larger than the whole budget only waits for a full bucket
+            double needed = Math.min(amount, capacity) - available;
+            return needed <= 0 ? 0 : (long) Math.ceil(needed * MINUTE_NANOS / capacity);
+        }
+
+        void take(double amount) {
+            available -= Math.min(amount, capacity);
+        }
+
+        void adjust(long limit, long remaining, long now) {
+            refill(now);
+            if (limit > 0) {
+                capacity = limit;
+            }
+            // other clients share the account, so the server-side remaining budget wins when it is lower
+            if (remaining >= 0) {
+                available = Math.min(Math.min(available, remaining), capacity);
+            }
+        }
+    }
+
+    /**
+     * Request waiting for budget; ordered by priority, then arrival.
+     */
+    private static final class Waiter implements Comparable<Waiter> {
+
+        private final AiReviewPriority priority;
+        private final int cost;
+        private final long sequence;
+        private final long enqueuedAt;
+        private final MonoSink<Void> sink;
+
+        Waiter(AiReviewPriority priority, int cost, long sequence, long enqueuedAt, MonoSink<Void> sink) {
+            this.priority = priority;
+            this.cost = cost;
+            this.sequence = sequence;
+            this.enqueuedAt = enqueuedAt;
+            this.sink = sink;
+        }
+
+        @Override
+        public int compareTo(Waiter other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.leetmate.platform.ai;
+
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+/**
+ * Time a provider call has spent waiting for rate limit budget. It travels in the Reactor context of the call, so the
+ * rate limiter can report its queueing and the caller can keep that time out of the call's deadline.
+ */
+final class RateLimitWait {
+
+    private static final Class<RateLimitWait> CONTEXT_KEY = RateLimitWait.class;
+
+    private long waitedNanos;
+    private long waitingSince;
+    private int waiting;
+
+    /**
+     * @return Reactor context carrying this wait
+     */
+    Context asContext() {
+        return Context.of(CONTEXT_KEY, this);
+    }
+
+    /**
+     * Records the time until {@code admission} terminates as waiting for budget, when the context carries a wait.
+     *
+     * @param context   Reactor context of the provider call
+     * @param admission publisher completing once the request may be sent
+     * @return {@code admission}, tracked when a wait is attached
+     */
+    static Mono<Void> track(ContextView context, Mono<Void> admission) {
+        RateLimitWait wait = context.getOrDefault(CONTEXT_KEY, null);
+        if (wait == null) {
+            return admission;
+        }
+        return Mono.defer(() -> {
+            wait.started();
+            return admission.doFinally(signal -> wait.ended());
+        });
+    }
+
+    /**
+     * @return total time spent waiting so far, including a wait still in progress
+     */
+    synchronized long waitedNanos() {
+        return waitedNanos + (waiting > 0 ? System.nanoTime() - waitingSince : 0);
+    }
+
+    private synchronized void started() {
+        if (waiting++ == 0) {
+            waitingSince = System.nanoTime();
+        }
+    }
+
+    private synchronized void ended() {
+        if (--waiting == 0) {
+            waitedNanos += System.nanoTime() - waitingSince;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.leetmate.platform.ai;
+
+import java.util.function.Consumer;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking variant of {@link AiReviewProvider} for callers that compose the review with further processing.
+ */
+public interface ReactiveAiReviewProvider {
+
+    /**
+     * Performs an AI review of the provided code without blocking the calling thread.
+     *
+     * @param language submission language
+     * @param code     submission code
+     * @return publisher emitting the AI review result
+     */
+    Mono<AiReviewResult> reviewAsync(String language, String code);
+
+    /**
+     * Performs an AI review while handing the model's answer to {@code onText} piece by piece as it is generated.
+     * Providers that cannot stream, and reviews served without a model call, only emit the final result.
+     *
+     * @param language submission language
+     * @param code     submission code
+     * @param onText   receives consecutive fragments of the answer text
+     * @return publisher emitting the AI review result once the answer is complete
+     */
+    default Mono<AiReviewResult> reviewAsync(String language, String code, Consumer<String> onText) {
+        return reviewAsync(language, code);
+    }
+}
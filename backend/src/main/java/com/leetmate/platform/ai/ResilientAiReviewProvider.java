@@ -0,0 +1,199 @@
+package com.leetmate.platform.ai;
+
+import com.leetmate.platform.analysis.CodeAnalyzerRegistry;
+import com.leetmate.platform.analysis.CodeMetrics;
+import com.leetmate.platform.analysis.FunctionMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Shields the application from a slow or failing OpenAI API. Calls go through a non-blocking bulkhead limiting
+ * concurrent requests, a per-call deadline and a circuit breaker; whenever a call is rejected or fails, a degraded
+ * review built from the complexity analysis alone is returned instead of an error. A batch counts as one call. Time
+ * spent waiting for rate limit budget in {@link OpenAiRateLimiter} does not count against the deadline.
+ */
+@Component
+@Qualifier("resilientAiReviewProvider")
+@Profile("!test")
+public class ResilientAiReviewProvider implements AiReviewProvider, BatchAiReviewProvider {
+
+    private static final Logger log = LoggerFactory.getLogger(ResilientAiReviewProvider.class);
+    private static final int COMPLEXITY_HOTSPOT = 10;
+    private static final int NESTING_HOTSPOT = 4;
+    private static final int MAX_FALLBACK_SUGGESTIONS = 3;
+
+    private final BatchAiReviewProvider delegate;
+    private final CodeAnalyzerRegistry codeAnalyzers;
+    private final Semaphore bulkhead;
+    private final Duration timeout;
+    private final Duration batchTimeout;
+    private final AiCircuitBreaker circuitBreaker;
+    private final Counter bulkheadRejections;
+    private final Counter circuitRejections;
+    private final Counter timeouts;
+    private final Counter failures;
+
+    /**
+     * Creates the provider.
+     *
+     * @param delegate             provider calling OpenAI
+     * @param codeAnalyzers        analyzers producing the degraded fallback review
+     * @param meterRegistry        registry for rejection and circuit metrics
+     * @param maxConcurrentCalls   bulkhead size
+     * @param timeout              deadline of a single call
+     * @param batchTimeout         deadline of a batch call
+     * @param slidingWindowSize    calls the failure rate is computed over
+     * @param minimumCalls         calls required before the circuit may open
+     * @param failureRateThreshold failure percentage opening the circuit
+     * @param openDuration         time the circuit stays open before a trial call
+     */
+    public ResilientAiReviewProvider(@Qualifier("openAiReviewProvider") BatchAiReviewProvider delegate,
+                                     CodeAnalyzerRegistry codeAnalyzers,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${app.ai-review.max-concurrent-calls:8}") int maxConcurrentCalls,
+                                     @Value("${app.ai-review.timeout:PT20S}") Duration timeout,
+                                     @Value("${app.ai-review.batch.timeout:PT60S}") Duration batchTimeout,
+                                     @Value("${app.ai-review.circuit-breaker.sliding-window-size:20}")
+                                     int slidingWindowSize,
+                                     @Value("${app.ai-review.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                                     @Value("${app.ai-review.circuit-breaker.failure-rate-threshold:50}")
+                                     int failureRateThreshold,
+                                     @Value("${app.ai-review.circuit-breaker.open-duration:PT30S}")
+                                     Duration openDuration) {
+        this.delegate = delegate;
+        this.codeAnalyzers = codeAnalyzers;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.timeout = timeout;
+        this.batchTimeout = batchTimeout;
+        this.circuitBreaker = new AiCircuitBreaker(slidingWindowSize, minimumCalls, failureRateThreshold,
+                openDuration, Clock.systemUTC());
+        this.bulkheadRejections = rejections(meterRegistry, "bulkhead");
+        this.circuitRejections = rejections(meterRegistry, "circuit_open");
+        this.timeouts = failures(meterRegistry, "timeout");
+        this.failures = failures(meterRegistry, "error");
+        Gauge.builder("ai.review.bulkhead.available", bulkhead, Semaphore::availablePermits)
+                .description("Free slots for concurrent AI review calls")
+                .register(meterRegistry);
+        Gauge.builder("ai.review.circuit.state", circuitBreaker, breaker -> breaker.state().ordinal())
+                .description("AI review circuit state: 0 closed, 1 open, 2 half-open")
+                .register(meterRegistry);
+        FunctionCounter.builder("ai.review.circuit.open.time", circuitBreaker,
+                        breaker -> breaker.openTime().toMillis() / 1000.0)
+                .description("Total time the AI review circuit spent open")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AiReviewResult review(String language, String code) {
+        return reviewAsync(language, code).block();
+    }
+
+    @Override
+    public Mono<AiReviewResult> reviewAsync(String language, String code) {
+        return guarded(() -> delegate.reviewAsync(language, code), timeout, () -> fallback(language, code));
+    }
+
+    @Override
+    public Mono<AiReviewResult> reviewAsync(String language, String code, Consumer<String> onText) {
+        return guarded(() -> delegate.reviewAsync(language, code, onText), timeout, () -> fallback(language, code));
+    }
+
+    @Override
+    public Mono<List<Optional<AiReviewResult>>> reviewBatch(List<AiReviewRequest> requests) {
+        return guarded(() -> delegate.reviewBatch(requests), batchTimeout, () -> requests.stream()
+                .map(request -> Optional.of(fallback(request.language(), request.code())))
+                .toList());
+    }
+
+    private <T> Mono<T> guarded(Supplier<Mono<T>> call, Duration deadline, Supplier<T> fallback) {
+        return Mono.defer(() -> {
+            if (!bulkhead.tryAcquire()) {
+                bulkheadRejections.increment();
+                return Mono.fromSupplier(fallback);
+            }
+            if (!circuitBreaker.tryAcquire()) {
+                bulkhead.release();
+                circuitRejections.increment();
+                return Mono.fromSupplier(fallback);
+            }
+            RateLimitWait wait = new RateLimitWait();
+            return call.get()
+                    .timeout(expiry(wait, deadline, 0))
+                    .contextWrite(wait.asContext())
+                    .doOnSuccess(result -> circuitBreaker.onSuccess())
+                    .doOnError(ex -> circuitBreaker.onFailure())
+                    .doOnCancel(circuitBreaker::release)
+                    .doFinally(signal -> bulkhead.release())
+                    .onErrorResume(ex -> {
+                        (ex instanceof TimeoutException ? timeouts : failures).increment();
+                        log.warn("AI review call failed, returning complexity-only review: {}", ex.toString());
+                        return Mono.fromSupplier(fallback);
+                    });
+        });
+    }
+
+    /**
+     * Fires once the call has been running for {@code delay} plus every wait for rate limit budget, so a call queued
+     * behind the limiter neither times out nor counts as a provider failure while it has not been sent yet.
+     */
+    private static Mono<Long> expiry(RateLimitWait wait, Duration delay, long creditedNanos) {
+        return Mono.delay(delay).flatMap(tick -> {
+            long waitedNanos = wait.waitedNanos();
+            return waitedNanos > creditedNanos
+                    ? expiry(wait, Duration.ofNanos(waitedNanos - creditedNanos), waitedNanos)
+                    : Mono.just(tick);
+        });
+    }
+
+    private AiReviewResult fallback(String language, String code) {
+        CodeMetrics metrics = codeAnalyzers.analyze(language, code);
+        String summary = ("AI review is temporarily unavailable; this review only covers complexity. "
+                + "Cyclomatic complexity is %d and the deepest nesting is %d.")
+                .formatted(metrics.complexity(), metrics.maxNestingDepth());
+        List<String> suggestions = new ArrayList<>();
+        metrics.functions().stream()
+                .filter(function -> function.complexity() >= COMPLEXITY_HOTSPOT
+                        || function.maxNestingDepth() >= NESTING_HOTSPOT)
+                .sorted(Comparator.comparingInt(FunctionMetrics::complexity).reversed())
+                .limit(MAX_FALLBACK_SUGGESTIONS)
+                .forEach(function -> suggestions.add(
+                        "Consider splitting %s (line %d): complexity %d, nesting depth %d".formatted(function.name(),
+                                function.startLine(), function.complexity(), function.maxNestingDepth())));
+        return new AiReviewResult(summary, suggestions, Instant.now(), true);
+    }
+
+    private static Counter rejections(MeterRegistry registry, String reason) {
+        return Counter.builder("ai.review.rejections")
+                .description("AI review calls answered with the fallback without calling the provider")
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static Counter failures(MeterRegistry registry, String cause) {
+        return Counter.builder("ai.review.failures")
+                .description("AI review calls that failed and were answered with the fallback")
+                .tag("cause", cause)
+                .register(registry);
+    }
+}
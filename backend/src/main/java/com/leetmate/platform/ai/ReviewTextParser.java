@@ -0,0 +1,74 @@
+package com.leetmate.platform.ai;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Incremental reader of a plain-text review answer: the first line is the summary and lines starting with {@code -}
+ * or {@code *} are suggestions. The answer may arrive in arbitrary fragments; only the current line is buffered.
+ */
+public final class ReviewTextParser {
+
+    private static final String EMPTY_ANSWER = "No review generated.";
+
+    private final StringBuilder line = new StringBuilder();
+    private final List<String> suggestions = new ArrayList<>();
+    private String summary;
+    private boolean hasText;
+
+    /**
+     * Consumes the next fragment of the answer.
+     *
+     * @param fragment answer text
+     * @return this parser
+     */
+    public ReviewTextParser append(CharSequence fragment) {
+        int start = 0;
+        for (int i = 0; i < fragment.length(); i++) {
+            if (fragment.charAt(i) == '\n') {
+                line.append(fragment, start, i);
+                endLine();
+                start = i + 1;
+            }
+        }
+        line.append(fragment, start, fragment.length());
+        return this;
+    }
+
+    /**
+     * @return review parsed from the text consumed so far
+     */
+    public AiReviewResult toResult() {
+        if (line.length() > 0 || summary == null) {
+            endLine();
+        }
+        if (!hasText) {
+            return new AiReviewResult(EMPTY_ANSWER, List.of(), Instant.now());
+        }
+        return new AiReviewResult(summary, suggestions, Instant.now());
+    }
+
+    private void endLine() {
+        int start = 0;
+        int end = line.length();
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        hasText |= start < end;
+        if (summary == null) {
+            summary = line.substring(start, end);
+        }
+        if (start < end && (line.charAt(start) == '-' || line.charAt(start) == '*')) {
+            int text = start + 1;
+            while (text < end && Character.isWhitespace(line.charAt(text))) {
+                text++;
+            }
+            suggestions.add(line.substring(text, end));
+        }
+        line.setLength(0);
+    }
+}
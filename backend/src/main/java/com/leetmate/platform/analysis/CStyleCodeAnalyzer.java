@@ -0,0 +1,344 @@
+package com.leetmate.platform.analysis;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Analyzer for brace-delimited languages (Java, C, C++, C#, JavaScript, TypeScript). Decision points are the
+ * {@code if}, {@code for}, {@code while}, {@code case} and {@code catch} keywords, {@code &&}, {@code ||} and the
+ * ternary {@code ?}; wildcard generics ({@code <?>}), optional chaining ({@code ?.}) and the first half of
+ * {@code ??} are not decisions. A function is a brace block opened after a parenthesized parameter list whose name
+ * is not a control keyword, so lambdas and anonymous classes count towards the enclosing function.
+ */
+@Component
+public class CStyleCodeAnalyzer implements CodeAnalyzer {
+
+    private static final Set<String> LANGUAGES = Set.of("java", "c", "cpp", "c++", "csharp", "c#", "js",
+            "javascript", "ts", "typescript");
+    private static final String[] DECISION_KEYWORDS = {"if", "for", "while", "case", "catch"};
+    private static final String[] TYPE_KEYWORDS = {"class", "interface", "enum", "struct", "namespace"};
+    private static final String[] CONTROL_KEYWORDS = {"if", "for", "while", "switch", "catch", "synchronized",
+            "return", "sizeof", "typeof", "foreach", "using", "lock", "fixed", "try"};
+
+    @Override
+    public Set<String> languages() {
+        return LANGUAGES;
+    }
+
+    @Override
+    public CodeMetrics analyze(String code) {
+        return new Scan(code).run();
+    }
+
+    /**
+     * State of one analysis; the analyzer itself is stateless.
+     */
+    private static final class Scan {
+
+        private final String code;
+        private final List<FunctionMetrics> functions = new ArrayList<>();
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        // brace depths opened by initializers or object literals rather than statement blocks
+        private final BitSet literalBraces = new BitSet();
+
+        private int line = 1;
+        private boolean codeOnLine;
+        private int codeLines;
+        private int complexity = 1;
+        private int braceDepth;
+        private int blockDepth;
+        private int maxBlockDepth;
+        private int parenDepth;
+        // last significant character outside comments; literals are represented by their quote
+        private char previous;
+        private char pendingOperator;
+        private int wordStart = -1;
+        private int lastWordStart = -1;
+        private int lastWordEnd = -1;
+        private boolean lastWordIsNew;
+        private boolean wordBeforeLastIsNew;
+        // identifier in front of the open top-level parenthesis
+        private int calleeStart = -1;
+        private int calleeEnd;
+        private int calleeLine;
+        // name of a closed parameter list that becomes a function if a brace follows
+        private int pendingStart = -1;
+        private int pendingEnd;
+        private int pendingLine;
+        private boolean pendingInitializerList;
+
+        Scan(String code) {
+            this.code = code;
+        }
+
+        CodeMetrics run() {
+            int length = code.length();
+            boolean inLineComment = false;
+            boolean inBlockComment = false;
+            boolean inTextBlock = false;
+            char quote = 0;
+            for (int i = 0; i < length; i++) {
+                char current = code.charAt(i);
+                char next = i + 1 < length ? code.charAt(i + 1) : '\0';
+                if (current == '\n') {
+                    newLine();
+                }
+
+                if (inLineComment) {
+                    inLineComment = current != '\n';
+                    continue;
+                }
+                if (inBlockComment) {
+                    if (current == '*' && next == '/') {
+                        inBlockComment = false;
+                        i++;
+                    }
+                    continue;
+                }
+                if (inTextBlock) {
+                    codeOnLine |= current != '\n';
+                    if (current == '\\' && next != '\0') {
+                        i++;
+                        if (next == '\n') {
+                            newLine();
+                        }
+                    } else if (code.startsWith("\"\"\"", i)) {
+                        inTextBlock = false;
+                        i += 2;
+                    }
+                    continue;
+                }
+                if (quote != 0) {
+                    codeOnLine |= current != '\n';
+                    if (current == '\\' && next != '\0') {
+                        i++;
+                        if (next == '\n') {
+                            newLine();
+                        }
+                    } else if (current == quote || current == '\n' && quote != '`') {
+                        quote = 0;
+                    }
+                    continue;
+                }
+
+                if (current == '/' && (next == '/' || next == '*')) {
+                    endWord(i);
+                    inLineComment = next == '/';
+                    inBlockComment = next == '*';
+                    i++;
+                    continue;
+                }
+                if (Character.isWhitespace(current)) {
+                    endWord(i);
+                    continue;
+                }
+                codeOnLine = true;
+                if (current == '"' || current == '\'' || current == '`') {
+                    endWord(i);
+                    if (current == '"' && code.startsWith("\"\"\"", i)) {
+                        inTextBlock = true;
+                        i += 2;
+                    } else {
+                        quote = current;
+                    }
+                    previous = current;
+                    pendingOperator = 0;
+                    continue;
+                }
+                if (isWordChar(current)) {
+                    if (wordStart < 0) {
+                        wordStart = i;
+                    }
+                    previous = current;
+                    pendingOperator = 0;
+                    continue;
+                }
+                endWord(i);
+                punctuation(current, next);
+            }
+            endWord(length);
+            if (codeOnLine) {
+                codeLines++;
+            }
+            int lines = length == 0 ? 0 : code.charAt(length - 1) == '\n' ? line - 1 : line;
+            while (!frames.isEmpty()) {
+                closeFunction(lines);
+            }
+            functions.sort(Comparator.comparingInt(FunctionMetrics::startLine));
+            int maxNesting = functions.isEmpty() ? maxBlockDepth
+                    : functions.stream().mapToInt(FunctionMetrics::maxNestingDepth).max().orElse(0);
+            return new CodeMetrics(complexity, maxNesting, lines, codeLines, functions);
+        }
+
+        private void punctuation(char current, char next) {
+            if (current == '&' || current == '|') {
+                if (pendingOperator == current) {
+                    decision();
+                    pendingOperator = 0;
+                } else {
+                    pendingOperator = current;
+                }
+                previous = current;
+                return;
+            }
+            pendingOperator = 0;
+            switch (current) {
+                case '?' -> {
+                    if (previous != '<' && previous != ',' && next != '.' && next != '?') {
+                        decision();
+                    }
+                }
+                case '(' -> {
+                    if (parenDepth == 0 && isWordChar(previous) && !pendingInitializerList
+                            && !wordBeforeLastIsNew && !isAnyOf(lastWordStart, lastWordEnd, CONTROL_KEYWORDS)) {
+                        calleeStart = lastWordStart;
+                        calleeEnd = lastWordEnd;
+                        calleeLine = line;
+                    }
+                    parenDepth++;
+                }
+                case ')' -> {
+                    parenDepth = Math.max(0, parenDepth - 1);
+                    if (parenDepth == 0 && calleeStart >= 0) {
+                        pendingStart = calleeStart;
+                        pendingEnd = calleeEnd;
+                        pendingLine = calleeLine;
+                        calleeStart = -1;
+                    }
+                }
+                case ':' -> pendingInitializerList = pendingStart >= 0 && parenDepth == 0;
+                case '{' -> {
+                    if (pendingStart >= 0 && parenDepth == 0 && (previous == ')' || isWordChar(previous))) {
+                        String name = code.substring(pendingStart, pendingEnd);
+                        frames.push(new Frame("function".equals(name) ? "<anonymous>" : name, pendingLine,
+                                braceDepth + 1, blockDepth + 1));
+                    }
+                    clearPending();
+                    braceDepth++;
+                    if (opensBlock()) {
+                        blockDepth++;
+                        maxBlockDepth = Math.max(maxBlockDepth, blockDepth);
+                    } else {
+                        literalBraces.set(braceDepth);
+                    }
+                    Frame frame = frames.peek();
+                    if (frame != null) {
+                        frame.maxNesting = Math.max(frame.maxNesting, blockDepth - frame.bodyBlockDepth);
+                    }
+                }
+                case '}' -> {
+                    Frame frame = frames.peek();
+                    if (frame != null && braceDepth == frame.bodyDepth) {
+                        closeFunction(line);
+                    }
+                    if (literalBraces.get(braceDepth)) {
+                        literalBraces.clear(braceDepth);
+                    } else {
+                        blockDepth = Math.max(0, blockDepth - 1);
+                    }
+                    braceDepth = Math.max(0, braceDepth - 1);
+                    clearPending();
+                }
+                case ';', '=' -> {
+                    clearPending();
+                    calleeStart = parenDepth == 0 ? -1 : calleeStart;
+                }
+                default -> {
+                }
+            }
+            previous = current;
+        }
+
+        private boolean opensBlock() {
+            // statement blocks follow a header (")", "else", "try", "->") or another statement
+            return previous == 0 || previous == ')' || previous == '>' || previous == '{' || previous == '}'
+                    || previous == ';' || isWordChar(previous);
+        }
+
+        private void endWord(int end) {
+            if (wordStart < 0) {
+                return;
+            }
+            if (isAnyOf(wordStart, end, DECISION_KEYWORDS)) {
+                decision();
+            } else if (isAnyOf(wordStart, end, TYPE_KEYWORDS)) {
+                // an annotated type declaration is not a function, e.g. @Table(name = "x") class Entity {
+                clearPending();
+            }
+            wordBeforeLastIsNew = lastWordIsNew;
+            lastWordIsNew = end - wordStart == 3 && code.startsWith("new", wordStart);
+            lastWordStart = wordStart;
+            lastWordEnd = end;
+            wordStart = -1;
+        }
+
+        private void decision() {
+            complexity++;
+            Frame frame = frames.peek();
+            if (frame != null) {
+                frame.complexity++;
+            }
+        }
+
+        private void closeFunction(int endLine) {
+            Frame frame = frames.pop();
+            functions.add(new FunctionMetrics(frame.name, frame.startLine, endLine - frame.startLine + 1,
+                    frame.complexity, frame.maxNesting));
+        }
+
+        private void clearPending() {
+            pendingStart = -1;
+            pendingInitializerList = false;
+        }
+
+        private void newLine() {
+            if (codeOnLine) {
+                codeLines++;
+            }
+            codeOnLine = false;
+            line++;
+        }
+
+        private boolean isAnyOf(int start, int end, String[] words) {
+            if (start < 0) {
+                return false;
+            }
+            for (String word : words) {
+                if (word.length() == end - start && code.startsWith(word, start)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private static boolean isWordChar(char c) {
+        return c == '_' || c == '$' || Character.isLetterOrDigit(c);
+    }
+
+    /**
+     * Function whose body is still open.
+     */
+    private static final class Frame {
+
+        private final String name;
+        private final int startLine;
+        private final int bodyDepth;
+        private final int bodyBlockDepth;
+        private int complexity = 1;
+        private int maxNesting;
+
+        Frame(String name, int startLine, int bodyDepth, int bodyBlockDepth) {
+            this.name = name;
+            this.startLine = startLine;
+            this.bodyDepth = bodyDepth;
+            this.bodyBlockDepth = bodyBlockDepth;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.leetmate.platform.analysis;
+
+import java.util.Set;
+
+/**
+ * Language plugin computing structural metrics for submitted code in a single pass. Implementations are Spring
+ * beans picked up by {@link CodeAnalyzerRegistry} and must be thread-safe.
+ */
+public interface CodeAnalyzer {
+
+    /**
+     * @return lower-case language names handled by this analyzer, as sent with submissions
+     */
+    Set<String> languages();
+
+    /**
+     * Analyzes a submission.
+     *
+     * @param code submitted code, never {@code null}
+     * @return metrics for the whole submission and each function found in it
+     */
+    CodeMetrics analyze(String code);
+}
@@ -0,0 +1,76 @@
+package com.leetmate.platform.analysis;
+
+import com.leetmate.platform.util.CyclomaticComplexityCalculator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.springframework.stereotype.Component;
+
+/**
+ * Selects the {@link CodeAnalyzer} for a submission language. Languages without a plugin fall back to the
+ * language-agnostic {@link CyclomaticComplexityCalculator} and get no per-function breakdown.
+ */
+@Component
+public class CodeAnalyzerRegistry {
+
+    private final Map<String, CodeAnalyzer> analyzers = new HashMap<>();
+    private final CyclomaticComplexityCalculator fallback;
+
+    /**
+     * Creates the registry.
+     *
+     * @param analyzers available language plugins
+     * @param fallback  estimator used for languages without a plugin
+     */
+    public CodeAnalyzerRegistry(List<CodeAnalyzer> analyzers, CyclomaticComplexityCalculator fallback) {
+        this.fallback = fallback;
+        for (CodeAnalyzer analyzer : analyzers) {
+            for (String language : analyzer.languages()) {
+                CodeAnalyzer previous = this.analyzers.putIfAbsent(language, analyzer);
+                if (previous != null) {
+                    throw new IllegalStateException("Language %s is claimed by both %s and %s".formatted(language,
+                            previous.getClass().getSimpleName(), analyzer.getClass().getSimpleName()));
+                }
+            }
+        }
+    }
+
+    /**
+     * Analyzes code with the plugin registered for its language.
+     *
+     * @param language submission language, matched case-insensitively
+     * @param code     submitted code
+     * @return metrics
+     */
+    public CodeMetrics analyze(String language, String code) {
+        String source = code == null ? "" : code;
+        CodeAnalyzer analyzer = language == null ? null
+                : analyzers.get(language.trim().toLowerCase(Locale.ROOT));
+        if (analyzer != null) {
+            return analyzer.analyze(source);
+        }
+        return fallbackMetrics(source);
+    }
+
+    private CodeMetrics fallbackMetrics(String code) {
+        int lines = 0;
+        int nonBlankLines = 0;
+        boolean blank = true;
+        for (int i = 0; i < code.length(); i++) {
+            char current = code.charAt(i);
+            if (current == '\n') {
+                lines++;
+                nonBlankLines += blank ? 0 : 1;
+                blank = true;
+            } else if (!Character.isWhitespace(current)) {
+                blank = false;
+            }
+        }
+        if (!code.isEmpty() && code.charAt(code.length() - 1) != '\n') {
+            lines++;
+            nonBlankLines += blank ? 0 : 1;
+        }
+        return new CodeMetrics(fallback.calculate(code), 0, lines, nonBlankLines, List.of());
+    }
+}
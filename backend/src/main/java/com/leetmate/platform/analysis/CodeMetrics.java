@@ -0,0 +1,23 @@
+package com.leetmate.platform.analysis;
+
+import java.util.List;
+
+/**
+ * Structural metrics of a submission.
+ *
+ * @param complexity      cyclomatic complexity of the whole submission: 1 plus every decision point
+ * @param maxNestingDepth deepest block nesting, measured inside functions when any were found
+ * @param lines           physical lines
+ * @param codeLines       lines holding anything besides whitespace and comments
+ * @param functions       per-function metrics in source order
+ */
+public record CodeMetrics(int complexity, int maxNestingDepth, int lines, int codeLines,
+                          List<FunctionMetrics> functions) {
+
+    /**
+     * Creates metrics, copying the function list.
+     */
+    public CodeMetrics {
+        functions = List.copyOf(functions);
+    }
+}
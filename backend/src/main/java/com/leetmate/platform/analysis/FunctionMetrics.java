@@ -0,0 +1,13 @@
+package com.leetmate.platform.analysis;
+
+/**
+ * Metrics of a single function or method.
+ *
+ * @param name            declared name
+ * @param startLine       1-based line of the declaration
+ * @param lines           lines from the declaration to the end of the body
+ * @param complexity      cyclomatic complexity: 1 plus the decision points inside the body
+ * @param maxNestingDepth deepest block nesting inside the body, 0 for a straight-line body
+ */
+public record FunctionMetrics(String name, int startLine, int lines, int complexity, int maxNestingDepth) {
+}
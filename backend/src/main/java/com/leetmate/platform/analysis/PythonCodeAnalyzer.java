@@ -0,0 +1,276 @@
+package com.leetmate.platform.analysis;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Analyzer for Python. Decision points are the {@code if}, {@code elif}, {@code for}, {@code while},
+ * {@code except}, {@code and} and {@code or} keywords (comprehension clauses and conditional expressions included)
+ * and {@code case} clauses of {@code match} statements. Blocks are tracked through indentation of logical lines,
+ * so bracketed and backslash continuations do not open blocks; {@code #} comments and string literals, including
+ * triple-quoted ones, are skipped.
+ */
+@Component
+public class PythonCodeAnalyzer implements CodeAnalyzer {
+
+    private static final Set<String> LANGUAGES = Set.of("python", "python3", "py");
+    private static final String[] DECISION_KEYWORDS = {"if", "elif", "for", "while", "except", "and", "or"};
+    private static final int TAB_SIZE = 8;
+
+    @Override
+    public Set<String> languages() {
+        return LANGUAGES;
+    }
+
+    @Override
+    public CodeMetrics analyze(String code) {
+        return new Scan(code).run();
+    }
+
+    /**
+     * State of one analysis; the analyzer itself is stateless.
+     */
+    private static final class Scan {
+
+        private final String code;
+        private final List<FunctionMetrics> functions = new ArrayList<>();
+        private final Deque<Frame> frames = new ArrayDeque<>();
+        // indentation columns of the enclosing blocks, the module level is 0
+        private final Deque<Integer> indents = new ArrayDeque<>(List.of(0));
+
+        private int line = 1;
+        private boolean codeOnLine;
+        private int codeLines;
+        private int lastCodeLine;
+        private int complexity = 1;
+        private int maxDepth;
+        private int bracketDepth;
+        private boolean atLineStart = true;
+        private int column;
+        private int tokensOnLogicalLine;
+        private int wordStart = -1;
+        private boolean expectFunctionName;
+        private int logicalIndent;
+
+        Scan(String code) {
+            this.code = code;
+        }
+
+        CodeMetrics run() {
+            int length = code.length();
+            boolean inComment = false;
+            boolean continuation = false;
+            char quote = 0;
+            boolean tripleQuoted = false;
+            for (int i = 0; i < length; i++) {
+                char current = code.charAt(i);
+                char next = i + 1 < length ? code.charAt(i + 1) : '\0';
+                if (current == '\n') {
+                    endWord(i);
+                    newLine();
+                    inComment = false;
+                    if (quote == 0 && bracketDepth == 0 && !continuation) {
+                        atLineStart = true;
+                        column = 0;
+                    }
+                    continuation = false;
+                    if (quote != 0 && !tripleQuoted) {
+                        quote = 0;
+                    }
+                    continue;
+                }
+                if (inComment) {
+                    continue;
+                }
+                if (quote != 0) {
+                    markCode();
+                    if (current == '\\' && next != '\0') {
+                        i++;
+                        if (next == '\n') {
+                            newLine();
+                        }
+                    } else if (current == quote && (!tripleQuoted || isTriple(i, quote))) {
+                        i += tripleQuoted ? 2 : 0;
+                        quote = 0;
+                    }
+                    continue;
+                }
+                if (atLineStart) {
+                    if (current == ' ') {
+                        column++;
+                        continue;
+                    }
+                    if (current == '\t') {
+                        column = (column / TAB_SIZE + 1) * TAB_SIZE;
+                        continue;
+                    }
+                    if (current == '\f' || current == '\r') {
+                        column = current == '\f' ? 0 : column;
+                        continue;
+                    }
+                    if (current == '#') {
+                        inComment = true;
+                        continue;
+                    }
+                    atLineStart = false;
+                    startLogicalLine(column);
+                }
+                if (current == '#') {
+                    endWord(i);
+                    inComment = true;
+                    continue;
+                }
+                if (Character.isWhitespace(current)) {
+                    endWord(i);
+                    continue;
+                }
+                markCode();
+                if (current == '"' || current == '\'') {
+                    // string prefixes such as f, r or b end up as a separate word, which is harmless
+                    endWord(i);
+                    tokensOnLogicalLine++;
+                    tripleQuoted = isTriple(i, current);
+                    quote = current;
+                    i += tripleQuoted ? 2 : 0;
+                    continue;
+                }
+                if (current == '_' || Character.isLetterOrDigit(current)) {
+                    if (wordStart < 0) {
+                        wordStart = i;
+                    }
+                    continue;
+                }
+                endWord(i);
+                tokensOnLogicalLine++;
+                if (current == '\\' && (next == '\n' || next == '\r')) {
+                    continuation = true;
+                } else if (current == '(' || current == '[' || current == '{') {
+                    bracketDepth++;
+                } else if (current == ')' || current == ']' || current == '}') {
+                    bracketDepth = Math.max(0, bracketDepth - 1);
+                }
+            }
+            endWord(length);
+            if (codeOnLine) {
+                codeLines++;
+            }
+            while (!frames.isEmpty()) {
+                closeFunction();
+            }
+            functions.sort(Comparator.comparingInt(FunctionMetrics::startLine));
+            int lines = length == 0 ? 0 : code.charAt(length - 1) == '\n' ? line - 1 : line;
+            int maxNesting = functions.isEmpty() ? maxDepth
+                    : functions.stream().mapToInt(FunctionMetrics::maxNestingDepth).max().orElse(0);
+            return new CodeMetrics(complexity, maxNesting, lines, codeLines, functions);
+        }
+
+        private void startLogicalLine(int indent) {
+            while (!frames.isEmpty() && indent <= frames.peek().indent) {
+                closeFunction();
+            }
+            while (indent < indents.peek()) {
+                indents.pop();
+            }
+            if (indent > indents.peek()) {
+                indents.push(indent);
+            }
+            int depth = indents.size() - 1;
+            maxDepth = Math.max(maxDepth, depth);
+            Frame frame = frames.peek();
+            if (frame != null) {
+                frame.maxNesting = Math.max(frame.maxNesting, depth - frame.depth - 1);
+            }
+            logicalIndent = indent;
+            tokensOnLogicalLine = 0;
+            expectFunctionName = false;
+        }
+
+        private void endWord(int end) {
+            if (wordStart < 0) {
+                return;
+            }
+            int start = wordStart;
+            wordStart = -1;
+            if (expectFunctionName) {
+                expectFunctionName = false;
+                frames.push(new Frame(code.substring(start, end), line, logicalIndent, indents.size() - 1));
+            } else if (is(start, end, "def")) {
+                expectFunctionName = true;
+            } else if (isAnyOf(start, end, DECISION_KEYWORDS)
+                    || tokensOnLogicalLine == 0 && is(start, end, "case")) {
+                decision();
+            }
+            tokensOnLogicalLine++;
+        }
+
+        private void decision() {
+            complexity++;
+            Frame frame = frames.peek();
+            if (frame != null) {
+                frame.complexity++;
+            }
+        }
+
+        private void closeFunction() {
+            Frame frame = frames.pop();
+            int endLine = Math.max(frame.startLine, lastCodeLine);
+            functions.add(new FunctionMetrics(frame.name, frame.startLine, endLine - frame.startLine + 1,
+                    frame.complexity, Math.max(0, frame.maxNesting)));
+        }
+
+        private void markCode() {
+            codeOnLine = true;
+            lastCodeLine = line;
+        }
+
+        private void newLine() {
+            if (codeOnLine) {
+                codeLines++;
+            }
+            codeOnLine = false;
+            line++;
+        }
+
+        private boolean isTriple(int index, char quote) {
+            return index + 2 < code.length() && code.charAt(index + 1) == quote && code.charAt(index + 2) == quote;
+        }
+
+        private boolean is(int start, int end, String word) {
+            return word.length() == end - start && code.startsWith(word, start);
+        }
+
+        private boolean isAnyOf(int start, int end, String[] words) {
+            for (String word : words) {
+                if (is(start, end, word)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Function whose body is still open.
+     */
+    private static final class Frame {
+
+        private final String name;
+        private final int startLine;
+        private final int indent;
+        private final int depth;
+        private int complexity = 1;
+        private int maxNesting;
+
+        Frame(String name, int startLine, int indent, int depth) {
+            this.name = name;
+            this.startLine = startLine;
+            this.indent = indent;
+            this.depth = depth;
+        }
+    }
+}
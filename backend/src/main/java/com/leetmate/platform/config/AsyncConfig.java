@@ -0,0 +1,116 @@
+package com.leetmate.platform.config;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Background execution resources used outside the request thread.
+ */
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * Bounded worker pool that generates AI reviews for freshly persisted submissions. When the queue is full new
+     * tasks are rejected instead of blocking the caller; rejected submissions stay pending and are picked up by the
+     * recovery sweep. With {@code spring.threads.virtual.enabled} on Java 21 every review gets its own virtual thread
+     * instead, capped at the same total of running plus queued reviews.
+     *
+     * @param poolSize      number of worker threads
+     * @param queueCapacity maximum number of queued reviews
+     * @param environment   environment used to detect the virtual thread mode
+     * @return executor
+     */
+    @Bean(name = "submissionReviewExecutor")
+    public TaskExecutor submissionReviewExecutor(
+            @Value("${app.submission-review.pool-size:4}") int poolSize,
+            @Value("${app.submission-review.queue-capacity:500}") int queueCapacity,
+            Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("submission-review-");
+            executor.setVirtualThreads(true);
+            executor.setTaskTerminationTimeout(30_000);
+            return new BoundedTaskExecutor(executor, poolSize + queueCapacity);
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("submission-review-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * Pool that stores users, writes upgraded password hashes and signs tokens once a BCrypt computation finished, so
+     * database and JWT work never occupies the password hashing threads. Its queue is only a buffer: the pool runs
+     * behind the hashing pool and cannot receive more work than that pool completes, and a task that still finds the
+     * queue full runs on the submitting hashing thread instead of being lost with its request.
+     *
+     * @param poolSize      number of worker threads
+     * @param queueCapacity maximum number of queued tasks
+     * @return executor
+     */
+    @Bean(name = "authExecutor")
+    public ThreadPoolTaskExecutor authExecutor(
+            @Value("${app.auth.pool-size:4}") int poolSize,
+            @Value("${app.auth.queue-capacity:256}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("auth-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Rejects tasks once a fixed number of them are running, mirroring the back-pressure of a bounded queue for
+     * executors that start a new thread per task.
+     */
+    static final class BoundedTaskExecutor implements TaskExecutor, AutoCloseable {
+
+        private final SimpleAsyncTaskExecutor delegate;
+        private final Semaphore permits;
+
+        BoundedTaskExecutor(SimpleAsyncTaskExecutor delegate, int maxTasks) {
+            this.delegate = delegate;
+            this.permits = new Semaphore(maxTasks);
+        }
+
+        @Override
+        public void execute(Runnable task) {
+            if (!permits.tryAcquire()) {
+                throw new TaskRejectedException("Executor is at capacity");
+            }
+            try {
+                delegate.execute(() -> {
+                    try {
+                        task.run();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            } catch (RuntimeException ex) {
+                permits.release();
+                throw ex;
+            }
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+}
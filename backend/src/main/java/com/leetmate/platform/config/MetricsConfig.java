@@ -0,0 +1,26 @@
+package com.leetmate.platform.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Application metrics that need servlet filters.
+ */
+@Configuration
+public class MetricsConfig {
+
+    /**
+     * @param meterRegistry registry for the listing metrics
+     * @return registration of the filter comparing full and summary submission listings
+     */
+    @Bean
+    public FilterRegistrationBean<SubmissionListingMetricsFilter> submissionListingMetricsFilter(
+            MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SubmissionListingMetricsFilter> registration =
+                new FilterRegistrationBean<>(new SubmissionListingMetricsFilter(meterRegistry));
+        registration.addUrlPatterns("/challenges/*");
+        return registration;
+    }
+}
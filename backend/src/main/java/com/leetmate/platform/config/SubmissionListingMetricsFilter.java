@@ -0,0 +1,121 @@
+package com.leetmate.platform.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Records body size and latency of the full and the summary submission listing under one {@code view} tag, so the
+ * cost of shipping code in list pages can be compared directly.
+ */
+final class SubmissionListingMetricsFilter extends OncePerRequestFilter {
+
+    private static final Map<String, String> VIEWS = Map.of(
+            "/challenges/{challengeId}/submissions", "full",
+            "/challenges/{challengeId}/submissions/summary", "summary");
+
+    private final Map<String, DistributionSummary> sizes = new HashMap<>();
+    private final Map<String, Timer> latencies = new HashMap<>();
+
+    SubmissionListingMetricsFilter(MeterRegistry meterRegistry) {
+        VIEWS.forEach((pattern, view) -> {
+            sizes.put(pattern, DistributionSummary.builder("submissions.listing.response.size")
+                    .description("Body size of submission list pages")
+                    .baseUnit("bytes")
+                    .tag("view", view)
+                    .register(meterRegistry));
+            latencies.put(pattern, Timer.builder("submissions.listing.latency")
+                    .description("Time to serve submission list pages")
+                    .tag("view", view)
+                    .register(meterRegistry));
+        });
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !HttpMethod.GET.matches(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long start = System.nanoTime();
+        CountingResponse counting = new CountingResponse(response);
+        chain.doFilter(request, counting);
+        // the pattern is only known once the request has been mapped
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null || !VIEWS.containsKey(pattern.toString()) || response.getStatus() >= 400) {
+            return;
+        }
+        latencies.get(pattern.toString()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        sizes.get(pattern.toString()).record(counting.bytes);
+    }
+
+    /**
+     * Counts the bytes written to the response body.
+     */
+    private static final class CountingResponse extends HttpServletResponseWrapper {
+
+        private ServletOutputStream outputStream;
+        private long bytes;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytes++;
+                    }
+
+                    @Override
+                    public void write(byte[] b, int off, int len) throws IOException {
+                        delegate.write(b, off, len);
+                        bytes += len;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+    }
+}
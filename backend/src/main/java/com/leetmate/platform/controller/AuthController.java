@@ -9,6 +9,7 @@ import com.leetmate.platform.dto.common.MessageResponse;
 import com.leetmate.platform.service.AuthService;
 import com.leetmate.platform.service.PasswordResetService;
 import jakarta.validation.Valid;
+import java.util.concurrent.CompletableFuture;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -39,7 +40,7 @@ public class AuthController {
      */
     @PostMapping("/register")
     @ResponseStatus(HttpStatus.CREATED)
-    public AuthResponse register(@Valid @RequestBody RegisterRequest request) {
+    public CompletableFuture<AuthResponse> register(@Valid @RequestBody RegisterRequest request) {
         return authService.register(request);
     }
 
@@ -50,7 +51,7 @@ public class AuthController {
      * @return auth response
      */
     @PostMapping("/login")
-    public AuthResponse login(@Valid @RequestBody LoginRequest request) {
+    public CompletableFuture<AuthResponse> login(@Valid @RequestBody LoginRequest request) {
         return authService.login(request);
     }
 
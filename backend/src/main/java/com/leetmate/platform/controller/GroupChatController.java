@@ -1,16 +1,20 @@
 package com.leetmate.platform.controller;
 
+import com.leetmate.platform.dto.auth.StreamTicketResponse;
 import com.leetmate.platform.dto.chat.CreateMessageRequest;
 import com.leetmate.platform.dto.chat.CreateThreadRequest;
 import com.leetmate.platform.dto.chat.MessageResponse;
 import com.leetmate.platform.dto.chat.UpdateMessageRequest;
 import com.leetmate.platform.dto.chat.ThreadResponse;
+import com.leetmate.platform.dto.common.CursorPageResponse;
 import com.leetmate.platform.dto.common.PageResponse;
 import com.leetmate.platform.security.UserPrincipal;
+import com.leetmate.platform.service.AuthService;
 import com.leetmate.platform.service.GroupChatService;
 import jakarta.validation.Valid;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -24,6 +28,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping
@@ -31,9 +36,11 @@ import org.springframework.web.bind.annotation.RestController;
 public class GroupChatController {
 
     private final GroupChatService groupChatService;
+    private final AuthService authService;
 
-    public GroupChatController(GroupChatService groupChatService) {
+    public GroupChatController(GroupChatService groupChatService, AuthService authService) {
         this.groupChatService = groupChatService;
+        this.authService = authService;
     }
 
     @PostMapping("/groups/{groupId}/threads")
@@ -54,6 +61,15 @@ public class GroupChatController {
         return groupChatService.listThreads(groupId, user.getId(), page, size);
     }
 
+    @GetMapping("/groups/{groupId}/threads/cursor")
+    @PreAuthorize("hasAnyRole('MENTOR','MENTEE')")
+    public CursorPageResponse<ThreadResponse> listThreadsByCursor(@PathVariable UUID groupId,
+                                                                  @AuthenticationPrincipal UserPrincipal user,
+                                                                  @RequestParam(required = false) String after,
+                                                                  @RequestParam(defaultValue = "20") int size) {
+        return groupChatService.listThreadsAfter(groupId, user.getId(), after, size);
+    }
+
     @GetMapping("/threads/{threadId}")
     @PreAuthorize("hasAnyRole('MENTOR','MENTEE')")
     public ThreadResponse getThread(@PathVariable UUID threadId,
@@ -79,6 +95,31 @@ public class GroupChatController {
         return groupChatService.listMessages(threadId, user.getId(), page, size);
     }
 
+    @GetMapping("/threads/{threadId}/messages/cursor")
+    @PreAuthorize("hasAnyRole('MENTOR','MENTEE')")
+    public CursorPageResponse<MessageResponse> listMessagesByCursor(@PathVariable UUID threadId,
+                                                                    @AuthenticationPrincipal UserPrincipal user,
+                                                                    @RequestParam(required = false) String after,
+                                                                    @RequestParam(defaultValue = "50") int size) {
+        return groupChatService.listMessagesAfter(threadId, user.getId(), after, size);
+    }
+
+    @GetMapping(path = "/threads/{threadId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('MENTOR','MENTEE')")
+    public SseEmitter streamEvents(@PathVariable UUID threadId,
+                                   @AuthenticationPrincipal UserPrincipal user) {
+        return groupChatService.subscribe(threadId, user.getId());
+    }
+
+    @PostMapping("/threads/{threadId}/events/ticket")
+    @PreAuthorize("hasAnyRole('MENTOR','MENTEE')")
+    public StreamTicketResponse issueStreamTicket(@PathVariable UUID threadId,
+                                                  @AuthenticationPrincipal UserPrincipal user) {
+        // only members get a ticket, the stream itself checks membership again when it is opened
+        groupChatService.getThread(threadId, user.getId());
+        return authService.issueStreamTicket(user, "/threads/" + threadId + "/events");
+    }
+
     @DeleteMapping("/threads/{threadId}")
     @PreAuthorize("hasRole('MENTOR')")
     public void deleteThread(@PathVariable UUID threadId,
@@ -0,0 +1,53 @@
+package com.leetmate.platform.controller;
+
+import com.leetmate.platform.dto.common.PageResponse;
+import com.leetmate.platform.dto.search.SearchResultResponse;
+import com.leetmate.platform.dto.search.SearchResultType;
+import com.leetmate.platform.security.UserPrincipal;
+import com.leetmate.platform.service.SearchService;
+import java.util.List;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Full-text search REST controller.
+ */
+@RestController
+@Validated
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Creates the controller.
+     *
+     * @param searchService service dependency
+     */
+    public SearchController(SearchService searchService) {
+        this.searchService = searchService;
+    }
+
+    /**
+     * Searches groups, challenges and the chat messages of the caller's groups.
+     *
+     * @param user  authenticated user
+     * @param q     search terms
+     * @param types kinds of results to include, all when omitted
+     * @param page  requested page
+     * @param size  requested size
+     * @return results ordered by relevance
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('MENTOR','MENTEE')")
+    public PageResponse<SearchResultResponse> search(@AuthenticationPrincipal UserPrincipal user,
+                                                     @RequestParam String q,
+                                                     @RequestParam(required = false) List<SearchResultType> types,
+                                                     @RequestParam(defaultValue = "0") int page,
+                                                     @RequestParam(defaultValue = "20") int size) {
+        return searchService.search(user.getId(), q, types, page, size);
+    }
+}
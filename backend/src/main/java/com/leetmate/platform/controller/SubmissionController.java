@@ -1,13 +1,17 @@
 package com.leetmate.platform.controller;
 
+import com.leetmate.platform.dto.auth.StreamTicketResponse;
 import com.leetmate.platform.dto.common.PageResponse;
 import com.leetmate.platform.dto.submission.SubmissionResponse;
+import com.leetmate.platform.dto.submission.SubmissionSummaryResponse;
 import com.leetmate.platform.dto.submission.SubmitSolutionRequest;
 import com.leetmate.platform.security.UserPrincipal;
+import com.leetmate.platform.service.AuthService;
 import com.leetmate.platform.service.SubmissionService;
 import jakarta.validation.Valid;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -18,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Handles submission endpoints including AI review integration.
@@ -27,25 +32,29 @@ import org.springframework.web.bind.annotation.RestController;
 public class SubmissionController {
 
     private final SubmissionService submissionService;
+    private final AuthService authService;
 
     /**
      * Creates a new controller.
      *
      * @param submissionService service dependency
+     * @param authService       issues tickets for the review event stream
      */
-    public SubmissionController(SubmissionService submissionService) {
+    public SubmissionController(SubmissionService submissionService, AuthService authService) {
         this.submissionService = submissionService;
+        this.authService = authService;
     }
 
     /**
-     * Submits code for review.
+     * Submits code for review. The submission is stored immediately and the AI review is generated in the
+     * background; poll {@code GET /submissions/{id}} until {@code reviewStatus} leaves {@code PENDING}.
      *
      * @param challengeId challenge identifier
      * @param request     payload
      * @return submission response
      */
     @PostMapping("/challenges/{challengeId}/submissions")
-    @ResponseStatus(HttpStatus.CREATED)
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @PreAuthorize("hasRole('MENTEE')")
     public SubmissionResponse submit(@PathVariable UUID challengeId,
                                      @AuthenticationPrincipal UserPrincipal principal,
@@ -64,6 +73,31 @@ public class SubmissionController {
         return submissionService.getSubmission(submissionId);
     }
 
+    /**
+     * Streams the AI review of a submission while it is generated: {@code text} events carry the answer so far in
+     * fragments, a final {@code review} event carries the stored submission.
+     *
+     * @param submissionId identifier
+     * @return event stream
+     */
+    @GetMapping(path = "/submissions/{submissionId}/review/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReview(@PathVariable UUID submissionId) {
+        return submissionService.streamReview(submissionId);
+    }
+
+    /**
+     * Issues a short-lived ticket for opening the review stream of a submission from a browser {@code EventSource}.
+     *
+     * @param submissionId identifier
+     * @param principal    authenticated user
+     * @return ticket for the stream's {@code ticket} query parameter
+     */
+    @PostMapping("/submissions/{submissionId}/review/events/ticket")
+    public StreamTicketResponse issueReviewStreamTicket(@PathVariable UUID submissionId,
+                                                        @AuthenticationPrincipal UserPrincipal principal) {
+        return authService.issueStreamTicket(principal, "/submissions/" + submissionId + "/review/events");
+    }
+
     /**
      * Lists submissions for a challenge.
      *
@@ -78,4 +112,20 @@ public class SubmissionController {
                                                             @RequestParam(defaultValue = "20") int size) {
         return submissionService.listSubmissions(challengeId, page, size);
     }
+
+    /**
+     * Lists submissions for a challenge without code or review text; fetch a single submission for those.
+     *
+     * @param challengeId challenge identifier
+     * @param page        page index
+     * @param size        page size
+     * @return paginated summaries
+     */
+    @GetMapping("/challenges/{challengeId}/submissions/summary")
+    public PageResponse<SubmissionSummaryResponse> listSubmissionSummaries(@PathVariable UUID challengeId,
+                                                                           @RequestParam(defaultValue = "0") int page,
+                                                                           @RequestParam(defaultValue = "20")
+                                                                           int size) {
+        return submissionService.listSubmissionSummaries(challengeId, page, size);
+    }
 }
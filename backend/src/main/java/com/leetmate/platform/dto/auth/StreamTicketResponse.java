@@ -0,0 +1,9 @@
+package com.leetmate.platform.dto.auth;
+
+/**
+ * Short-lived credential for opening one event stream.
+ *
+ * @param ticket value of the stream's {@code ticket} query parameter
+ */
+public record StreamTicketResponse(String ticket) {
+}
@@ -0,0 +1,57 @@
+package com.leetmate.platform.dto.common;
+
+import java.util.List;
+
+/**
+ * Keyset pagination wrapper. Unlike {@link PageResponse} it carries no totals; clients pass {@code nextCursor} back
+ * as the {@code after} parameter to fetch the following slice.
+ *
+ * @param <T> element type
+ */
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final int size;
+    private final String nextCursor;
+
+    /**
+     * Creates a new immutable response.
+     *
+     * @param content    content list
+     * @param size       requested size
+     * @param nextCursor opaque cursor of the next slice or {@code null} on the last slice
+     */
+    public CursorPageResponse(List<T> content, int size, String nextCursor) {
+        this.content = List.copyOf(content);
+        this.size = size;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @return list content
+     */
+    public List<T> getContent() {
+        return content;
+    }
+
+    /**
+     * @return requested slice size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return opaque cursor for the next slice, {@code null} when there is none
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    /**
+     * @return whether another slice is available
+     */
+    public boolean isHasNext() {
+        return nextCursor != null;
+    }
+}
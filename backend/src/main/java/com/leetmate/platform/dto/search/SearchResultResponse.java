@@ -0,0 +1,21 @@
+package com.leetmate.platform.dto.search;
+
+import java.util.UUID;
+
+/**
+ * Single ranked search result.
+ *
+ * @param type    kind of the matched entity
+ * @param id      identifier of the group, challenge or message
+ * @param groupId group the result belongs to
+ * @param title   group name, challenge title or title of the message's thread
+ * @param snippet excerpt of the matched text around the search terms
+ * @param rank    relevance, higher is better
+ */
+public record SearchResultResponse(SearchResultType type,
+                                   UUID id,
+                                   UUID groupId,
+                                   String title,
+                                   String snippet,
+                                   double rank) {
+}
@@ -0,0 +1,10 @@
+package com.leetmate.platform.dto.search;
+
+/**
+ * Kind of entity a search result points to.
+ */
+public enum SearchResultType {
+    GROUP,
+    CHALLENGE,
+    MESSAGE
+}
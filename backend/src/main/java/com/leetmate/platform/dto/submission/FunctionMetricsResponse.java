@@ -0,0 +1,50 @@
+package com.leetmate.platform.dto.submission;
+
+/**
+ * DTO describing the complexity of a single function within a reviewed submission.
+ */
+public class FunctionMetricsResponse {
+
+    private final String name;
+    private final int startLine;
+    private final int lines;
+    private final int complexity;
+    private final int maxNestingDepth;
+
+    /**
+     * Creates a new immutable response.
+     *
+     * @param name            function name
+     * @param startLine       1-based declaration line
+     * @param lines           function length in lines
+     * @param complexity      cyclomatic complexity of the function
+     * @param maxNestingDepth deepest block nesting inside the function
+     */
+    public FunctionMetricsResponse(String name, int startLine, int lines, int complexity, int maxNestingDepth) {
+        this.name = name;
+        this.startLine = startLine;
+        this.lines = lines;
+        this.complexity = complexity;
+        this.maxNestingDepth = maxNestingDepth;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStartLine() {
+        return startLine;
+    }
+
+    public int getLines() {
+        return lines;
+    }
+
+    public int getComplexity() {
+        return complexity;
+    }
+
+    public int getMaxNestingDepth() {
+        return maxNestingDepth;
+    }
+}
@@ -12,6 +12,7 @@ public class ReviewResponse {
     private final UUID id;
     private final String summary;
     private final int complexity;
+    private final List<FunctionMetricsResponse> functions;
     private final List<String> suggestions;
     private final Instant createdAt;
 
@@ -21,17 +22,20 @@ public class ReviewResponse {
      * @param id          identifier
      * @param summary     summary text
      * @param complexity  cyclomatic complexity
+     * @param functions   per-function complexity breakdown
      * @param suggestions improvement ideas
      * @param createdAt   timestamp
      */
     public ReviewResponse(UUID id,
                           String summary,
                           int complexity,
+                          List<FunctionMetricsResponse> functions,
                           List<String> suggestions,
                           Instant createdAt) {
         this.id = id;
         this.summary = summary;
         this.complexity = complexity;
+        this.functions = List.copyOf(functions);
         this.suggestions = List.copyOf(suggestions);
         this.createdAt = createdAt;
     }
@@ -48,6 +52,10 @@ public class ReviewResponse {
         return complexity;
     }
 
+    public List<FunctionMetricsResponse> getFunctions() {
+        return functions;
+    }
+
     public List<String> getSuggestions() {
         return suggestions;
     }
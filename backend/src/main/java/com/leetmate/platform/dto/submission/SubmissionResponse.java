@@ -1,5 +1,6 @@
 package com.leetmate.platform.dto.submission;
 
+import com.leetmate.platform.entity.ReviewStatus;
 import java.time.Instant;
 import java.util.UUID;
 
@@ -16,6 +17,7 @@ public class SubmissionResponse {
     private final String code;
     private final int creditsAwarded;
     private final Instant createdAt;
+    private final ReviewStatus reviewStatus;
     private final ReviewResponse review;
 
     /**
@@ -27,7 +29,8 @@ public class SubmissionResponse {
      * @param code           code
      * @param creditsAwarded credits
      * @param createdAt      timestamp
-     * @param review         AI review
+     * @param reviewStatus   state of the AI review
+     * @param review         AI review, {@code null} while pending
      */
     public SubmissionResponse(UUID id,
                               UUID challengeId,
@@ -37,6 +40,7 @@ public class SubmissionResponse {
                               String code,
                               int creditsAwarded,
                               Instant createdAt,
+                              ReviewStatus reviewStatus,
                               ReviewResponse review) {
         this.id = id;
         this.challengeId = challengeId;
@@ -46,6 +50,7 @@ public class SubmissionResponse {
         this.code = code;
         this.creditsAwarded = creditsAwarded;
         this.createdAt = createdAt;
+        this.reviewStatus = reviewStatus;
         this.review = review;
     }
 
@@ -81,6 +86,10 @@ public class SubmissionResponse {
         return createdAt;
     }
 
+    public ReviewStatus getReviewStatus() {
+        return reviewStatus;
+    }
+
     public ReviewResponse getReview() {
         return review;
     }
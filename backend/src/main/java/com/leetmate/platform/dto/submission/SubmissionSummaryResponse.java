@@ -0,0 +1,29 @@
+package com.leetmate.platform.dto.submission;
+
+import com.leetmate.platform.entity.ReviewStatus;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Submission list entry without the code and review text; fetch {@code GET /submissions/{id}} for those.
+ *
+ * @param id             identifier
+ * @param challengeId    challenge identifier
+ * @param menteeId       author identifier
+ * @param menteeName     author display name
+ * @param language       language
+ * @param creditsAwarded credits
+ * @param createdAt      timestamp
+ * @param reviewStatus   state of the AI review
+ * @param complexity     reviewed cyclomatic complexity, {@code null} until the review is stored
+ */
+public record SubmissionSummaryResponse(UUID id,
+                                        UUID challengeId,
+                                        UUID menteeId,
+                                        String menteeName,
+                                        String language,
+                                        int creditsAwarded,
+                                        Instant createdAt,
+                                        ReviewStatus reviewStatus,
+                                        Integer complexity) {
+}
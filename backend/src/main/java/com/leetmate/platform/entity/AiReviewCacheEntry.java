@@ -0,0 +1,113 @@
+package com.leetmate.platform.entity;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OrderColumn;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Previously generated AI review shared by submissions with equivalent code.
+ */
+@Entity
+@Table(name = "ai_review_cache")
+public class AiReviewCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 200)
+    private String cacheKey;
+
+    @Column(nullable = false, length = 20)
+    private String language;
+
+    @Column(nullable = false, length = 80)
+    private String model;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String summary;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "ai_review_cache_suggestions", joinColumns = @JoinColumn(name = "cache_key"))
+    @OrderColumn(name = "position")
+    @Column(name = "suggestion", columnDefinition = "TEXT")
+    private List<String> suggestions = new ArrayList<>();
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    protected AiReviewCacheEntry() {
+    }
+
+    /**
+     * Creates a new cache entry.
+     *
+     * @param cacheKey    content-addressed key
+     * @param language    submission language
+     * @param model       model that produced the review
+     * @param summary     review summary
+     * @param suggestions review suggestions
+     * @param createdAt   creation timestamp
+     */
+    public AiReviewCacheEntry(String cacheKey,
+                              String language,
+                              String model,
+                              String summary,
+                              List<String> suggestions,
+                              Instant createdAt) {
+        this.cacheKey = cacheKey;
+        this.language = language;
+        this.model = model;
+        this.summary = summary;
+        this.suggestions = new ArrayList<>(suggestions);
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * @return cache key
+     */
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    /**
+     * @return language
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * @return model name
+     */
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * @return review summary
+     */
+    public String getSummary() {
+        return summary;
+    }
+
+    /**
+     * @return suggestions copy
+     */
+    public List<String> getSuggestions() {
+        return new ArrayList<>(suggestions);
+    }
+
+    /**
+     * @return timestamp
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
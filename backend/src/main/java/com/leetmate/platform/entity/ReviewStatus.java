@@ -0,0 +1,10 @@
+package com.leetmate.platform.entity;
+
+/**
+ * Lifecycle of the AI review attached to a submission.
+ */
+public enum ReviewStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
@@ -40,7 +40,8 @@ public class StudyGroup {
     @Column(name = "tag", length = 30)
     private List<String> tags = new ArrayList<>();
 
-    @Column(nullable = false)
+    // only the native recount in StudyGroupRepository may change it, an entity update would write back a stale value
+    @Column(nullable = false, updatable = false)
     private int memberCount = 0;
 
     @Column(nullable = false)
@@ -153,19 +154,10 @@ public class StudyGroup {
     }
 
     /**
-     * Increments the member count.
+     * Increments the member count of a group that has not been stored yet.
      */
     public void incrementMembers() {
         this.memberCount++;
     }
 
-    /**
-     * Decrements the member count when possible.
-     */
-    public void decrementMembers() {
-        if (memberCount == 0) {
-            throw new IllegalStateException("Member count cannot be negative");
-        }
-        this.memberCount--;
-    }
 }
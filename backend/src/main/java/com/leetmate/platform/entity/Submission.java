@@ -3,6 +3,8 @@ package com.leetmate.platform.entity;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -46,6 +48,10 @@ public class Submission {
     @JoinColumn(name = "review_id")
     private SubmissionReview review;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ReviewStatus reviewStatus = ReviewStatus.PENDING;
+
     protected Submission() {
     }
 
@@ -73,6 +79,7 @@ public class Submission {
         this.code = code;
         this.creditsAwarded = creditsAwarded;
         this.createdAt = createdAt;
+        this.reviewStatus = ReviewStatus.PENDING;
     }
 
     /**
@@ -133,11 +140,26 @@ public class Submission {
     }
 
     /**
-     * Attaches the AI review to the submission.
+     * @return state of the AI review
+     */
+    public ReviewStatus getReviewStatus() {
+        return reviewStatus;
+    }
+
+    /**
+     * Attaches the AI review to the submission and marks it completed.
      *
      * @param review review details
      */
     public void attachReview(SubmissionReview review) {
         this.review = review;
+        this.reviewStatus = ReviewStatus.COMPLETED;
+    }
+
+    /**
+     * Records that the AI review could not be produced.
+     */
+    public void markReviewFailed() {
+        this.reviewStatus = ReviewStatus.FAILED;
     }
 }
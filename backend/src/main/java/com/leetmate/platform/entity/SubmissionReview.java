@@ -1,5 +1,6 @@
 package com.leetmate.platform.entity;
 
+import com.leetmate.platform.analysis.FunctionMetrics;
 import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
 import jakarta.persistence.ElementCollection;
@@ -11,6 +12,8 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 /**
  * AI review embedded within a submission.
@@ -36,28 +39,35 @@ public class SubmissionReview {
     @Column(name = "suggestion", columnDefinition = "TEXT")
     private List<String> suggestions = new ArrayList<>();
 
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "function_metrics", columnDefinition = "jsonb")
+    private List<FunctionMetrics> functionMetrics = new ArrayList<>();
+
     protected SubmissionReview() {
     }
 
     /**
      * Creates a new review snapshot.
      *
-     * @param id          review identifier
-     * @param createdAt   creation timestamp
-     * @param summary     textual summary
-     * @param complexity  cyclomatic complexity
-     * @param suggestions AI suggestions
+     * @param id              review identifier
+     * @param createdAt       creation timestamp
+     * @param summary         textual summary
+     * @param complexity      cyclomatic complexity
+     * @param suggestions     AI suggestions
+     * @param functionMetrics per-function complexity breakdown
      */
     public SubmissionReview(UUID id,
                             Instant createdAt,
                             String summary,
                             int complexity,
-                            List<String> suggestions) {
+                            List<String> suggestions,
+                            List<FunctionMetrics> functionMetrics) {
         this.id = id;
         this.createdAt = createdAt;
         this.summary = summary;
         this.complexity = complexity;
         this.suggestions = new ArrayList<>(suggestions);
+        this.functionMetrics = new ArrayList<>(functionMetrics);
     }
 
     /**
@@ -94,4 +104,11 @@ public class SubmissionReview {
     public List<String> getSuggestions() {
         return new ArrayList<>(suggestions);
     }
+
+    /**
+     * @return per-function complexity breakdown, empty for reviews stored before it was recorded
+     */
+    public List<FunctionMetrics> getFunctionMetrics() {
+        return functionMetrics == null ? List.of() : List.copyOf(functionMetrics);
+    }
 }
@@ -96,4 +96,19 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
                 request.getRequestURI());
         return ResponseEntity.status(status).body(body);
     }
+
+    /**
+     * Handles requests shed because a bounded resource is saturated.
+     *
+     * @param ex exception
+     * @param request request
+     * @return response asking the client to retry
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ApiErrorResponse> handleServiceBusy(ServiceBusyException ex, HttpServletRequest request) {
+        HttpStatus status = HttpStatus.SERVICE_UNAVAILABLE;
+        ApiErrorResponse body = new ApiErrorResponse(status.value(), status.getReasonPhrase(), ex.getMessage(),
+                request.getRequestURI());
+        return ResponseEntity.status(status).header(HttpHeaders.RETRY_AFTER, "1").body(body);
+    }
 }
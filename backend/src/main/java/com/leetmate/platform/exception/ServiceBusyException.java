@@ -0,0 +1,16 @@
+package com.leetmate.platform.exception;
+
+/**
+ * Raised when a bounded resource is saturated and the request should be retried shortly.
+ */
+public class ServiceBusyException extends RuntimeException {
+
+    /**
+     * Creates the exception.
+     *
+     * @param message error message
+     */
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,22 @@
+package com.leetmate.platform.repository;
+
+import com.leetmate.platform.entity.AiReviewCacheEntry;
+import java.time.Instant;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Persistence for the shared AI review cache.
+ */
+public interface AiReviewCacheRepository extends JpaRepository<AiReviewCacheEntry, String> {
+
+    Optional<AiReviewCacheEntry> findByCacheKeyAndCreatedAtAfter(String cacheKey, Instant cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("delete from AiReviewCacheEntry e where e.createdAt < :cutoff")
+    int deleteCreatedBefore(Instant cutoff);
+}
@@ -1,12 +1,26 @@
 package com.leetmate.platform.repository;
 
 import com.leetmate.platform.entity.ChatMessage;
+import java.time.Instant;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID> {
 
     Page<ChatMessage> findByThreadIdOrderByCreatedAtAsc(UUID threadId, Pageable pageable);
+
+    Slice<ChatMessage> findByThreadIdOrderByCreatedAtAscIdAsc(UUID threadId, Pageable pageable);
+
+    @Query("""
+            select m
+            from ChatMessage m
+            where m.thread.id = :threadId
+              and (m.createdAt > :createdAt or (m.createdAt = :createdAt and m.id > :id))
+            order by m.createdAt asc, m.id asc
+            """)
+    Slice<ChatMessage> findByThreadIdAfter(UUID threadId, Instant createdAt, UUID id, Pageable pageable);
 }
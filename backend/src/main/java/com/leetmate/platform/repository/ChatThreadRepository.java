@@ -1,12 +1,26 @@
 package com.leetmate.platform.repository;
 
 import com.leetmate.platform.entity.ChatThread;
+import java.time.Instant;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ChatThreadRepository extends JpaRepository<ChatThread, UUID> {
 
     Page<ChatThread> findByGroupIdOrderByCreatedAtDesc(UUID groupId, Pageable pageable);
+
+    Slice<ChatThread> findByGroupIdOrderByCreatedAtDescIdDesc(UUID groupId, Pageable pageable);
+
+    @Query("""
+            select t
+            from ChatThread t
+            where t.group.id = :groupId
+              and (t.createdAt < :createdAt or (t.createdAt = :createdAt and t.id < :id))
+            order by t.createdAt desc, t.id desc
+            """)
+    Slice<ChatThread> findByGroupIdBefore(UUID groupId, Instant createdAt, UUID id, Pageable pageable);
 }
@@ -14,6 +14,9 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, UUID>
 
     Optional<GroupMember> findByGroupIdAndMemberId(UUID groupId, UUID memberId);
 
+    @Query("select gm.member.id from GroupMember gm where gm.group.id = :groupId")
+    List<UUID> findMemberIdsByGroupId(UUID groupId);
+
     @Query("""
             select gm.group
             from GroupMember gm
@@ -0,0 +1,105 @@
+package com.leetmate.platform.repository;
+
+import com.leetmate.platform.entity.StudyGroup;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+
+/**
+ * Full-text search over the {@code search_vector} columns and GIN indexes of groups, challenges and chat messages.
+ * Search terms use web search syntax ({@code "quoted phrase"}, {@code or}, {@code -excluded}). Groups and challenges
+ * are public; messages only match in groups the searching user leads or joined.
+ */
+public interface SearchRepository extends Repository<StudyGroup, UUID> {
+
+    /**
+     * Returns one page of results ordered by relevance, newest first among equal ranks.
+     *
+     * @param query      search terms
+     * @param groups     whether groups are searched
+     * @param challenges whether challenges are searched
+     * @param messages   whether chat messages are searched
+     * @param userId     searching user, restricts message results
+     * @param limit      page size
+     * @param offset     results to skip
+     * @return ranked results with a text excerpt
+     */
+    @Query(value = """
+            select page.kind as kind, page.id as id, page.group_id as groupId, page.title as title,
+                   ts_headline('english', page.body, websearch_to_tsquery('english', :query),
+                               'StartSel="", StopSel="", MaxWords=30, MinWords=10') as snippet,
+                   page.rank as rank
+            from (
+                select hit.*
+                from (
+                    select 'GROUP' as kind, g.id, g.id as group_id, g.name as title, g.description as body,
+                           g.created_at, ts_rank_cd(g.search_vector, q) as rank
+                    from study_groups g
+                    cross join websearch_to_tsquery('english', :query) q
+                    where :groups and g.search_vector @@ q
+                    union all
+                    select 'CHALLENGE', c.id, c.group_id, c.title, c.description, c.created_at,
+                           ts_rank_cd(c.search_vector, q)
+                    from challenges c
+                    cross join websearch_to_tsquery('english', :query) q
+                    where :challenges and c.search_vector @@ q
+                    union all
+                    select 'MESSAGE', m.id, t.group_id, t.title, m.content, m.created_at,
+                           ts_rank_cd(m.search_vector, q)
+                    from chat_messages m
+                    join chat_threads t on t.id = m.thread_id
+                    join study_groups g on g.id = t.group_id
+                    cross join websearch_to_tsquery('english', :query) q
+                    where :messages and m.search_vector @@ q
+                      and (g.mentor_id = :userId
+                           or exists (select 1 from group_members gm
+                                      where gm.group_id = t.group_id and gm.member_id = :userId))
+                ) hit
+                order by hit.rank desc, hit.created_at desc, hit.id
+                limit :limit offset :offset
+            ) page
+            order by page.rank desc, page.created_at desc, page.id
+            """, nativeQuery = true)
+    List<SearchHit> search(String query, boolean groups, boolean challenges, boolean messages,
+                           UUID userId, int limit, int offset);
+
+    /**
+     * Counts the results of {@link #search}.
+     */
+    @Query(value = """
+            select (select count(*)
+                    from study_groups g
+                    where :groups and g.search_vector @@ websearch_to_tsquery('english', :query))
+                 + (select count(*)
+                    from challenges c
+                    where :challenges and c.search_vector @@ websearch_to_tsquery('english', :query))
+                 + (select count(*)
+                    from chat_messages m
+                    join chat_threads t on t.id = m.thread_id
+                    join study_groups g on g.id = t.group_id
+                    where :messages and m.search_vector @@ websearch_to_tsquery('english', :query)
+                      and (g.mentor_id = :userId
+                           or exists (select 1 from group_members gm
+                                      where gm.group_id = t.group_id and gm.member_id = :userId)))
+            """, nativeQuery = true)
+    long countResults(String query, boolean groups, boolean challenges, boolean messages, UUID userId);
+
+    /**
+     * Row of {@link #search}.
+     */
+    interface SearchHit {
+
+        String getKind();
+
+        UUID getId();
+
+        UUID getGroupId();
+
+        String getTitle();
+
+        String getSnippet();
+
+        double getRank();
+    }
+}
@@ -1,11 +1,15 @@
 package com.leetmate.platform.repository;
 
 import com.leetmate.platform.entity.StudyGroup;
+import java.util.Collection;
 import java.util.UUID;
 import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
  * JPA repository for {@link StudyGroup}.
@@ -15,4 +19,28 @@ public interface StudyGroupRepository extends JpaRepository<StudyGroup, UUID> {
     Page<StudyGroup> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
     List<StudyGroup> findAllByMentorIdOrderByCreatedAtDesc(UUID mentorId);
+
+    /**
+     * Sets the stored member count of the given groups to their number of memberships.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update study_groups g
+            set member_count = (select count(*) from group_members m where m.group_id = g.id)
+            where g.id in (:groupIds)
+            """, nativeQuery = true)
+    int recountMembers(Collection<UUID> groupIds);
+
+    /**
+     * Sets every stored member count that disagrees with the memberships to their number.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            update study_groups g
+            set member_count = (select count(*) from group_members m where m.group_id = g.id)
+            where g.member_count <> (select count(*) from group_members m where m.group_id = g.id)
+            """, nativeQuery = true)
+    int reconcileMemberCounts();
 }
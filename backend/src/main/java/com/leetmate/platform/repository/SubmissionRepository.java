@@ -1,10 +1,16 @@
 package com.leetmate.platform.repository;
 
+import com.leetmate.platform.dto.submission.SubmissionSummaryResponse;
+import com.leetmate.platform.entity.ReviewStatus;
 import com.leetmate.platform.entity.Submission;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 /**
  * JPA persistence for submissions.
@@ -12,4 +18,61 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface SubmissionRepository extends JpaRepository<Submission, UUID> {
 
     Page<Submission> findByChallenge_IdOrderByCreatedAtDesc(UUID challengeId, Pageable pageable);
+
+    /**
+     * Pages submission identifiers of a challenge, newest first. Paging identifiers keeps the limit in SQL; the rows
+     * are then loaded with {@link #findWithReviewByIdIn(Collection)}.
+     */
+    @Query(value = """
+            select s.id
+            from Submission s
+            where s.challenge.id = :challengeId
+            order by s.createdAt desc
+            """, countQuery = """
+            select count(s)
+            from Submission s
+            where s.challenge.id = :challengeId
+            """)
+    Page<UUID> findIdsByChallengeId(UUID challengeId, Pageable pageable);
+
+    /**
+     * Loads submissions together with their mentee, review and review suggestions in one statement.
+     */
+    @Query("""
+            select distinct s
+            from Submission s
+            join fetch s.mentee
+            left join fetch s.review r
+            left join fetch r.suggestions
+            where s.id in :ids
+            """)
+    List<Submission> findWithReviewByIdIn(Collection<UUID> ids);
+
+    /**
+     * Pages submission summaries of a challenge, newest first, without selecting the code or review text.
+     */
+    @Query(value = """
+            select new com.leetmate.platform.dto.submission.SubmissionSummaryResponse(
+                s.id, s.challenge.id, m.id, m.name, s.language, s.creditsAwarded, s.createdAt, s.reviewStatus,
+                r.complexity)
+            from Submission s
+            join s.mentee m
+            left join s.review r
+            where s.challenge.id = :challengeId
+            order by s.createdAt desc
+            """, countQuery = """
+            select count(s)
+            from Submission s
+            where s.challenge.id = :challengeId
+            """)
+    Page<SubmissionSummaryResponse> findSummariesByChallengeId(UUID challengeId, Pageable pageable);
+
+    @Query("""
+            select s.id
+            from Submission s
+            where s.reviewStatus = :status
+              and s.createdAt < :cutoff
+            order by s.createdAt asc
+            """)
+    List<UUID> findIdsByReviewStatusCreatedBefore(ReviewStatus status, Instant cutoff, Pageable pageable);
 }
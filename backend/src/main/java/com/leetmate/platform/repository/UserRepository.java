@@ -4,13 +4,30 @@ import com.leetmate.platform.entity.User;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.transaction.annotation.Transactional;
 
 /**
- * Repository for user accounts.
+ * Repository for user accounts. Email lookups compare {@code lower(email)} so they can use the functional index
+ * created in {@code V5__query_indexes.sql}.
  */
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    @Query("select u from User u where lower(u.email) = lower(:email)")
     Optional<User> findByEmailIgnoreCase(String email);
 
+    @Query("select count(u) > 0 from User u where lower(u.email) = lower(:email)")
     boolean existsByEmailIgnoreCase(String email);
+
+    /**
+     * Replaces a password hash unless it changed since it was read, so a rehash on login cannot overwrite a
+     * concurrent password reset.
+     *
+     * @return number of updated rows
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.passwordHash = :newHash where u.id = :id and u.passwordHash = :oldHash")
+    int replacePasswordHash(UUID id, String oldHash, String newHash);
 }
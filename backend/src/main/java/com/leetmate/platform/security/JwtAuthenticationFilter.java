@@ -8,39 +8,47 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.UrlPathHelper;
 
 /**
- * Extracts JWT tokens from incoming requests and sets authentication.
+ * Extracts JWT tokens from incoming requests and sets authentication. Login tokens are only read from the
+ * {@code Authorization} header. Event streams also accept a stream ticket in the {@code ticket} query parameter,
+ * because browsers cannot set headers on {@code EventSource} connections; a ticket only authenticates the stream it
+ * was issued for, so a URL that ends up in logs or history exposes no reusable credential.
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    private static final String EVENT_STREAM_SUFFIX = "/events";
+    private static final String STREAM_TICKET_PARAM = "ticket";
+
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
-    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository) {
+    public JwtAuthenticationFilter(JwtService jwtService, UserRepository userRepository, PrincipalCache principalCache) {
         this.jwtService = jwtService;
         this.userRepository = userRepository;
+        this.principalCache = principalCache;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        String token = resolveToken(request);
-        if (token != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            Optional<Claims> claims = jwtService.parse(token);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            Optional<Claims> claims = resolveClaims(request);
             if (claims.isPresent()) {
-                String email = claims.get().getSubject();
-                userRepository.findByEmailIgnoreCase(email)
-                        .map(UserPrincipal::from)
+                resolvePrincipal(claims.get())
                         .ifPresent(principal -> {
                             UsernamePasswordAuthenticationToken authentication =
                                     new UsernamePasswordAuthenticationToken(
@@ -55,11 +63,36 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
-    private String resolveToken(HttpServletRequest request) {
+    private Optional<UserPrincipal> resolvePrincipal(Claims claims) {
+        String email = claims.getSubject();
+        Optional<UUID> userId;
+        try {
+            userId = jwtService.extractUserId(claims);
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+        if (userId.isEmpty()) {
+            // tokens issued without a userId claim still resolve through the email lookup
+            return userRepository.findByEmailIgnoreCase(email).map(UserPrincipal::from);
+        }
+        return principalCache.get(userId.get())
+                .filter(principal -> principal.getUsername().equalsIgnoreCase(email));
+    }
+
+    private Optional<Claims> resolveClaims(HttpServletRequest request) {
         String header = request.getHeader(HttpHeaders.AUTHORIZATION);
-        if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
-            return null;
+        if (StringUtils.hasText(header) && header.startsWith("Bearer ")) {
+            // stream tickets never stand in for a login token
+            return jwtService.parse(header.substring(7))
+                    .filter(claims -> jwtService.extractStream(claims).isEmpty());
+        }
+        String path = UrlPathHelper.defaultInstance.getPathWithinApplication(request);
+        String ticket = request.getParameter(STREAM_TICKET_PARAM);
+        if (HttpMethod.GET.matches(request.getMethod()) && path.endsWith(EVENT_STREAM_SUFFIX)
+                && StringUtils.hasText(ticket)) {
+            return jwtService.parse(ticket)
+                    .filter(claims -> jwtService.extractStream(claims).filter(path::equals).isPresent());
         }
-        return header.substring(7);
+        return Optional.empty();
     }
 }
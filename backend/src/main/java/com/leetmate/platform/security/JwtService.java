@@ -15,18 +15,31 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 /**
- * Utility for issuing and validating JWT tokens.
+ * Utility for issuing and validating JWT tokens. Besides login tokens it issues stream tickets: short-lived tokens
+ * bound to a single event stream path, for clients that can only pass credentials in the URL.
  */
 @Component
 public class JwtService {
 
+    private static final String STREAM_CLAIM = "stream";
+
     private final SecretKey secretKey;
     private final Duration expiration;
+    private final Duration streamTicketExpiration;
 
+    /**
+     * Creates the service.
+     *
+     * @param secret                 HMAC signing secret
+     * @param expiration             lifetime of login tokens
+     * @param streamTicketExpiration lifetime of stream tickets, long enough to open the stream right away
+     */
     public JwtService(@Value("${security.jwt.secret:this-should-be-overridden}") String secret,
-                      @Value("${security.jwt.expiration:PT24H}") Duration expiration) {
+                      @Value("${security.jwt.expiration:PT24H}") Duration expiration,
+                      @Value("${security.jwt.stream-ticket-expiration:PT1M}") Duration streamTicketExpiration) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.expiration = expiration;
+        this.streamTicketExpiration = streamTicketExpiration;
     }
 
     /**
@@ -47,6 +60,26 @@ public class JwtService {
                 .compact();
     }
 
+    /**
+     * Generates a ticket that only authenticates the given event stream.
+     *
+     * @param principal  user opening the stream
+     * @param streamPath path of the stream within the application, e.g. {@code /threads/{id}/events}
+     * @return signed ticket
+     */
+    public String generateStreamTicket(UserPrincipal principal, String streamPath) {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .setSubject(principal.getUsername())
+                .claim("userId", principal.getId().toString())
+                .claim("role", principal.getRole().name())
+                .claim(STREAM_CLAIM, streamPath)
+                .setIssuedAt(Date.from(now))
+                .setExpiration(Date.from(now.plus(streamTicketExpiration)))
+                .signWith(secretKey)
+                .compact();
+    }
+
     /**
      * Validates and parses a JWT.
      *
@@ -79,4 +112,14 @@ public class JwtService {
         }
         return Optional.of(UUID.fromString(userId));
     }
+
+    /**
+     * Extracts the stream a ticket was issued for.
+     *
+     * @param claims token claims
+     * @return stream path, empty for login tokens
+     */
+    public Optional<String> extractStream(Claims claims) {
+        return Optional.ofNullable(claims.get(STREAM_CLAIM, String.class));
+    }
 }
@@ -0,0 +1,200 @@
+package com.leetmate.platform.security;
+
+import com.leetmate.platform.exception.ServiceBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+/**
+ * Runs BCrypt off the request threads. Hashes are computed on a small dedicated pool with a bounded queue; when the
+ * queue is full the call fails fast with {@link ServiceBusyException} instead of letting a login burst occupy every
+ * servlet worker. Unless configured explicitly, the cost factor is calibrated on startup to the highest one whose hash
+ * still takes at most the target duration on this machine, never below the minimum. Verifying a password whose
+ * stored hash uses a lower cost also returns a rehash at the current cost, unless other hashes are waiting: the rehash
+ * doubles the work of a login, so it is left to a later login rather than delaying the queue.
+ */
+@Component
+public class PasswordHasher implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordHasher.class);
+    private static final Pattern BCRYPT_COST = Pattern.compile("^\\$2[abxy]?\\$(\\d{2})\\$");
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final BCryptPasswordEncoder encoder;
+    private final int strength;
+    private final ThreadPoolExecutor executor;
+    private final Timer hashTimer;
+    private final Timer verifyTimer;
+    private final Counter rejections;
+
+    /**
+     * Creates the hasher.
+     *
+     * @param meterRegistry  registry for hashing metrics
+     * @param strength       BCrypt cost factor, {@code 0} to calibrate it on startup
+     * @param minStrength    lowest cost calibration may choose
+     * @param maxStrength    highest cost calibration may choose
+     * @param targetDuration time a single hash should take at most
+     * @param threads        hashing threads, {@code 0} for half the available processors
+     * @param queueCapacity  hashes waiting for a thread before new ones are rejected
+     */
+    public PasswordHasher(MeterRegistry meterRegistry,
+                          @Value("${app.password-hashing.strength:0}") int strength,
+                          @Value("${app.password-hashing.min-strength:10}") int minStrength,
+                          @Value("${app.password-hashing.max-strength:14}") int maxStrength,
+                          @Value("${app.password-hashing.target-duration:PT0.25S}") Duration targetDuration,
+                          @Value("${app.password-hashing.threads:0}") int threads,
+                          @Value("${app.password-hashing.queue-capacity:64}") int queueCapacity) {
+        Assert.isTrue(minStrength >= 4 && minStrength <= maxStrength && maxStrength <= 31,
+                "BCrypt strengths must satisfy 4 <= min <= max <= 31");
+        Assert.isTrue(queueCapacity > 0, "queueCapacity must be positive");
+        this.strength = strength > 0 ? strength : calibrate(targetDuration, minStrength, maxStrength);
+        this.encoder = new BCryptPasswordEncoder(this.strength);
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+        this.hashTimer = timer(meterRegistry, "hash");
+        this.verifyTimer = timer(meterRegistry, "verify");
+        this.rejections = Counter.builder("auth.password.hashing.rejected")
+                .description("Password hashing requests rejected because the queue was full")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.queue.depth", executor, pool -> pool.getQueue().size())
+                .description("Password hashing requests waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.hashing.strength", this, PasswordHasher::getStrength)
+                .description("BCrypt cost factor used for new hashes")
+                .register(meterRegistry);
+        log.info("Hashing passwords with BCrypt cost {} on {} threads", this.strength, poolSize);
+    }
+
+    /**
+     * Hashes a password.
+     *
+     * @param rawPassword password to hash
+     * @return future completing with the BCrypt hash
+     * @throws ServiceBusyException when too many hashes are already waiting
+     */
+    public CompletableFuture<String> hash(CharSequence rawPassword) {
+        return submit(hashTimer, () -> encoder.encode(rawPassword));
+    }
+
+    /**
+     * Checks a password against a stored hash.
+     *
+     * @param rawPassword password to check
+     * @param storedHash  stored BCrypt hash
+     * @return future completing with the outcome, including a new hash when the stored one uses a lower cost and no
+     *         other hash is waiting
+     * @throws ServiceBusyException when too many hashes are already waiting
+     */
+    public CompletableFuture<Verification> verify(CharSequence rawPassword, String storedHash) {
+        return submit(verifyTimer, () -> {
+            if (!encoder.matches(rawPassword, storedHash)) {
+                return new Verification(false, null);
+            }
+            boolean rehash = needsRehash(storedHash) && executor.getQueue().isEmpty();
+            return new Verification(true, rehash ? encoder.encode(rawPassword) : null);
+        });
+    }
+
+    /**
+     * @return encoder using the configured or calibrated cost, for callers outside the request path
+     */
+    public BCryptPasswordEncoder getEncoder() {
+        return encoder;
+    }
+
+    /**
+     * @return BCrypt cost factor used for new hashes
+     */
+    public int getStrength() {
+        return strength;
+    }
+
+    /**
+     * Only weaker hashes are rewritten: nodes calibrating to different costs would otherwise rewrite each other's
+     * hashes on every login, and a higher cost is never less secure.
+     *
+     * @param storedHash stored BCrypt hash
+     * @return whether the hash uses a lower cost than new hashes
+     */
+    boolean needsRehash(String storedHash) {
+        Matcher matcher = BCRYPT_COST.matcher(storedHash);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private <T> CompletableFuture<T> submit(Timer timer, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timer.record(task), executor);
+        } catch (RejectedExecutionException ex) {
+            rejections.increment();
+            throw new ServiceBusyException("Too many sign-in requests, please retry shortly");
+        }
+    }
+
+    /**
+     * Picks the highest cost whose hash takes at most {@code target}, measuring the minimum cost and doubling the
+     * time per step as BCrypt does.
+     */
+    static int calibrate(Duration target, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(minStrength);
+        // the first hash includes class loading and interpretation
+        probe.encode("calibration");
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_ROUNDS; i++) {
+            long start = System.nanoTime();
+            probe.encode("calibration");
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        int chosen = minStrength;
+        long expected = fastest;
+        while (chosen < maxStrength && expected * 2 <= target.toNanos()) {
+            chosen++;
+            expected *= 2;
+        }
+        log.info("Calibrated BCrypt cost {}: cost {} took {} ms, target {} ms", chosen, minStrength,
+                TimeUnit.NANOSECONDS.toMillis(fastest), target.toMillis());
+        return chosen;
+    }
+
+    private static Timer timer(MeterRegistry registry, String operation) {
+        return Timer.builder("auth.password.hashing")
+                .description("Time spent computing BCrypt hashes")
+                .tag("operation", operation)
+                .register(registry);
+    }
+
+    /**
+     * Outcome of {@link #verify}.
+     *
+     * @param matches      whether the password matched
+     * @param upgradedHash hash at the current cost to store instead, {@code null} when none is needed
+     */
+    public record Verification(boolean matches, String upgradedHash) {
+    }
+}
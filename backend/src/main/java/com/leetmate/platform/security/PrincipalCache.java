@@ -0,0 +1,71 @@
+package com.leetmate.platform.security;
+
+import com.leetmate.platform.repository.UserRepository;
+import com.leetmate.platform.util.ExpiringLruCache;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Bounded, time limited cache of authenticated principals keyed by user id so that JWT authentication does not query
+ * the users table on every request. Callers that change credentials or roles must {@link #evict(UUID) evict} the
+ * affected user.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final ExpiringLruCache<UUID, UserPrincipal> cache;
+
+    /**
+     * Creates the cache.
+     *
+     * @param userRepository loads principals by primary key on a miss
+     * @param maxEntries     principals kept before the least recently used one is evicted
+     * @param ttl            time after which a cached principal is reloaded, bounding how long role changes take
+     */
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${security.principal-cache.max-entries:10000}") int maxEntries,
+                          @Value("${security.principal-cache.ttl:PT5M}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = new ExpiringLruCache<>(maxEntries, ttl);
+    }
+
+    /**
+     * Returns the principal for the given user, loading it by primary key on a cache miss.
+     *
+     * @param userId user identifier
+     * @return principal if the user exists
+     */
+    public Optional<UserPrincipal> get(UUID userId) {
+        UserPrincipal cached = cache.get(userId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserPrincipal> loaded = userRepository.findById(userId).map(UserPrincipal::from);
+        loaded.ifPresent(principal -> cache.put(userId, principal));
+        return loaded;
+    }
+
+    /**
+     * Drops the cached principal of a user whose credentials or role changed. Inside a transaction the entry is
+     * dropped again after commit so a concurrent request cannot re-cache the old state.
+     *
+     * @param userId user identifier
+     */
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(userId);
+                }
+            });
+        }
+    }
+}
@@ -3,72 +3,102 @@ package com.leetmate.platform.service;
 import com.leetmate.platform.dto.auth.AuthResponse;
 import com.leetmate.platform.dto.auth.LoginRequest;
 import com.leetmate.platform.dto.auth.RegisterRequest;
+import com.leetmate.platform.dto.auth.StreamTicketResponse;
 import com.leetmate.platform.dto.auth.UserSummary;
 import com.leetmate.platform.entity.User;
 import com.leetmate.platform.entity.UserRole;
 import com.leetmate.platform.repository.UserRepository;
 import com.leetmate.platform.security.JwtService;
+import com.leetmate.platform.security.PasswordHasher;
+import com.leetmate.platform.security.UserPrincipal;
 import java.time.Instant;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
 /**
- * Handles registration and login flows.
+ * Handles registration and login flows. Password hashing runs on the {@link PasswordHasher} pool, so both flows
+ * complete asynchronously and fail fast with a busy error while the pool is saturated. Persisting and token signing
+ * continue on the {@code authExecutor} pool, keeping the hashing threads free for BCrypt.
  */
 @Service
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtService jwtService;
+    private final Executor executor;
 
     public AuthService(UserRepository userRepository,
-                       PasswordEncoder passwordEncoder,
-                       JwtService jwtService) {
+                       PasswordHasher passwordHasher,
+                       JwtService jwtService,
+                       @Qualifier("authExecutor") Executor executor) {
         this.userRepository = userRepository;
-        this.passwordEncoder = passwordEncoder;
+        this.passwordHasher = passwordHasher;
         this.jwtService = jwtService;
+        this.executor = executor;
     }
 
     /**
      * Registers a new mentor or mentee.
      *
      * @param request payload
-     * @return auth response
+     * @return auth response, completed once the password is hashed and the user stored
      */
-    public AuthResponse register(RegisterRequest request) {
+    public CompletableFuture<AuthResponse> register(RegisterRequest request) {
         if (userRepository.existsByEmailIgnoreCase(request.getEmail())) {
             throw new IllegalArgumentException("Email is already registered");
         }
         UserRole role = parseRole(request.getRole());
-        User user = new User(
-                UUID.randomUUID(),
-                request.getName(),
-                request.getEmail().toLowerCase(Locale.ROOT),
-                passwordEncoder.encode(request.getPassword()),
-                role,
-                Instant.now());
-        userRepository.save(user);
-        return new AuthResponse(jwtService.generateToken(user), toSummary(user));
+        return passwordHasher.hash(request.getPassword()).thenApplyAsync(passwordHash -> {
+            User user = new User(
+                    UUID.randomUUID(),
+                    request.getName(),
+                    request.getEmail().toLowerCase(Locale.ROOT),
+                    passwordHash,
+                    role,
+                    Instant.now());
+            userRepository.save(user);
+            return new AuthResponse(jwtService.generateToken(user), toSummary(user));
+        }, executor);
     }
 
     /**
      * Logs in an existing user.
      *
      * @param request login request
-     * @return auth response
+     * @return auth response, completed once the password is verified
      */
-    public AuthResponse login(LoginRequest request) {
+    public CompletableFuture<AuthResponse> login(LoginRequest request) {
         User user = userRepository.findByEmailIgnoreCase(request.getEmail())
                 .orElseThrow(() -> new BadCredentialsException("Invalid credentials"));
-        if (!passwordEncoder.matches(request.getPassword(), user.getPasswordHash())) {
-            throw new BadCredentialsException("Invalid credentials");
-        }
-        return new AuthResponse(jwtService.generateToken(user), toSummary(user));
+        return passwordHasher.verify(request.getPassword(), user.getPasswordHash()).thenApplyAsync(verification -> {
+            if (!verification.matches()) {
+                throw new BadCredentialsException("Invalid credentials");
+            }
+            if (verification.upgradedHash() != null) {
+                // hashes created before the cost was raised are upgraded while the password is at hand
+                userRepository.replacePasswordHash(user.getId(), user.getPasswordHash(), verification.upgradedHash());
+            }
+            return new AuthResponse(jwtService.generateToken(user), toSummary(user));
+        }, executor);
+    }
+
+    /**
+     * Issues a short-lived ticket for opening one event stream from a browser {@code EventSource}, which cannot send
+     * the login token in a header.
+     *
+     * @param principal  authenticated user
+     * @param streamPath path of the event stream
+     * @return ticket to pass as the stream's {@code ticket} query parameter
+     */
+    public StreamTicketResponse issueStreamTicket(UserPrincipal principal, String streamPath) {
+        return new StreamTicketResponse(jwtService.generateStreamTicket(principal, streamPath));
     }
 
     private UserSummary toSummary(User user) {
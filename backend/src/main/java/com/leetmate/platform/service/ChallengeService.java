@@ -8,32 +8,58 @@ import com.leetmate.platform.entity.StudyGroup;
 import com.leetmate.platform.exception.ResourceNotFoundException;
 import com.leetmate.platform.repository.ChallengeRepository;
 import com.leetmate.platform.repository.StudyGroupRepository;
+import com.leetmate.platform.util.ExpiringLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
 /**
- * Handles business logic for challenges.
+ * Handles business logic for challenges. Challenges never change after creation, so their responses are cached by
+ * identifier, and each group's challenge list is cached until a challenge is added to the group; the shorter TTL of
+ * the lists bounds staleness caused by challenges created through other nodes.
  */
 @Service
 public class ChallengeService {
 
     private final ChallengeRepository challengeRepository;
     private final StudyGroupRepository studyGroupRepository;
+    private final ExpiringLruCache<UUID, ChallengeResponse> challenges;
+    private final ExpiringLruCache<UUID, List<ChallengeResponse>> groupChallenges;
+    private final AtomicLong generation = new AtomicLong();
 
     /**
      * Creates a new service instance.
      *
-     * @param challengeRepository challenge repo
+     * @param challengeRepository  challenge repo
      * @param studyGroupRepository group repo
+     * @param meterRegistry        registry for cache metrics
+     * @param maxChallenges        cached challenges
+     * @param maxGroups            cached group challenge lists
+     * @param ttl                  lifetime of a cached challenge
+     * @param groupTtl             lifetime of a cached group challenge list
      */
     public ChallengeService(ChallengeRepository challengeRepository,
-                            StudyGroupRepository studyGroupRepository) {
+                            StudyGroupRepository studyGroupRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.challenge-cache.max-challenges:10000}") int maxChallenges,
+                            @Value("${app.challenge-cache.max-groups:2000}") int maxGroups,
+                            @Value("${app.challenge-cache.ttl:PT1H}") Duration ttl,
+                            @Value("${app.challenge-cache.group-ttl:PT1M}") Duration groupTtl) {
         this.challengeRepository = challengeRepository;
         this.studyGroupRepository = studyGroupRepository;
+        this.challenges = new ExpiringLruCache<>(maxChallenges, ttl);
+        this.groupChallenges = new ExpiringLruCache<>(maxGroups, groupTtl);
+        register(meterRegistry, "challenges", challenges);
+        register(meterRegistry, "group_lists", groupChallenges);
     }
 
     /**
@@ -59,7 +85,13 @@ public class ChallengeService {
                 request.getDescription(), request.getLanguage().toLowerCase(Locale.ROOT),
                 difficulty, request.getStarterCode(), Instant.now());
         challengeRepository.save(challenge);
-        return toResponse(challenge);
+        ChallengeResponse response = toResponse(challenge);
+        challenges.put(response.getId(), response);
+        synchronized (this) {
+            generation.incrementAndGet();
+            groupChallenges.invalidate(groupId);
+        }
+        return response;
     }
 
     /**
@@ -69,10 +101,22 @@ public class ChallengeService {
      * @return list response
      */
     public List<ChallengeResponse> listGroupChallenges(UUID groupId) {
+        List<ChallengeResponse> cached = groupChallenges.get(groupId);
+        if (cached != null) {
+            return cached;
+        }
+        long observed = generation.get();
         ensureGroupExists(groupId);
-        return challengeRepository.findByGroup_IdOrderByCreatedAtDesc(groupId).stream()
+        List<ChallengeResponse> loaded = challengeRepository.findByGroup_IdOrderByCreatedAtDesc(groupId).stream()
                 .map(this::toResponse)
                 .toList();
+        synchronized (this) {
+            // a challenge created while loading may be missing from the list, so do not cache it
+            if (generation.get() == observed) {
+                groupChallenges.put(groupId, loaded);
+            }
+        }
+        return loaded;
     }
 
     /**
@@ -82,18 +126,27 @@ public class ChallengeService {
      * @return representation
      */
     public ChallengeResponse getChallenge(UUID challengeId) {
-        return toResponse(findChallenge(challengeId));
+        ChallengeResponse cached = challenges.get(challengeId);
+        if (cached != null) {
+            return cached;
+        }
+        ChallengeResponse loaded = challengeRepository.findById(challengeId)
+                .map(this::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Challenge %s not found".formatted(challengeId)));
+        challenges.put(challengeId, loaded);
+        return loaded;
     }
 
     /**
-     * Ensures the challenge exists and returns the entity.
+     * Ensures the challenge exists and returns a reference for associating other entities with it. The challenge row
+     * is not loaded unless the reference is used for more than its identifier.
      *
      * @param challengeId identifier
-     * @return entity
+     * @return uninitialized entity reference
      */
-    public Challenge findChallenge(UUID challengeId) {
-        return challengeRepository.findById(challengeId)
-                .orElseThrow(() -> new ResourceNotFoundException("Challenge %s not found".formatted(challengeId)));
+    public Challenge getChallengeReference(UUID challengeId) {
+        getChallenge(challengeId);
+        return challengeRepository.getReferenceById(challengeId);
     }
 
     private ChallengeResponse toResponse(Challenge challenge) {
@@ -102,6 +155,23 @@ public class ChallengeService {
                 challenge.getStarterCode(), challenge.getCreatedAt());
     }
 
+    private static void register(MeterRegistry registry, String name, ExpiringLruCache<?, ?> cache) {
+        FunctionCounter.builder("challenge.cache.lookups", cache, ExpiringLruCache::hitCount)
+                .description("Challenge cache lookups by cache and outcome")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("challenge.cache.lookups", cache, ExpiringLruCache::missCount)
+                .description("Challenge cache lookups by cache and outcome")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("challenge.cache.size", cache, ExpiringLruCache::size)
+                .description("Entries held in the challenge cache")
+                .tag("cache", name)
+                .register(registry);
+    }
+
     private StudyGroup ensureGroupExists(UUID groupId) {
         return studyGroupRepository.findById(groupId)
                 .orElseThrow(() -> new ResourceNotFoundException("Group %s not found".formatted(groupId)));
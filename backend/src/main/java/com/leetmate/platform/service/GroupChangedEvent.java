@@ -0,0 +1,12 @@
+package com.leetmate.platform.service;
+
+import java.util.UUID;
+
+/**
+ * Published when a group is created or its details change; membership changes publish
+ * {@link GroupMembersChangedEvent} instead.
+ *
+ * @param groupId group identifier
+ */
+public record GroupChangedEvent(UUID groupId) {
+}
@@ -5,6 +5,7 @@ import com.leetmate.platform.dto.chat.CreateThreadRequest;
 import com.leetmate.platform.dto.chat.MessageResponse;
 import com.leetmate.platform.dto.chat.UpdateMessageRequest;
 import com.leetmate.platform.dto.chat.ThreadResponse;
+import com.leetmate.platform.dto.common.CursorPageResponse;
 import com.leetmate.platform.dto.common.PageResponse;
 import com.leetmate.platform.entity.ChatMessage;
 import com.leetmate.platform.entity.ChatThread;
@@ -13,17 +14,26 @@ import com.leetmate.platform.entity.User;
 import com.leetmate.platform.exception.ResourceNotFoundException;
 import com.leetmate.platform.repository.ChatMessageRepository;
 import com.leetmate.platform.repository.ChatThreadRepository;
-import com.leetmate.platform.repository.GroupMemberRepository;
 import com.leetmate.platform.repository.StudyGroupRepository;
 import com.leetmate.platform.repository.UserRepository;
+import com.leetmate.platform.service.realtime.ChatEvent;
+import com.leetmate.platform.service.realtime.ChatEventType;
+import com.leetmate.platform.service.realtime.ChatFanoutHub;
+import com.leetmate.platform.util.KeysetCursor;
 import java.time.Instant;
+import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 public class GroupChatService {
@@ -33,19 +43,25 @@ public class GroupChatService {
     private final ChatThreadRepository chatThreadRepository;
     private final ChatMessageRepository chatMessageRepository;
     private final StudyGroupRepository studyGroupRepository;
-    private final GroupMemberRepository groupMemberRepository;
+    private final GroupMembershipCache membershipCache;
     private final UserRepository userRepository;
+    private final ChatFanoutHub fanoutHub;
+    private final ApplicationEventPublisher eventPublisher;
 
     public GroupChatService(ChatThreadRepository chatThreadRepository,
                             ChatMessageRepository chatMessageRepository,
                             StudyGroupRepository studyGroupRepository,
-                            GroupMemberRepository groupMemberRepository,
-                            UserRepository userRepository) {
+                            GroupMembershipCache membershipCache,
+                            UserRepository userRepository,
+                            ChatFanoutHub fanoutHub,
+                            ApplicationEventPublisher eventPublisher) {
         this.chatThreadRepository = chatThreadRepository;
         this.chatMessageRepository = chatMessageRepository;
         this.studyGroupRepository = studyGroupRepository;
-        this.groupMemberRepository = groupMemberRepository;
+        this.membershipCache = membershipCache;
         this.userRepository = userRepository;
+        this.fanoutHub = fanoutHub;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -95,6 +111,33 @@ public class GroupChatService {
         );
     }
 
+    /**
+     * Lists threads newest first using keyset pagination, avoiding the count query and offset scan of
+     * {@link #listThreads}.
+     *
+     * @param groupId     group identifier
+     * @param requesterId caller identifier
+     * @param after       cursor returned by the previous slice, {@code null} for the first slice
+     * @param size        slice size
+     * @return slice of threads with the cursor of the next slice
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<ThreadResponse> listThreadsAfter(UUID groupId, UUID requesterId, String after, int size) {
+        validateSliceSize(size);
+        StudyGroup group = findGroup(groupId);
+        ensureGroupAccess(group, requesterId);
+        Pageable pageable = PageRequest.ofSize(size);
+        Slice<ChatThread> slice;
+        if (after == null || after.isBlank()) {
+            slice = chatThreadRepository.findByGroupIdOrderByCreatedAtDescIdDesc(groupId, pageable);
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            slice = chatThreadRepository.findByGroupIdBefore(groupId, cursor.createdAt(), cursor.id(), pageable);
+        }
+        return toCursorPage(slice, size, this::toThreadResponse,
+                last -> new KeysetCursor(last.getCreatedAt(), last.getId()));
+    }
+
     @Transactional(readOnly = true)
     public ThreadResponse getThread(UUID threadId, UUID requesterId) {
         ChatThread thread = chatThreadRepository.findById(threadId)
@@ -138,7 +181,9 @@ public class GroupChatService {
                 parent
         );
         chatMessageRepository.save(message);
-        return toMessageResponse(message);
+        MessageResponse response = toMessageResponse(message);
+        eventPublisher.publishEvent(new ChatEvent(ChatEventType.MESSAGE_CREATED, threadId, response));
+        return response;
     }
 
     @Transactional
@@ -155,7 +200,9 @@ public class GroupChatService {
         if (!isMentor && !isAuthor) {
             throw new AccessDeniedException("Only mentors or message authors can delete messages");
         }
+        MessageResponse response = toMessageResponse(message);
         chatMessageRepository.delete(message);
+        eventPublisher.publishEvent(new ChatEvent(ChatEventType.MESSAGE_DELETED, threadId, response));
     }
 
     @Transactional
@@ -171,7 +218,24 @@ public class GroupChatService {
         }
         message.setContent(request.getContent());
         chatMessageRepository.save(message);
-        return toMessageResponse(message);
+        MessageResponse response = toMessageResponse(message);
+        eventPublisher.publishEvent(new ChatEvent(ChatEventType.MESSAGE_UPDATED, threadId, response));
+        return response;
+    }
+
+    /**
+     * Opens a server-sent event stream of message changes in a thread.
+     *
+     * @param threadId    thread identifier
+     * @param requesterId caller identifier
+     * @return emitter pushing {@link MessageResponse} events
+     */
+    @Transactional(readOnly = true)
+    public SseEmitter subscribe(UUID threadId, UUID requesterId) {
+        ChatThread thread = chatThreadRepository.findById(threadId)
+                .orElseThrow(() -> new ResourceNotFoundException("Thread %s not found".formatted(threadId)));
+        ensureGroupAccess(thread.getGroup(), requesterId);
+        return fanoutHub.subscribe(threadId, thread.getGroup().getId(), requesterId);
     }
 
     @Transactional(readOnly = true)
@@ -192,6 +256,45 @@ public class GroupChatService {
         );
     }
 
+    /**
+     * Lists messages in chronological order using keyset pagination, avoiding the count query and offset scan of
+     * {@link #listMessages}.
+     *
+     * @param threadId    thread identifier
+     * @param requesterId caller identifier
+     * @param after       cursor returned by the previous slice, {@code null} for the first slice
+     * @param size        slice size
+     * @return slice of messages with the cursor of the next slice
+     */
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MessageResponse> listMessagesAfter(UUID threadId, UUID requesterId, String after, int size) {
+        validateSliceSize(size);
+        ChatThread thread = chatThreadRepository.findById(threadId)
+                .orElseThrow(() -> new ResourceNotFoundException("Thread %s not found".formatted(threadId)));
+        ensureGroupAccess(thread.getGroup(), requesterId);
+        Pageable pageable = PageRequest.ofSize(size);
+        Slice<ChatMessage> slice;
+        if (after == null || after.isBlank()) {
+            slice = chatMessageRepository.findByThreadIdOrderByCreatedAtAscIdAsc(threadId, pageable);
+        } else {
+            KeysetCursor cursor = KeysetCursor.decode(after);
+            slice = chatMessageRepository.findByThreadIdAfter(threadId, cursor.createdAt(), cursor.id(), pageable);
+        }
+        return toCursorPage(slice, size, this::toMessageResponse,
+                last -> new KeysetCursor(last.getCreatedAt(), last.getId()));
+    }
+
+    private <E, R> CursorPageResponse<R> toCursorPage(Slice<E> slice,
+                                                      int size,
+                                                      Function<E, R> mapper,
+                                                      Function<E, KeysetCursor> cursorOf) {
+        List<E> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? cursorOf.apply(content.get(content.size() - 1)).encode()
+                : null;
+        return new CursorPageResponse<>(content.stream().map(mapper).toList(), size, nextCursor);
+    }
+
     private ThreadResponse toThreadResponse(ChatThread thread) {
         return new ThreadResponse(
                 thread.getId(),
@@ -222,8 +325,7 @@ public class GroupChatService {
         if (group.getMentor() != null && group.getMentor().getId().equals(userId)) {
             return;
         }
-        boolean isMember = groupMemberRepository.existsByGroupIdAndMemberId(group.getId(), userId);
-        if (!isMember) {
+        if (!membershipCache.isMember(group.getId(), userId)) {
             throw new AccessDeniedException("You are not part of this group");
         }
     }
@@ -240,6 +342,10 @@ public class GroupChatService {
 
     private void validatePagination(int page, int size) {
         Assert.isTrue(page >= 0, "page must be greater or equal to 0");
+        validateSliceSize(size);
+    }
+
+    private void validateSliceSize(int size) {
         Assert.isTrue(size > 0 && size <= MAX_PAGE_SIZE, "size must be between 1 and " + MAX_PAGE_SIZE);
     }
 }
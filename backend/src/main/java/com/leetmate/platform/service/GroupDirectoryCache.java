@@ -0,0 +1,137 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.dto.common.PageResponse;
+import com.leetmate.platform.dto.group.GroupResponse;
+import com.leetmate.platform.util.ExpiringLruCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Read-through cache of the first pages of the public group directory and of single group responses. Entries are
+ * dropped once a {@link GroupChangedEvent} commits; a short TTL bounds staleness caused by changes made through other
+ * nodes. Creating or editing a group invalidates every cached page, since a new group shifts all of them. Joins and
+ * leaves only drop the group's own entry: member counts on directory pages may lag by up to the TTL, so a burst of
+ * joins does not keep the directory uncached.
+ */
+@Component
+public class GroupDirectoryCache {
+
+    private final int cachedPages;
+    private final ExpiringLruCache<PageKey, PageResponse<GroupResponse>> pages;
+    private final ExpiringLruCache<UUID, GroupResponse> groups;
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * Creates the cache.
+     *
+     * @param meterRegistry registry for lookup metrics
+     * @param cachedPages   directory pages, counted from the first, that are cached
+     * @param maxPages      cached directory pages across all page sizes
+     * @param maxGroups     cached single group responses
+     * @param ttl           lifetime of an entry
+     */
+    public GroupDirectoryCache(MeterRegistry meterRegistry,
+                               @Value("${app.group-directory-cache.cached-pages:5}") int cachedPages,
+                               @Value("${app.group-directory-cache.max-pages:50}") int maxPages,
+                               @Value("${app.group-directory-cache.max-groups:2000}") int maxGroups,
+                               @Value("${app.group-directory-cache.ttl:PT30S}") Duration ttl) {
+        this.cachedPages = cachedPages;
+        this.pages = new ExpiringLruCache<>(maxPages, ttl);
+        this.groups = new ExpiringLruCache<>(maxGroups, ttl);
+        register(meterRegistry, "pages", pages);
+        register(meterRegistry, "groups", groups);
+    }
+
+    /**
+     * Returns a directory page, loading it on a miss.
+     *
+     * @param page   page index
+     * @param size   page size
+     * @param loader builds the page from the database
+     * @return cached or freshly loaded page
+     */
+    public PageResponse<GroupResponse> page(int page, int size, Supplier<PageResponse<GroupResponse>> loader) {
+        if (page >= cachedPages) {
+            return loader.get();
+        }
+        PageKey key = new PageKey(page, size);
+        PageResponse<GroupResponse> cached = pages.get(key);
+        return cached != null ? cached : load(pages, key, loader);
+    }
+
+    /**
+     * Returns a single group, loading it on a miss.
+     *
+     * @param groupId group identifier
+     * @param loader  builds the response from the database
+     * @return cached or freshly loaded group
+     */
+    public GroupResponse group(UUID groupId, Supplier<GroupResponse> loader) {
+        GroupResponse cached = groups.get(groupId);
+        return cached != null ? cached : load(groups, groupId, loader);
+    }
+
+    /**
+     * Drops the changed group and every directory page once the change has committed.
+     *
+     * @param event change notification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupChanged(GroupChangedEvent event) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            groups.invalidate(event.groupId());
+            pages.invalidateAll();
+        }
+    }
+
+    /**
+     * Drops the group whose members changed once the change has committed. Directory pages are left to expire.
+     *
+     * @param event change notification
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupMembersChanged(GroupMembersChangedEvent event) {
+        groups.invalidate(event.groupId());
+    }
+
+    private <K, V> V load(ExpiringLruCache<K, V> cache, K key, Supplier<V> loader) {
+        long observed = generation.get();
+        V loaded = loader.get();
+        synchronized (this) {
+            // a change committed while loading may be missing from the result, so do not cache it
+            if (generation.get() == observed) {
+                cache.put(key, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private static void register(MeterRegistry registry, String name, ExpiringLruCache<?, ?> cache) {
+        FunctionCounter.builder("group.directory.cache.lookups", cache, ExpiringLruCache::hitCount)
+                .description("Group directory cache lookups by cache and outcome")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("group.directory.cache.lookups", cache, ExpiringLruCache::missCount)
+                .description("Group directory cache lookups by cache and outcome")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("group.directory.cache.size", cache, ExpiringLruCache::size)
+                .description("Entries held in the group directory cache")
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    private record PageKey(int page, int size) {
+    }
+}
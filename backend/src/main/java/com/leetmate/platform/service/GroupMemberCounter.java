@@ -0,0 +1,109 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.entity.StudyGroup;
+import com.leetmate.platform.repository.StudyGroupRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps {@code study_groups.member_count} off the join and leave path. Joins and leaves only add or remove a
+ * {@code group_members} row and record a node-local pending delta once they commit; {@link #flush()} periodically
+ * recounts the touched groups from {@code group_members} in one statement, so a popular group's row is written once
+ * per interval instead of once per join and the stored count is exact after every flush. Responses add the pending
+ * delta to the stored count. {@link #reconcile()} repairs counts whose pending deltas were lost, e.g. on a crash.
+ */
+@Component
+public class GroupMemberCounter {
+
+    private static final Logger log = LoggerFactory.getLogger(GroupMemberCounter.class);
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final StudyGroupRepository repository;
+    private final ConcurrentMap<UUID, Integer> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Creates the counter. The flush and reconcile intervals are set by {@code app.group-members.flush-interval}
+     * and {@code app.group-members.reconcile-interval}.
+     *
+     * @param repository recounts and reads the stored member counts
+     */
+    public GroupMemberCounter(StudyGroupRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Counts a membership change once the surrounding transaction commits.
+     *
+     * @param group group whose membership changed
+     * @param delta {@code 1} for a join, {@code -1} for a leave
+     * @return member count including this change
+     */
+    public int change(StudyGroup group, int delta) {
+        int expected = count(group) + delta;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(group.getId(), delta);
+                }
+            });
+        } else {
+            add(group.getId(), delta);
+        }
+        return expected;
+    }
+
+    /**
+     * @param group group as loaded from the database
+     * @return stored member count plus changes this node has not flushed yet
+     */
+    public int count(StudyGroup group) {
+        return Math.max(0, group.getMemberCount() + pending.getOrDefault(group.getId(), 0));
+    }
+
+    /**
+     * Recounts the members of every group changed on this node since the last flush. Each chunk commits on its own
+     * and the flushed deltas are only dropped afterwards, so the estimate never undercounts in between.
+     */
+    @Scheduled(fixedDelayString = "${app.group-members.flush-interval:PT1S}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<UUID, Integer> flushed = new HashMap<>(pending);
+        List<UUID> groupIds = new ArrayList<>(flushed.keySet());
+        for (int from = 0; from < groupIds.size(); from += FLUSH_BATCH_SIZE) {
+            repository.recountMembers(groupIds.subList(from, Math.min(groupIds.size(), from + FLUSH_BATCH_SIZE)));
+        }
+        // changes committed after the snapshot stay pending; any already included in the recount are settled by the
+        // next flush
+        flushed.forEach((groupId, delta) -> add(groupId, -delta));
+    }
+
+    /**
+     * Corrects every stored count that disagrees with the memberships.
+     */
+    @Scheduled(fixedDelayString = "${app.group-members.reconcile-interval:PT1H}",
+            initialDelayString = "${app.group-members.reconcile-interval:PT1H}")
+    public void reconcile() {
+        int corrected = repository.reconcileMemberCounts();
+        if (corrected > 0) {
+            log.warn("Corrected the member count of {} groups", corrected);
+        }
+    }
+
+    private void add(UUID groupId, int delta) {
+        pending.merge(groupId, delta, (current, change) -> current + change == 0 ? null : current + change);
+    }
+}
@@ -0,0 +1,13 @@
+package com.leetmate.platform.service;
+
+import java.util.UUID;
+
+/**
+ * Published when a member joins or leaves a group.
+ *
+ * @param groupId  group identifier
+ * @param memberId user who joined or left
+ * @param joined   {@code true} for a join, {@code false} for a leave
+ */
+public record GroupMembersChangedEvent(UUID groupId, UUID memberId, boolean joined) {
+}
@@ -0,0 +1,97 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.repository.GroupMemberRepository;
+import com.leetmate.platform.util.ExpiringLruCache;
+import com.leetmate.platform.util.UuidSet;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * In-memory view of group memberships used for authorization checks. Each cached group holds its member ids in a
+ * compact {@link UuidSet}; {@link GroupService} applies joins and leaves once they commit, and a TTL bounds staleness
+ * caused by changes made through other nodes.
+ */
+@Component
+public class GroupMembershipCache {
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final ExpiringLruCache<UUID, UuidSet> members;
+    private final AtomicLong generation = new AtomicLong();
+
+    public GroupMembershipCache(GroupMemberRepository groupMemberRepository,
+                                @Value("${app.membership-cache.max-groups:5000}") int maxGroups,
+                                @Value("${app.membership-cache.ttl:PT10M}") Duration ttl) {
+        this.groupMemberRepository = groupMemberRepository;
+        this.members = new ExpiringLruCache<>(maxGroups, ttl);
+    }
+
+    /**
+     * @param groupId group identifier
+     * @param userId  user identifier
+     * @return whether the user joined the group
+     */
+    public boolean isMember(UUID groupId, UUID userId) {
+        UuidSet cached = members.get(groupId);
+        if (cached == null) {
+            cached = load(groupId);
+        }
+        return cached.contains(userId);
+    }
+
+    /**
+     * Records a new membership once the surrounding transaction commits.
+     *
+     * @param groupId group identifier
+     * @param userId  member identifier
+     */
+    public void memberJoined(UUID groupId, UUID userId) {
+        afterCommit(groupId, set -> set.with(userId));
+    }
+
+    /**
+     * Records a removed membership once the surrounding transaction commits.
+     *
+     * @param groupId group identifier
+     * @param userId  former member identifier
+     */
+    public void memberLeft(UUID groupId, UUID userId) {
+        afterCommit(groupId, set -> set.without(userId));
+    }
+
+    private UuidSet load(UUID groupId) {
+        long observed = generation.get();
+        UuidSet loaded = UuidSet.of(groupMemberRepository.findMemberIdsByGroupId(groupId));
+        synchronized (this) {
+            // a membership change committed while loading may be missing from the snapshot, so do not cache it
+            if (generation.get() == observed) {
+                members.put(groupId, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    private void afterCommit(UUID groupId, UnaryOperator<UuidSet> change) {
+        Runnable apply = () -> {
+            synchronized (this) {
+                generation.incrementAndGet();
+                members.update(groupId, change);
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply.run();
+                }
+            });
+        } else {
+            apply.run();
+        }
+    }
+}
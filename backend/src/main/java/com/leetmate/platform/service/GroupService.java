@@ -14,6 +14,7 @@ import com.leetmate.platform.repository.UserRepository;
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.security.access.AccessDeniedException;
@@ -32,6 +33,10 @@ public class GroupService {
     private final StudyGroupRepository repository;
     private final UserRepository userRepository;
     private final GroupMemberRepository groupMemberRepository;
+    private final GroupMembershipCache membershipCache;
+    private final GroupMemberCounter memberCounter;
+    private final GroupDirectoryCache directoryCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Creates a new service with the in-memory repository.
@@ -40,10 +45,18 @@ public class GroupService {
      */
     public GroupService(StudyGroupRepository repository,
         UserRepository userRepository,
-        GroupMemberRepository groupMemberRepository) {
+        GroupMemberRepository groupMemberRepository,
+        GroupMembershipCache membershipCache,
+        GroupMemberCounter memberCounter,
+        GroupDirectoryCache directoryCache,
+        ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
         this.userRepository = userRepository;
         this.groupMemberRepository = groupMemberRepository;
+        this.membershipCache = membershipCache;
+        this.memberCounter = memberCounter;
+        this.directoryCache = directoryCache;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -76,6 +89,7 @@ public class GroupService {
             Instant.now()
         );
         groupMemberRepository.save(mentorMembership);
+        eventPublisher.publishEvent(new GroupChangedEvent(group.getId()));
 
         return toResponse(group);
     }
@@ -93,11 +107,12 @@ public class GroupService {
         group.setDescription(request.getDescription());
         group.setTags(request.getTags());
         repository.save(group);
+        eventPublisher.publishEvent(new GroupChangedEvent(groupId));
         return toResponse(group);
     }
 
     /**
-     * Lists groups with pagination.
+     * Lists groups with pagination; the first pages are served from {@link GroupDirectoryCache}.
      *
      * @param page requested page
      * @param size requested size
@@ -105,15 +120,7 @@ public class GroupService {
      */
     public PageResponse<GroupResponse> listGroups(int page, int size) {
         validatePagination(page, size);
-        PageRequest pageable = PageRequest.of(page, size);
-        Page<GroupResponse> groupPage = repository.findAllByOrderByCreatedAtDesc(pageable)
-            .map(this::toResponse);
-        return new PageResponse<>(
-            groupPage.getContent(),
-            groupPage.getNumber(),
-            groupPage.getSize(),
-            groupPage.getTotalElements(),
-            groupPage.getTotalPages());
+        return directoryCache.page(page, size, () -> loadGroups(page, size));
     }
 
     /**
@@ -123,11 +130,12 @@ public class GroupService {
      * @return response
      */
     public GroupResponse getGroup(UUID groupId) {
-        return toResponse(find(groupId));
+        return directoryCache.group(groupId, () -> toResponse(find(groupId)));
     }
 
     /**
-     * Increments member count when a mentee joins.
+     * Adds a mentee to a group. The stored member count is updated by {@link GroupMemberCounter} after commit, so
+     * concurrent joins never contend on the group row.
      *
      * @param groupId identifier
      * @return updated response
@@ -141,13 +149,15 @@ public class GroupService {
         }
         GroupMember membership = new GroupMember(UUID.randomUUID(), group, member, Instant.now());
         groupMemberRepository.save(membership);
-        group.incrementMembers();
-        repository.save(group);
-        return toResponse(group);
+        membershipCache.memberJoined(groupId, userId);
+        int memberCount = memberCounter.change(group, 1);
+        // published after the count change so the cache is invalidated after the counter has applied it
+        eventPublisher.publishEvent(new GroupMembersChangedEvent(groupId, userId, true));
+        return toResponse(group, memberCount);
     }
 
     /**
-     * Decrements member count when a mentee leaves.
+     * Removes a mentee from a group; see {@link #joinGroup(UUID, UUID)} for the member count.
      *
      * @param groupId identifier
      * @return updated response
@@ -158,9 +168,10 @@ public class GroupService {
         var membership = groupMemberRepository.findByGroupIdAndMemberId(groupId, userId)
             .orElseThrow(() -> new ResourceNotFoundException("You are not a member of this group"));
         groupMemberRepository.delete(membership);
-        group.decrementMembers();
-        repository.save(group);
-        return toResponse(group);
+        membershipCache.memberLeft(groupId, userId);
+        int memberCount = memberCounter.change(group, -1);
+        eventPublisher.publishEvent(new GroupMembersChangedEvent(groupId, userId, false));
+        return toResponse(group, memberCount);
     }
 
     /**
@@ -220,9 +231,25 @@ public class GroupService {
             .orElseThrow(() -> new ResourceNotFoundException("Group %s not found".formatted(groupId)));
     }
 
+    private PageResponse<GroupResponse> loadGroups(int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size);
+        Page<GroupResponse> groupPage = repository.findAllByOrderByCreatedAtDesc(pageable)
+            .map(this::toResponse);
+        return new PageResponse<>(
+            groupPage.getContent(),
+            groupPage.getNumber(),
+            groupPage.getSize(),
+            groupPage.getTotalElements(),
+            groupPage.getTotalPages());
+    }
+
     private GroupResponse toResponse(StudyGroup group) {
+        return toResponse(group, memberCounter.count(group));
+    }
+
+    private GroupResponse toResponse(StudyGroup group, int memberCount) {
         return new GroupResponse(group.getId(), group.getName(), group.getDescription(),
-            group.getTags(), group.getMemberCount(), group.getCreatedAt(),
+            group.getTags(), memberCount, group.getCreatedAt(),
             group.getMentor() != null ? group.getMentor().getId() : null,
             group.getMentor() != null ? group.getMentor().getName() : null);
     }
@@ -4,6 +4,7 @@ import com.leetmate.platform.entity.PasswordResetToken;
 import com.leetmate.platform.entity.User;
 import com.leetmate.platform.repository.PasswordResetTokenRepository;
 import com.leetmate.platform.repository.UserRepository;
+import com.leetmate.platform.security.PrincipalCache;
 import com.leetmate.platform.service.notification.PasswordResetNotifier;
 import java.time.Duration;
 import java.time.Instant;
@@ -25,15 +26,18 @@ public class PasswordResetService {
     private final PasswordResetTokenRepository tokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final PasswordResetNotifier notifier;
+    private final PrincipalCache principalCache;
 
     public PasswordResetService(UserRepository userRepository,
                                 PasswordResetTokenRepository tokenRepository,
                                 PasswordEncoder passwordEncoder,
-                                PasswordResetNotifier notifier) {
+                                PasswordResetNotifier notifier,
+                                PrincipalCache principalCache) {
         this.userRepository = userRepository;
         this.tokenRepository = tokenRepository;
         this.passwordEncoder = passwordEncoder;
         this.notifier = notifier;
+        this.principalCache = principalCache;
     }
 
     /**
@@ -80,5 +84,6 @@ public class PasswordResetService {
         token.markUsed(now);
         userRepository.save(user);
         tokenRepository.save(token);
+        principalCache.evict(user.getId());
     }
 }
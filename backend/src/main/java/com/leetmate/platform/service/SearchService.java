@@ -0,0 +1,72 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.dto.common.PageResponse;
+import com.leetmate.platform.dto.search.SearchResultResponse;
+import com.leetmate.platform.dto.search.SearchResultType;
+import com.leetmate.platform.repository.SearchRepository;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+
+/**
+ * Ranked full-text search across groups, challenges and the chat messages a user may read.
+ */
+@Service
+public class SearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final SearchRepository searchRepository;
+
+    /**
+     * Creates a new service instance.
+     *
+     * @param searchRepository native full-text search queries
+     */
+    public SearchService(SearchRepository searchRepository) {
+        this.searchRepository = searchRepository;
+    }
+
+    /**
+     * Searches the given kinds of content.
+     *
+     * @param userId searching user
+     * @param query  search terms in web search syntax
+     * @param types  kinds of results to include, all when empty or {@code null}
+     * @param page   requested page
+     * @param size   requested size
+     * @return results ordered by relevance
+     */
+    @Transactional(readOnly = true)
+    public PageResponse<SearchResultResponse> search(UUID userId, String query, Collection<SearchResultType> types,
+                                                     int page, int size) {
+        Assert.hasText(query, "query must not be blank");
+        Assert.isTrue(query.length() <= MAX_QUERY_LENGTH,
+                "query must be at most " + MAX_QUERY_LENGTH + " characters");
+        Assert.isTrue(page >= 0, "page must be greater or equal to 0");
+        Assert.isTrue(size > 0 && size <= MAX_PAGE_SIZE, "size must be between 1 and " + MAX_PAGE_SIZE);
+        Set<SearchResultType> searched = types == null || types.isEmpty()
+                ? EnumSet.allOf(SearchResultType.class) : EnumSet.copyOf(types);
+        boolean groups = searched.contains(SearchResultType.GROUP);
+        boolean challenges = searched.contains(SearchResultType.CHALLENGE);
+        boolean messages = searched.contains(SearchResultType.MESSAGE);
+
+        List<SearchResultResponse> results = searchRepository
+                .search(query, groups, challenges, messages, userId, size, Math.multiplyExact(page, size))
+                .stream()
+                .map(hit -> new SearchResultResponse(SearchResultType.valueOf(hit.getKind()), hit.getId(),
+                        hit.getGroupId(), hit.getTitle(), hit.getSnippet(), hit.getRank()))
+                .toList();
+        // a short, non-empty page is the last one, so only full or out-of-range pages need the count query
+        long total = results.size() < size && (page == 0 || !results.isEmpty())
+                ? (long) page * size + results.size()
+                : searchRepository.countResults(query, groups, challenges, messages, userId);
+        return new PageResponse<>(results, page, size, total, (int) ((total + size - 1) / size));
+    }
+}
@@ -0,0 +1,225 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.ai.AiReviewPriority;
+import com.leetmate.platform.ai.AiReviewResult;
+import com.leetmate.platform.ai.ReactiveAiReviewProvider;
+import com.leetmate.platform.analysis.CodeAnalyzerRegistry;
+import com.leetmate.platform.analysis.CodeMetrics;
+import com.leetmate.platform.entity.ReviewStatus;
+import com.leetmate.platform.entity.Submission;
+import com.leetmate.platform.entity.SubmissionReview;
+import com.leetmate.platform.repository.SubmissionRepository;
+import com.leetmate.platform.service.realtime.ReviewStreamHub;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Generates AI reviews for persisted submissions so the submit request never waits on the LLM round trip. The LLM
+ * call itself is non-blocking; loading, complexity calculation and persistence run on a bounded background pool.
+ * Because a pool thread is free again while the LLM answers, the number of reviews in progress is capped separately:
+ * a review holds one of {@code app.submission-review.pool-size} slots until its reactive chain terminates, and
+ * further reviews wait in a bounded queue. The answer text is relayed to {@link ReviewStreamHub} while it is
+ * generated.
+ */
+@Component
+public class SubmissionReviewWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(SubmissionReviewWorker.class);
+    private static final int RECOVERY_BATCH_SIZE = 100;
+
+    private final SubmissionRepository submissionRepository;
+    private final ReactiveAiReviewProvider aiReviewProvider;
+    private final CodeAnalyzerRegistry codeAnalyzers;
+    private final Executor executor;
+    private final Scheduler scheduler;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ReviewStreamHub reviewStreams;
+    private final Duration recoveryGracePeriod;
+    private final Set<UUID> inFlight = ConcurrentHashMap.newKeySet();
+    private final Semaphore reviewSlots;
+    private final Queue<PendingReview> waiting;
+
+    /**
+     * Creates the worker.
+     *
+     * @param submissionRepository repository
+     * @param aiReviewProvider     AI provider
+     * @param codeAnalyzers        language-aware code analyzers
+     * @param executor             bounded review pool
+     * @param eventPublisher       publisher for completion events
+     * @param reviewStreams        relay of review text to live subscribers
+     * @param maxConcurrentReviews reviews in progress at once, from loading the submission to storing the review
+     * @param queueCapacity        reviews waiting for a free slot before new ones are left to the recovery sweep
+     * @param recoveryGracePeriod  age after which pending submissions are re-dispatched
+     */
+    public SubmissionReviewWorker(SubmissionRepository submissionRepository,
+                                  ReactiveAiReviewProvider aiReviewProvider,
+                                  CodeAnalyzerRegistry codeAnalyzers,
+                                  @Qualifier("submissionReviewExecutor") Executor executor,
+                                  ApplicationEventPublisher eventPublisher,
+                                  ReviewStreamHub reviewStreams,
+                                  @Value("${app.submission-review.pool-size:4}") int maxConcurrentReviews,
+                                  @Value("${app.submission-review.queue-capacity:500}") int queueCapacity,
+                                  @Value("${app.submission-review.recovery-grace-period:PT2M}")
+                                  Duration recoveryGracePeriod) {
+        Assert.isTrue(maxConcurrentReviews > 0, "maxConcurrentReviews must be positive");
+        Assert.isTrue(queueCapacity > 0, "queueCapacity must be positive");
+        this.submissionRepository = submissionRepository;
+        this.aiReviewProvider = aiReviewProvider;
+        this.codeAnalyzers = codeAnalyzers;
+        this.executor = executor;
+        this.scheduler = Schedulers.fromExecutor(executor);
+        this.eventPublisher = eventPublisher;
+        this.reviewStreams = reviewStreams;
+        this.recoveryGracePeriod = recoveryGracePeriod;
+        this.reviewSlots = new Semaphore(maxConcurrentReviews);
+        this.waiting = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    /**
+     * Schedules the review of a submission. When called inside a transaction the task is dispatched after commit so
+     * the worker always sees the persisted row.
+     *
+     * @param submissionId submission identifier
+     */
+    public void enqueue(UUID submissionId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(submissionId, AiReviewPriority.SUBMISSION);
+                }
+            });
+            return;
+        }
+        dispatch(submissionId, AiReviewPriority.SUBMISSION);
+    }
+
+    /**
+     * Re-dispatches submissions left pending by a full queue or a restart. The backlog is reviewed at bulk priority
+     * so it yields the OpenAI rate limit to fresh submissions.
+     */
+    @Scheduled(fixedDelayString = "${app.submission-review.recovery-interval:PT1M}",
+            initialDelayString = "${app.submission-review.recovery-interval:PT1M}")
+    public void recoverPendingReviews() {
+        Instant cutoff = Instant.now().minus(recoveryGracePeriod);
+        submissionRepository.findIdsByReviewStatusCreatedBefore(ReviewStatus.PENDING, cutoff,
+                        PageRequest.of(0, RECOVERY_BATCH_SIZE))
+                .forEach(submissionId -> dispatch(submissionId, AiReviewPriority.BULK_RESCORE));
+    }
+
+    private void dispatch(UUID submissionId, AiReviewPriority priority) {
+        if (!inFlight.add(submissionId)) {
+            return;
+        }
+        if (!waiting.offer(new PendingReview(submissionId, priority))) {
+            inFlight.remove(submissionId);
+            log.warn("Review queue is full, submission {} stays pending until the next recovery sweep", submissionId);
+            return;
+        }
+        startWaitingReviews();
+    }
+
+    /**
+     * Starts queued reviews while slots are free. A finishing review releases its slot before calling this and a new
+     * review is queued before, so a queued review is never left behind with a slot free.
+     */
+    private void startWaitingReviews() {
+        while (!waiting.isEmpty() && reviewSlots.tryAcquire()) {
+            PendingReview next = waiting.poll();
+            if (next == null) {
+                reviewSlots.release();
+                continue;
+            }
+            try {
+                executor.execute(() -> process(next.submissionId(), next.priority()));
+            } catch (RejectedExecutionException ex) {
+                inFlight.remove(next.submissionId());
+                reviewSlots.release();
+                log.warn("Review pool is full, submission {} stays pending until the next recovery sweep",
+                        next.submissionId());
+                return;
+            }
+        }
+    }
+
+    /**
+     * Reviews a submission while holding a review slot taken by the caller; the slot is given back once the review
+     * is stored or has failed.
+     */
+    void process(UUID submissionId, AiReviewPriority priority) {
+        Submission submission;
+        try {
+            submission = submissionRepository.findById(submissionId).orElse(null);
+        } catch (RuntimeException ex) {
+            finished(submissionId);
+            throw ex;
+        }
+        if (submission == null || submission.getReviewStatus() != ReviewStatus.PENDING) {
+            finished(submissionId);
+            return;
+        }
+        generateReview(submission, priority)
+                .then(Mono.fromRunnable(() -> complete(submission)))
+                .doFinally(signal -> finished(submissionId))
+                .subscribe(null, ex -> log.error("Failed to store review for submission {}", submissionId, ex));
+    }
+
+    private void finished(UUID submissionId) {
+        inFlight.remove(submissionId);
+        reviewSlots.release();
+        startWaitingReviews();
+    }
+
+    private Mono<Void> generateReview(Submission submission, AiReviewPriority priority) {
+        return aiReviewProvider.reviewAsync(submission.getLanguage(), submission.getCode(),
+                        text -> reviewStreams.append(submission.getId(), text))
+                .contextWrite(priority.asContext())
+                .publishOn(scheduler)
+                .switchIfEmpty(Mono.error(new IllegalStateException("AI provider returned no review")))
+                .doOnNext(result -> submission.attachReview(toReview(result, submission)))
+                .then()
+                .onErrorResume(ex -> {
+                    log.warn("AI review failed for submission {}", submission.getId(), ex);
+                    submission.markReviewFailed();
+                    return Mono.empty();
+                });
+    }
+
+    private SubmissionReview toReview(AiReviewResult reviewResult, Submission submission) {
+        CodeMetrics metrics = codeAnalyzers.analyze(submission.getLanguage(), submission.getCode());
+        return new SubmissionReview(UUID.randomUUID(),
+                reviewResult.getCreatedAt() == null ? Instant.now() : reviewResult.getCreatedAt(),
+                reviewResult.getSummary(), metrics.complexity(), reviewResult.getSuggestions(), metrics.functions());
+    }
+
+    private void complete(Submission submission) {
+        submissionRepository.save(submission);
+        eventPublisher.publishEvent(new SubmissionReviewedEvent(submission.getId(), submission.getReviewStatus()));
+    }
+
+    private record PendingReview(UUID submissionId, AiReviewPriority priority) {
+    }
+}
@@ -0,0 +1,13 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.entity.ReviewStatus;
+import java.util.UUID;
+
+/**
+ * Published once the background review of a submission has finished, successfully or not.
+ *
+ * @param submissionId submission identifier
+ * @param status       final review status
+ */
+public record SubmissionReviewedEvent(UUID submissionId, ReviewStatus status) {
+}
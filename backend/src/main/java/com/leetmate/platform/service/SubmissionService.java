@@ -1,24 +1,31 @@
 package com.leetmate.platform.service;
 
-import com.leetmate.platform.ai.AiReviewProvider;
-import com.leetmate.platform.ai.AiReviewResult;
 import com.leetmate.platform.dto.common.PageResponse;
+import com.leetmate.platform.dto.submission.FunctionMetricsResponse;
 import com.leetmate.platform.dto.submission.ReviewResponse;
 import com.leetmate.platform.dto.submission.SubmissionResponse;
+import com.leetmate.platform.dto.submission.SubmissionSummaryResponse;
 import com.leetmate.platform.dto.submission.SubmitSolutionRequest;
 import com.leetmate.platform.entity.Challenge;
+import com.leetmate.platform.entity.ReviewStatus;
 import com.leetmate.platform.entity.Submission;
-import com.leetmate.platform.entity.SubmissionReview;
 import com.leetmate.platform.exception.ResourceNotFoundException;
 import com.leetmate.platform.repository.SubmissionRepository;
 import com.leetmate.platform.repository.UserRepository;
-import com.leetmate.platform.util.CyclomaticComplexityCalculator;
+import com.leetmate.platform.service.realtime.ReviewStreamHub;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Coordinates submission persistence, AI reviews and complexity calculation.
@@ -31,49 +38,46 @@ public class SubmissionService {
     private final SubmissionRepository submissionRepository;
     private final ChallengeService challengeService;
     private final UserRepository userRepository;
-    private final AiReviewProvider aiReviewProvider;
-    private final CyclomaticComplexityCalculator complexityCalculator;
+    private final SubmissionReviewWorker reviewWorker;
+    private final ReviewStreamHub reviewStreams;
 
     /**
      * Creates the service.
      *
      * @param submissionRepository repository
      * @param challengeService     challenge service
-     * @param aiReviewProvider     AI provider
-     * @param complexityCalculator complexity calculator
+     * @param userRepository       user repository
+     * @param reviewWorker         background AI review worker
+     * @param reviewStreams        live review streams
      */
     public SubmissionService(SubmissionRepository submissionRepository,
                              ChallengeService challengeService,
                              UserRepository userRepository,
-                             AiReviewProvider aiReviewProvider,
-                             CyclomaticComplexityCalculator complexityCalculator) {
+                             SubmissionReviewWorker reviewWorker,
+                             ReviewStreamHub reviewStreams) {
         this.submissionRepository = submissionRepository;
         this.challengeService = challengeService;
         this.userRepository = userRepository;
-        this.aiReviewProvider = aiReviewProvider;
-        this.complexityCalculator = complexityCalculator;
+        this.reviewWorker = reviewWorker;
+        this.reviewStreams = reviewStreams;
     }
 
     /**
-     * Handles a submission end-to-end: persistence, AI review and credit award.
+     * Persists a submission, awards credit and schedules its AI review. The returned submission is in the
+     * {@code PENDING} review state; the review is attached asynchronously.
      *
      * @param challengeId challenge identifier
      * @param request     payload
      * @return submission response
      */
     public SubmissionResponse submit(UUID challengeId, SubmitSolutionRequest request, UUID menteeId) {
-        Challenge challenge = challengeService.findChallenge(challengeId);
+        Challenge challenge = challengeService.getChallengeReference(challengeId);
         var mentee = userRepository.findById(menteeId)
                 .orElseThrow(() -> new ResourceNotFoundException("User %s not found".formatted(menteeId)));
         Submission submission = new Submission(UUID.randomUUID(), challenge, mentee,
                 request.getLanguage(), request.getCode(), 1, Instant.now());
-        AiReviewResult reviewResult = aiReviewProvider.review(request.getLanguage(), request.getCode());
-        int complexity = complexityCalculator.calculate(request.getCode());
-        SubmissionReview review = new SubmissionReview(UUID.randomUUID(),
-                reviewResult.getCreatedAt() == null ? Instant.now() : reviewResult.getCreatedAt(),
-                reviewResult.getSummary(), complexity, reviewResult.getSuggestions());
-        submission.attachReview(review);
         submissionRepository.save(submission);
+        reviewWorker.enqueue(submission.getId());
         return toResponse(submission);
     }
 
@@ -88,6 +92,39 @@ public class SubmissionService {
         return toResponse(findSubmission(submissionId));
     }
 
+    /**
+     * Streams the AI review of a submission as it is generated. A submission whose review already finished gets the
+     * final event right away.
+     *
+     * @param submissionId identifier
+     * @return emitter sending {@code text} events and a final {@code review} event with the submission
+     */
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public SseEmitter streamReview(UUID submissionId) {
+        if (!submissionRepository.existsById(submissionId)) {
+            throw new ResourceNotFoundException("Submission %s not found".formatted(submissionId));
+        }
+        SseEmitter emitter = reviewStreams.subscribe(submissionId);
+        // loaded after subscribing, so a review finishing in between is either seen here or sent by the event
+        Submission submission = findSubmission(submissionId);
+        if (submission.getReviewStatus() != ReviewStatus.PENDING) {
+            SubmissionResponse response = toResponse(submission);
+            reviewStreams.complete(submissionId, () -> response);
+        }
+        return emitter;
+    }
+
+    /**
+     * Closes the live stream of a review once it has been stored.
+     *
+     * @param event completion event
+     */
+    @EventListener
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public void onSubmissionReviewed(SubmissionReviewedEvent event) {
+        reviewStreams.complete(event.submissionId(), () -> getSubmission(event.submissionId()));
+    }
+
     /**
      * Lists submissions for a challenge.
      *
@@ -98,20 +135,49 @@ public class SubmissionService {
      */
     @org.springframework.transaction.annotation.Transactional(readOnly = true)
     public PageResponse<SubmissionResponse> listSubmissions(UUID challengeId, int page, int size) {
-        challengeService.findChallenge(challengeId);
+        challengeService.getChallenge(challengeId);
         validatePagination(page, size);
         PageRequest pageable = PageRequest.of(page, size);
-        Page<SubmissionResponse> submissions = submissionRepository
-                .findByChallenge_IdOrderByCreatedAtDesc(challengeId, pageable)
-                .map(this::toResponse);
+        // page the ids, then fetch-join the rows, so a page costs the same few statements whatever its size
+        Page<UUID> submissions = submissionRepository.findIdsByChallengeId(challengeId, pageable);
+        Map<UUID, Submission> loaded = submissions.isEmpty() ? Map.of()
+                : submissionRepository.findWithReviewByIdIn(submissions.getContent()).stream()
+                .collect(Collectors.toMap(Submission::getId, Function.identity()));
+        List<SubmissionResponse> content = submissions.getContent().stream()
+                .map(loaded::get)
+                .filter(Objects::nonNull)
+                .map(this::toResponse)
+                .toList();
         return new PageResponse<>(
-                submissions.getContent(),
+                content,
                 submissions.getNumber(),
                 submissions.getSize(),
                 submissions.getTotalElements(),
                 submissions.getTotalPages());
     }
 
+    /**
+     * Lists submissions for a challenge without their code, for list views.
+     *
+     * @param challengeId challenge identifier
+     * @param page        requested page
+     * @param size        requested size
+     * @return paginated summaries
+     */
+    @org.springframework.transaction.annotation.Transactional(readOnly = true)
+    public PageResponse<SubmissionSummaryResponse> listSubmissionSummaries(UUID challengeId, int page, int size) {
+        challengeService.getChallenge(challengeId);
+        validatePagination(page, size);
+        Page<SubmissionSummaryResponse> summaries = submissionRepository
+                .findSummariesByChallengeId(challengeId, PageRequest.of(page, size));
+        return new PageResponse<>(
+                summaries.getContent(),
+                summaries.getNumber(),
+                summaries.getSize(),
+                summaries.getTotalElements(),
+                summaries.getTotalPages());
+    }
+
     private Submission findSubmission(UUID submissionId) {
         return submissionRepository.findById(submissionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Submission %s not found".formatted(submissionId)));
@@ -120,13 +186,16 @@ public class SubmissionService {
     private SubmissionResponse toResponse(Submission submission) {
         ReviewResponse reviewResponse = submission.getReview()
                 .map(review -> new ReviewResponse(review.getId(), review.getSummary(),
-                        review.getComplexity(), review.getSuggestions(), review.getCreatedAt()))
+                        review.getComplexity(), review.getFunctionMetrics().stream()
+                        .map(function -> new FunctionMetricsResponse(function.name(), function.startLine(),
+                                function.lines(), function.complexity(), function.maxNestingDepth()))
+                        .toList(), review.getSuggestions(), review.getCreatedAt()))
                 .orElse(null);
         return new SubmissionResponse(submission.getId(), submission.getChallengeId(),
                 submission.getMentee() != null ? submission.getMentee().getId() : null,
                 submission.getMentee() != null ? submission.getMentee().getName() : null,
                 submission.getLanguage(), submission.getCode(), submission.getCreditsAwarded(),
-                submission.getCreatedAt(), reviewResponse);
+                submission.getCreatedAt(), submission.getReviewStatus(), reviewResponse);
     }
 
     private void validatePagination(int page, int size) {
@@ -0,0 +1,14 @@
+package com.leetmate.platform.service.realtime;
+
+import com.leetmate.platform.dto.chat.MessageResponse;
+import java.util.UUID;
+
+/**
+ * Change to a chat thread, published after the originating transaction commits.
+ *
+ * @param type     kind of change
+ * @param threadId thread the message belongs to
+ * @param message  message state after the change (the last known state for deletions)
+ */
+public record ChatEvent(ChatEventType type, UUID threadId, MessageResponse message) {
+}
@@ -0,0 +1,24 @@
+package com.leetmate.platform.service.realtime;
+
+import java.util.function.Consumer;
+
+/**
+ * Distributes chat events to every backend node. Implementations backed by a shared message broker let subscribers
+ * connected to one node receive messages posted through another.
+ */
+public interface ChatEventBroker {
+
+    /**
+     * Publishes an event to all nodes, including the local one.
+     *
+     * @param event chat event
+     */
+    void publish(ChatEvent event);
+
+    /**
+     * Registers a listener for events published by any node.
+     *
+     * @param listener event consumer
+     */
+    void subscribe(Consumer<ChatEvent> listener);
+}
@@ -0,0 +1,33 @@
+package com.leetmate.platform.service.realtime;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forwards chat events raised by services to the broker once their transaction has committed, so subscribers never
+ * see messages that were rolled back.
+ */
+@Component
+public class ChatEventRelay {
+
+    private final ChatEventBroker broker;
+
+    /**
+     * Creates the relay.
+     *
+     * @param broker broker distributing the events to every node
+     */
+    public ChatEventRelay(ChatEventBroker broker) {
+        this.broker = broker;
+    }
+
+    /**
+     * Publishes an event after its transaction committed, or right away when it was raised outside a transaction.
+     *
+     * @param event chat event
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void relay(ChatEvent event) {
+        broker.publish(event);
+    }
+}
@@ -0,0 +1,10 @@
+package com.leetmate.platform.service.realtime;
+
+/**
+ * Kinds of chat changes pushed to thread subscribers.
+ */
+public enum ChatEventType {
+    MESSAGE_CREATED,
+    MESSAGE_UPDATED,
+    MESSAGE_DELETED
+}
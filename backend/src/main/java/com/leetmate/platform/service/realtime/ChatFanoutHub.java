@@ -0,0 +1,277 @@
+package com.leetmate.platform.service.realtime;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leetmate.platform.exception.ServiceBusyException;
+import com.leetmate.platform.service.GroupMembersChangedEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Node-local fan-out of chat events to server-sent event subscribers, grouped by thread. Subscribers hold no thread
+ * while idle; each event is serialized once and written to the thread's subscribers on one of a fixed set of lanes,
+ * chosen by thread id so events of a thread are delivered in order. Heartbeats are written on the same lanes, so a
+ * slow client never stalls the scheduler. Streams of a member who leaves the group are closed.
+ * <p>
+ * A write to a client that stopped reading holds its lane until the connector's write timeout
+ * ({@code server.tomcat.connection-timeout}) fails it and the subscriber is dropped. When a lane's queue is full the
+ * event is not dropped silently: the streams of its thread are closed, so their clients reconnect and re-fetch the
+ * messages they missed. Streams are closed on a separate thread, since completing an emitter waits for a write in
+ * progress on it.
+ */
+@Component
+public class ChatFanoutHub implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatFanoutHub.class);
+
+    private final ConcurrentMap<UUID, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Member, Set<Subscription>> subscriptionsByMember = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor[] lanes;
+    private final ThreadPoolExecutor closer;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+
+    /**
+     * Creates the hub and subscribes it to the broker.
+     *
+     * @param broker         source of chat events from every node
+     * @param objectMapper   serializes each event once for all of its subscribers
+     * @param maxSubscribers open streams this node accepts before answering {@code 503}
+     * @param timeout        lifetime of a stream, after which the client reconnects
+     * @param fanoutThreads  delivery lanes; events of one thread always use the same lane
+     * @param queueCapacity  deliveries waiting per lane before a thread's streams are closed instead
+     */
+    public ChatFanoutHub(ChatEventBroker broker,
+                         ObjectMapper objectMapper,
+                         @Value("${app.chat.push.max-subscribers:10000}") int maxSubscribers,
+                         @Value("${app.chat.push.timeout:PT30M}") Duration timeout,
+                         @Value("${app.chat.push.fanout-threads:4}") int fanoutThreads,
+                         @Value("${app.chat.push.queue-capacity:10000}") int queueCapacity) {
+        this.objectMapper = objectMapper;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("chat-fanout-");
+        threadFactory.setDaemon(true);
+        this.lanes = new ThreadPoolExecutor[fanoutThreads];
+        for (int i = 0; i < fanoutThreads; i++) {
+            lanes[i] = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+        }
+        CustomizableThreadFactory closerThreadFactory = new CustomizableThreadFactory("chat-fanout-close-");
+        closerThreadFactory.setDaemon(true);
+        // a stream is closed at most once, so the open streams bound the queue
+        this.closer = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maxSubscribers), closerThreadFactory);
+        broker.subscribe(this::dispatch);
+    }
+
+    /**
+     * Opens a new event stream for a thread.
+     *
+     * @param threadId thread identifier
+     * @param groupId  group the thread belongs to
+     * @param userId   subscribing user
+     * @return emitter kept open until the client disconnects, the timeout elapses or the user leaves the group
+     * @throws ServiceBusyException when this node already holds the maximum number of streams
+     */
+    public SseEmitter subscribe(UUID threadId, UUID groupId, UUID userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        register(threadId, groupId, userId, emitter);
+        return emitter;
+    }
+
+    void register(UUID threadId, UUID groupId, UUID userId, SseEmitter emitter) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new ServiceBusyException("Too many live chat subscriptions, retry later");
+        }
+        Subscription subscription = new Subscription(threadId, new Member(groupId, userId), emitter);
+        subscribers.compute(threadId, (id, current) -> add(current, subscription));
+        subscriptionsByMember.compute(subscription.member(), (member, current) -> add(current, subscription));
+        emitter.onCompletion(() -> unsubscribe(subscription));
+        emitter.onTimeout(() -> unsubscribe(subscription));
+        emitter.onError(ex -> unsubscribe(subscription));
+    }
+
+    /**
+     * @return number of open streams on this node
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * Schedules delivery of an event to the local subscribers of its thread.
+     *
+     * @param event chat event
+     */
+    public void dispatch(ChatEvent event) {
+        if (!subscribers.containsKey(event.threadId())) {
+            return;
+        }
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event.message());
+        } catch (JsonProcessingException ex) {
+            log.warn("Could not serialize chat event for thread {}", event.threadId(), ex);
+            return;
+        }
+        try {
+            lanes[lane(event.threadId())].execute(() -> deliver(event, payload));
+        } catch (RejectedExecutionException ex) {
+            Set<Subscription> streams = subscribers.get(event.threadId());
+            int closed = 0;
+            for (Subscription subscription : streams == null ? Set.<Subscription>of() : streams) {
+                if (unsubscribe(subscription)) {
+                    close(subscription);
+                    closed++;
+                }
+            }
+            log.warn("Chat fan-out queue is full, closed {} streams of thread {} so they reconnect",
+                    closed, event.threadId());
+        }
+    }
+
+    /**
+     * Queues a comment to every open stream on its thread's lane so idle connections survive proxies and dead ones
+     * are detected.
+     */
+    @Scheduled(fixedDelayString = "${app.chat.push.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        for (int lane = 0; lane < lanes.length; lane++) {
+            int target = lane;
+            try {
+                lanes[lane].execute(() -> heartbeat(target));
+            } catch (RejectedExecutionException ex) {
+                log.warn("Chat fan-out queue is full, skipping the heartbeat of lane {}", lane);
+            }
+        }
+    }
+
+    /**
+     * Closes the streams of a member who left the group once the change has committed.
+     *
+     * @param event membership change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGroupMembersChanged(GroupMembersChangedEvent event) {
+        if (event.joined()) {
+            return;
+        }
+        Set<Subscription> revoked = subscriptionsByMember.get(new Member(event.groupId(), event.memberId()));
+        if (revoked == null) {
+            return;
+        }
+        for (Subscription subscription : revoked) {
+            if (unsubscribe(subscription)) {
+                close(subscription);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdownNow();
+        }
+        closer.shutdownNow().forEach(Runnable::run);
+        subscribers.values().forEach(streams -> streams.forEach(subscription -> subscription.emitter().complete()));
+        subscribers.clear();
+        subscriptionsByMember.clear();
+    }
+
+    private int lane(UUID threadId) {
+        return Math.floorMod(threadId.hashCode(), lanes.length);
+    }
+
+    private void heartbeat(int lane) {
+        subscribers.forEach((threadId, streams) -> {
+            if (lane(threadId) == lane) {
+                streams.forEach(subscription -> send(subscription, SseEmitter.event().comment("heartbeat")));
+            }
+        });
+    }
+
+    private void deliver(ChatEvent event, String payload) {
+        Set<Subscription> streams = subscribers.get(event.threadId());
+        if (streams == null) {
+            return;
+        }
+        for (Subscription subscription : streams) {
+            send(subscription, SseEmitter.event()
+                    .id(event.message().getId().toString())
+                    .name(event.type().name())
+                    .data(payload, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    private void send(Subscription subscription, SseEmitter.SseEventBuilder event) {
+        try {
+            subscription.emitter().send(event);
+        } catch (IOException | IllegalStateException ex) {
+            unsubscribe(subscription);
+            subscription.emitter().completeWithError(ex);
+        }
+    }
+
+    private void close(Subscription subscription) {
+        try {
+            closer.execute(() -> subscription.emitter().complete());
+        } catch (RejectedExecutionException ex) {
+            // only while shutting down, when the server closes the connections anyway
+        }
+    }
+
+    /**
+     * @return whether this call removed the subscription, so exactly one caller closes it
+     */
+    private boolean unsubscribe(Subscription subscription) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscription.threadId(), (id, streams) -> {
+            if (streams.remove(subscription)) {
+                subscriberCount.decrementAndGet();
+                removed.set(true);
+            }
+            return streams.isEmpty() ? null : streams;
+        });
+        subscriptionsByMember.computeIfPresent(subscription.member(), (member, streams) -> {
+            streams.remove(subscription);
+            return streams.isEmpty() ? null : streams;
+        });
+        return removed.get();
+    }
+
+    private static Set<Subscription> add(Set<Subscription> current, Subscription subscription) {
+        Set<Subscription> target = current == null ? ConcurrentHashMap.newKeySet() : current;
+        target.add(subscription);
+        return target;
+    }
+
+    private record Member(UUID groupId, UUID userId) {
+    }
+
+    private record Subscription(UUID threadId, Member member, SseEmitter emitter) {
+    }
+}
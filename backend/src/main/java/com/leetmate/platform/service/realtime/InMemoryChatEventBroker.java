@@ -0,0 +1,27 @@
+package com.leetmate.platform.service.realtime;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node broker that hands events straight to local listeners. Used by default and in tests.
+ */
+@Component
+@ConditionalOnProperty(name = "app.chat.push.broker", havingValue = "in-memory", matchIfMissing = true)
+public class InMemoryChatEventBroker implements ChatEventBroker {
+
+    private final List<Consumer<ChatEvent>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(ChatEvent event) {
+        listeners.forEach(listener -> listener.accept(event));
+    }
+
+    @Override
+    public void subscribe(Consumer<ChatEvent> listener) {
+        listeners.add(listener);
+    }
+}
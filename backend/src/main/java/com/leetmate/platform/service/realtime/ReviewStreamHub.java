@@ -0,0 +1,259 @@
+package com.leetmate.platform.service.realtime;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Node-local relay of AI review text to server-sent event subscribers while the review is being generated. Text is
+ * buffered per submission, so late subscribers first receive everything generated so far, and fragments arriving
+ * while a subscriber is still being written to are coalesced into the next {@code text} event. Once the review is
+ * stored a final {@code review} event carries the submission and the stream is closed.
+ * <p>
+ * Writes block while a client's socket buffer is full. The connector's write timeout
+ * ({@code server.tomcat.connection-timeout}) fails such a write, after which its subscriber is dropped and the sender
+ * thread moves on. The sender queue holds at most one task per stream and is bounded; when it is full the stream's
+ * subscribers are closed and their clients reconnect to the buffered text.
+ */
+@Component
+public class ReviewStreamHub implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewStreamHub.class);
+
+    private final ConcurrentMap<UUID, ReviewStream> streams = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+    private final Duration timeout;
+
+    /**
+     * Creates the hub.
+     *
+     * @param timeout       lifetime of a subscriber's stream, and of a review buffered without being completed
+     * @param senderThreads threads writing events to subscribers
+     * @param queueCapacity streams waiting for a sender thread before new ones are closed instead
+     */
+    public ReviewStreamHub(@Value("${app.submission-review.stream.timeout:PT5M}") Duration timeout,
+                           @Value("${app.submission-review.stream.sender-threads:2}") int senderThreads,
+                           @Value("${app.submission-review.stream.queue-capacity:1000}") int queueCapacity) {
+        this.timeout = timeout;
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("review-stream-");
+        threadFactory.setDaemon(true);
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory);
+    }
+
+    /**
+     * Opens an event stream for the review of a submission.
+     *
+     * @param submissionId submission identifier
+     * @return emitter receiving {@code text} events followed by one {@code review} event
+     */
+    public SseEmitter subscribe(UUID submissionId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(submissionId, emitter);
+        return emitter;
+    }
+
+    void register(UUID submissionId, SseEmitter emitter) {
+        ReviewStream stream;
+        while (true) {
+            stream = streams.computeIfAbsent(submissionId, id -> new ReviewStream());
+            synchronized (stream) {
+                // a stream completed concurrently has already been removed, the next attempt creates a new one
+                if (!stream.closed) {
+                    stream.offsets.put(emitter, 0);
+                    break;
+                }
+            }
+        }
+        ReviewStream registered = stream;
+        emitter.onCompletion(() -> remove(registered, emitter));
+        emitter.onTimeout(() -> remove(registered, emitter));
+        emitter.onError(ex -> remove(registered, emitter));
+        schedule(registered);
+    }
+
+    /**
+     * Appends generated review text.
+     *
+     * @param submissionId submission identifier
+     * @param text         next fragment of the answer
+     */
+    public void append(UUID submissionId, String text) {
+        ReviewStream stream = streams.computeIfAbsent(submissionId, id -> new ReviewStream());
+        synchronized (stream) {
+            stream.text.append(text);
+            stream.touchedAt = Instant.now();
+        }
+        schedule(stream);
+    }
+
+    /**
+     * Sends the final event to the subscribers of a review and closes its stream.
+     *
+     * @param submissionId submission identifier
+     * @param result       supplies the final payload, only called when someone is subscribed
+     */
+    public void complete(UUID submissionId, Supplier<Object> result) {
+        ReviewStream stream = streams.remove(submissionId);
+        if (stream == null) {
+            return;
+        }
+        synchronized (stream) {
+            stream.closed = true;
+            if (stream.offsets.isEmpty()) {
+                return;
+            }
+        }
+        Object payload = result.get();
+        synchronized (stream) {
+            stream.result = payload;
+        }
+        schedule(stream);
+    }
+
+    /**
+     * @return number of reviews currently buffered or watched on this node
+     */
+    public int getStreamCount() {
+        return streams.size();
+    }
+
+    /**
+     * Closes streams whose review never completed, e.g. because storing it failed.
+     */
+    @Scheduled(fixedDelayString = "${app.submission-review.stream.timeout:PT5M}")
+    public void evictStale() {
+        Instant cutoff = Instant.now().minus(timeout);
+        streams.forEach((submissionId, stream) -> {
+            synchronized (stream) {
+                if (stream.touchedAt.isAfter(cutoff) || !streams.remove(submissionId, stream)) {
+                    return;
+                }
+                stream.closed = true;
+                stream.offsets.keySet().forEach(SseEmitter::complete);
+                stream.offsets.clear();
+            }
+        });
+    }
+
+    @Override
+    public void destroy() {
+        sender.shutdownNow();
+        streams.values().forEach(stream -> {
+            synchronized (stream) {
+                stream.offsets.keySet().forEach(SseEmitter::complete);
+            }
+        });
+        streams.clear();
+    }
+
+    private void schedule(ReviewStream stream) {
+        synchronized (stream) {
+            if (stream.draining) {
+                return;
+            }
+            stream.draining = true;
+        }
+        try {
+            sender.execute(() -> drain(stream));
+        } catch (RejectedExecutionException ex) {
+            List<SseEmitter> dropped;
+            synchronized (stream) {
+                stream.draining = false;
+                dropped = new ArrayList<>(stream.offsets.keySet());
+                stream.offsets.clear();
+            }
+            // nothing is sending to these subscribers, so completing them does not block
+            dropped.forEach(SseEmitter::complete);
+            log.warn("Review stream queue is full, closed {} subscribers so they reconnect", dropped.size());
+        }
+    }
+
+    private void drain(ReviewStream stream) {
+        while (true) {
+            List<Delivery> deliveries = new ArrayList<>();
+            synchronized (stream) {
+                int length = stream.text.length();
+                for (Map.Entry<SseEmitter, Integer> entry : stream.offsets.entrySet()) {
+                    if (entry.getValue() < length) {
+                        deliveries.add(new Delivery(entry.getKey(), SseEmitter.event()
+                                .name("text")
+                                .data(Map.of("text", stream.text.substring(entry.getValue())),
+                                        MediaType.APPLICATION_JSON), false));
+                        entry.setValue(length);
+                    }
+                }
+                if (stream.result != null) {
+                    for (SseEmitter emitter : stream.offsets.keySet()) {
+                        deliveries.add(new Delivery(emitter, SseEmitter.event()
+                                .name("review")
+                                .data(stream.result, MediaType.APPLICATION_JSON), true));
+                    }
+                    stream.offsets.clear();
+                }
+                if (deliveries.isEmpty()) {
+                    stream.draining = false;
+                    return;
+                }
+            }
+            deliveries.forEach(delivery -> send(stream, delivery));
+        }
+    }
+
+    private void send(ReviewStream stream, Delivery delivery) {
+        try {
+            delivery.emitter().send(delivery.event());
+            if (delivery.last()) {
+                delivery.emitter().complete();
+            }
+        } catch (IOException | IllegalStateException ex) {
+            // also reached when the connector's write timeout fails a write to a client that stopped reading
+            remove(stream, delivery.emitter());
+            delivery.emitter().completeWithError(ex);
+        }
+    }
+
+    private void remove(ReviewStream stream, SseEmitter emitter) {
+        synchronized (stream) {
+            stream.offsets.remove(emitter);
+        }
+    }
+
+    /**
+     * Buffered text and subscribers of one review; guarded by its own monitor.
+     */
+    private static final class ReviewStream {
+
+        private final StringBuilder text = new StringBuilder();
+        // characters of text already sent to each subscriber
+        private final Map<SseEmitter, Integer> offsets = new IdentityHashMap<>();
+        private Instant touchedAt = Instant.now();
+        private Object result;
+        private boolean closed;
+        private boolean draining;
+    }
+
+    private record Delivery(SseEmitter emitter, SseEmitter.SseEventBuilder event, boolean last) {
+    }
+}
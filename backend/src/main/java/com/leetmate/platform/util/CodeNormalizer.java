@@ -0,0 +1,125 @@
+package com.leetmate.platform.util;
+
+import java.util.Locale;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+
+/**
+ * Produces a canonical form of submitted code so that solutions differing only in comments or insignificant
+ * whitespace compare equal. String and character literals are kept verbatim because they change program behaviour.
+ */
+@Component
+public class CodeNormalizer {
+
+    private static final Set<String> HASH_COMMENT_LANGUAGES = Set.of("python", "ruby", "shell", "bash", "r");
+    private static final Set<String> INDENTATION_SENSITIVE_LANGUAGES = Set.of("python");
+
+    /**
+     * Strips comments, trailing whitespace and blank lines and collapses runs of inline whitespace to a single
+     * space. Leading indentation is only kept for indentation sensitive languages.
+     *
+     * @param language submission language
+     * @param code     submitted code
+     * @return normalized code
+     */
+    public String normalize(String language, String code) {
+        if (code == null || code.isEmpty()) {
+            return "";
+        }
+        String lang = language == null ? "" : language.trim().toLowerCase(Locale.ROOT);
+        boolean hashComments = HASH_COMMENT_LANGUAGES.contains(lang);
+        boolean keepIndentation = INDENTATION_SENSITIVE_LANGUAGES.contains(lang);
+        String withoutComments = stripComments(code, hashComments);
+
+        StringBuilder builder = new StringBuilder(withoutComments.length());
+        for (String line : withoutComments.split("\\r?\\n")) {
+            String normalized = normalizeLine(line, keepIndentation);
+            if (!normalized.isEmpty()) {
+                builder.append(normalized).append('\n');
+            }
+        }
+        return builder.toString();
+    }
+
+    private String normalizeLine(String line, boolean keepIndentation) {
+        int start = 0;
+        while (start < line.length() && Character.isWhitespace(line.charAt(start))) {
+            start++;
+        }
+        if (start == line.length()) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder(line.length());
+        if (keepIndentation) {
+            builder.append(line, 0, start);
+        }
+        char quote = 0;
+        boolean pendingSpace = false;
+        for (int i = start; i < line.length(); i++) {
+            char current = line.charAt(i);
+            if (quote != 0) {
+                builder.append(current);
+                if (current == '\\' && i + 1 < line.length()) {
+                    builder.append(line.charAt(++i));
+                } else if (current == quote) {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (Character.isWhitespace(current)) {
+                pendingSpace = true;
+                continue;
+            }
+            if (pendingSpace) {
+                builder.append(' ');
+                pendingSpace = false;
+            }
+            if (current == '"' || current == '\'') {
+                quote = current;
+            }
+            builder.append(current);
+        }
+        return builder.toString();
+    }
+
+    private String stripComments(String code, boolean hashComments) {
+        StringBuilder builder = new StringBuilder(code.length());
+        char quote = 0;
+        for (int i = 0; i < code.length(); i++) {
+            char current = code.charAt(i);
+            char next = i + 1 < code.length() ? code.charAt(i + 1) : '\0';
+
+            if (quote != 0) {
+                builder.append(current);
+                if (current == '\\' && next != '\0') {
+                    builder.append(next);
+                    i++;
+                } else if (current == quote || current == '\n') {
+                    quote = 0;
+                }
+                continue;
+            }
+            if (current == '"' || current == '\'') {
+                quote = current;
+                builder.append(current);
+                continue;
+            }
+            if (hashComments ? current == '#' : current == '/' && next == '/') {
+                while (i + 1 < code.length() && code.charAt(i + 1) != '\n') {
+                    i++;
+                }
+                continue;
+            }
+            if (!hashComments && current == '/' && next == '*') {
+                int end = code.indexOf("*/", i + 2);
+                String comment = code.substring(i, end < 0 ? code.length() : end + 2);
+                // keep line structure so that a multi-line comment does not glue statements together
+                builder.append(comment.indexOf('\n') >= 0 ? '\n' : ' ');
+                i = end < 0 ? code.length() : end + 1;
+                continue;
+            }
+            builder.append(current);
+        }
+        return builder.toString();
+    }
+}
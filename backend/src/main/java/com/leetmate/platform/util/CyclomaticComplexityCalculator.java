@@ -1,8 +1,5 @@
 package com.leetmate.platform.util;
 
-import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import org.springframework.stereotype.Component;
 
 /**
@@ -11,13 +8,21 @@ import org.springframework.stereotype.Component;
 @Component
 public class CyclomaticComplexityCalculator {
 
-    private static final Pattern BRANCH_KEYWORDS = Pattern.compile("\\b(if|for|while|case|catch)\\b");
-    private static final Pattern AND_PATTERN = Pattern.compile("&&");
-    private static final Pattern OR_PATTERN = Pattern.compile("\\|\\|");
-    private static final Pattern TERNARY_PATTERN = Pattern.compile("\\?");
+    private static final long IF = pack("if");
+    private static final long FOR = pack("for");
+    private static final long WHILE = pack("while");
+    private static final long CASE = pack("case");
+    private static final long CATCH = pack("catch");
+    private static final int MAX_KEYWORD_LENGTH = 5;
+    private static final int NONE = -1;
 
     /**
-     * Estimates the cyclomatic complexity. Starts at 1 and increments for common branching constructs.
+     * Estimates the cyclomatic complexity. Starts at 1 and increments for every {@code if}, {@code for},
+     * {@code while}, {@code case} and {@code catch} keyword, every {@code &&} and {@code ||} and every {@code ?}
+     * outside of comments and string or char literals.
+     * <p>
+     * The code is scanned once without building a sanitized copy. Comments are dropped from the token stream and
+     * literals count as separators, matching the results of stripping them from the code before counting.
      *
      * @param code user supplied code
      * @return estimated cyclomatic complexity
@@ -26,90 +31,109 @@ public class CyclomaticComplexityCalculator {
         if (code == null || code.isBlank()) {
             return 1;
         }
-        String sanitized = stripCommentsAndStrings(code);
         int complexity = 1;
-        complexity += countMatches(BRANCH_KEYWORDS, sanitized);
-        complexity += countMatches(AND_PATTERN, sanitized);
-        complexity += countMatches(OR_PATTERN, sanitized);
-        complexity += countMatches(TERNARY_PATTERN, sanitized);
-        return complexity;
-    }
-
-    private int countMatches(Pattern pattern, String input) {
-        Matcher matcher = pattern.matcher(input);
-        int occurrences = 0;
-        while (matcher.find()) {
-            occurrences++;
-        }
-        return occurrences;
-    }
-
-    private String stripCommentsAndStrings(String code) {
-        Objects.requireNonNull(code, "code");
-        StringBuilder builder = new StringBuilder(code.length());
         boolean inSingleComment = false;
         boolean inMultiComment = false;
         boolean inString = false;
         boolean inChar = false;
-        for (int i = 0; i < code.length(); i++) {
+        // current identifier run, packed one ASCII letter per byte while it can still be a keyword
+        long word = 0;
+        int wordLength = 0;
+        boolean keywordCandidate = true;
+        // an operator character waiting for its partner, mirrors non-overlapping "&&" / "||" matching
+        char pendingOperator = 0;
+
+        int length = code.length();
+        for (int i = 0; i < length; i++) {
             char current = code.charAt(i);
-            char next = i + 1 < code.length() ? code.charAt(i + 1) : '\0';
+            char next = i + 1 < length ? code.charAt(i + 1) : '\0';
+            int emitted = NONE;
 
             if (inSingleComment) {
                 if (current == '\n') {
                     inSingleComment = false;
-                    builder.append(current);
+                    emitted = current;
                 }
-                continue;
-            }
-            if (inMultiComment) {
+            } else if (inMultiComment) {
                 if (current == '*' && next == '/') {
                     inMultiComment = false;
                     i++;
                 }
-                continue;
-            }
-            if (inString) {
+            } else if (inString || inChar) {
                 if (current == '\\' && next != '\0') {
                     i++;
-                } else if (current == '"') {
+                } else if (current == (inString ? '"' : '\'')) {
                     inString = false;
-                }
-                builder.append(' ');
-                continue;
-            }
-            if (inChar) {
-                if (current == '\\' && next != '\0') {
-                    i++;
-                } else if (current == '\'') {
                     inChar = false;
                 }
-                builder.append(' ');
-                continue;
-            }
-
-            if (current == '/' && next == '/') {
+                emitted = ' ';
+            } else if (current == '/' && next == '/') {
                 inSingleComment = true;
                 i++;
-                continue;
-            }
-            if (current == '/' && next == '*') {
+            } else if (current == '/' && next == '*') {
                 inMultiComment = true;
                 i++;
+            } else if (current == '"' || current == '\'') {
+                inString = current == '"';
+                inChar = current == '\'';
+                emitted = ' ';
+            } else {
+                emitted = current;
+            }
+
+            if (emitted == NONE) {
                 continue;
             }
-            if (current == '"') {
-                inString = true;
-                builder.append(' ');
+            char c = (char) emitted;
+            if (isWordChar(c)) {
+                if (keywordCandidate && wordLength < MAX_KEYWORD_LENGTH && c >= 'a' && c <= 'z') {
+                    word = word << 8 | c;
+                } else {
+                    keywordCandidate = false;
+                }
+                wordLength++;
+                pendingOperator = 0;
                 continue;
             }
-            if (current == '\'') {
-                inChar = true;
-                builder.append(' ');
+            if (wordLength > 0) {
+                complexity += isKeyword(word, keywordCandidate) ? 1 : 0;
+                word = 0;
+                wordLength = 0;
+                keywordCandidate = true;
+            }
+            if (c == '&' || c == '|') {
+                if (pendingOperator == c) {
+                    complexity++;
+                    pendingOperator = 0;
+                } else {
+                    pendingOperator = c;
+                }
                 continue;
             }
-            builder.append(current);
+            pendingOperator = 0;
+            if (c == '?') {
+                complexity++;
+            }
+        }
+        if (wordLength > 0 && isKeyword(word, keywordCandidate)) {
+            complexity++;
+        }
+        return complexity;
+    }
+
+    private static boolean isWordChar(char c) {
+        return c == '_' || Character.isLetterOrDigit(c);
+    }
+
+    private static boolean isKeyword(long word, boolean candidate) {
+        return candidate && (word == IF || word == FOR || word == WHILE || word == CASE || word == CATCH);
+    }
+
+    private static long pack(String keyword) {
+        long packed = 0;
+        for (int i = 0; i < keyword.length(); i++) {
+            packed = packed << 8 | keyword.charAt(i);
         }
-        return builder.toString();
+        return packed;
     }
 }
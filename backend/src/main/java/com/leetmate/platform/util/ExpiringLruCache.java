@@ -0,0 +1,141 @@
+package com.leetmate.platform.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+import org.springframework.util.Assert;
+
+/**
+ * Small thread-safe in-memory cache bounded by entry count (least recently used entries are evicted first) and by a
+ * time-to-live measured from insertion.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxEntries;
+    private final Duration ttl;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * Creates a cache using the system clock.
+     *
+     * @param maxEntries maximum number of retained entries
+     * @param ttl        lifetime of an entry
+     */
+    public ExpiringLruCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, Clock.systemUTC());
+    }
+
+    /**
+     * Creates a cache.
+     *
+     * @param maxEntries maximum number of retained entries
+     * @param ttl        lifetime of an entry
+     * @param clock      clock used to expire entries
+     */
+    public ExpiringLruCache(int maxEntries, Duration ttl, Clock clock) {
+        Assert.isTrue(maxEntries > 0, "maxEntries must be positive");
+        Assert.isTrue(ttl != null && !ttl.isNegative() && !ttl.isZero(), "ttl must be positive");
+        this.maxEntries = maxEntries;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > ExpiringLruCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Looks up a live entry and records a hit or miss.
+     *
+     * @param key cache key
+     * @return cached value or {@code null}
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt().isAfter(clock.instant())) {
+            hits.increment();
+            return entry.value();
+        }
+        if (entry != null) {
+            entries.remove(key);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores a value, replacing any previous one.
+     *
+     * @param key   cache key
+     * @param value value to cache
+     */
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.instant().plus(ttl)));
+    }
+
+    /**
+     * Replaces the value of a live entry, keeping its expiry. Absent or expired entries are left untouched and the
+     * lookup is not counted as a hit or miss.
+     *
+     * @param key     cache key
+     * @param updater function producing the new value from the current one
+     */
+    public synchronized void update(K key, UnaryOperator<V> updater) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && entry.expiresAt().isAfter(clock.instant())) {
+            entries.put(key, new Entry<>(updater.apply(entry.value()), entry.expiresAt()));
+        }
+    }
+
+    /**
+     * Removes a single entry.
+     *
+     * @param key cache key
+     */
+    public synchronized void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes every entry.
+     */
+    public synchronized void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * @return number of retained entries, including ones that expired but were not yet evicted
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return number of lookups answered from the cache
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return number of lookups that found no live entry
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    private record Entry<V>(V value, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.leetmate.platform.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Immutable, compact set of UUIDs stored as two parallel sorted {@code long} arrays (16 bytes per element instead of
+ * a boxed {@link UUID} plus hash table entry). Lookups are binary searches; modifications return a new copy, which
+ * suits sets that are read far more often than they change.
+ */
+public final class UuidSet {
+
+    private static final UuidSet EMPTY = new UuidSet(new long[0], new long[0]);
+
+    private final long[] most;
+    private final long[] least;
+
+    private UuidSet(long[] most, long[] least) {
+        this.most = most;
+        this.least = least;
+    }
+
+    /**
+     * @return empty set
+     */
+    public static UuidSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a set from arbitrary, possibly duplicated identifiers.
+     *
+     * @param ids identifiers
+     * @return set
+     */
+    public static UuidSet of(Collection<UUID> ids) {
+        UUID[] sorted = ids.stream().distinct().sorted(UuidSet::compare).toArray(UUID[]::new);
+        long[] most = new long[sorted.length];
+        long[] least = new long[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            most[i] = sorted[i].getMostSignificantBits();
+            least[i] = sorted[i].getLeastSignificantBits();
+        }
+        return new UuidSet(most, least);
+    }
+
+    /**
+     * @param id identifier
+     * @return whether the set contains the identifier
+     */
+    public boolean contains(UUID id) {
+        return indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits()) >= 0;
+    }
+
+    /**
+     * @param id identifier to add
+     * @return set containing the identifier
+     */
+    public UuidSet with(UUID id) {
+        int index = indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (index >= 0) {
+            return this;
+        }
+        int insertAt = -index - 1;
+        return new UuidSet(insert(most, insertAt, id.getMostSignificantBits()),
+                insert(least, insertAt, id.getLeastSignificantBits()));
+    }
+
+    /**
+     * @param id identifier to remove
+     * @return set without the identifier
+     */
+    public UuidSet without(UUID id) {
+        int index = indexOf(id.getMostSignificantBits(), id.getLeastSignificantBits());
+        if (index < 0) {
+            return this;
+        }
+        return new UuidSet(remove(most, index), remove(least, index));
+    }
+
+    /**
+     * @return number of elements
+     */
+    public int size() {
+        return most.length;
+    }
+
+    private int indexOf(long msb, long lsb) {
+        int low = 0;
+        int high = most.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Long.compare(most[mid], msb);
+            if (cmp == 0) {
+                cmp = Long.compare(least[mid], lsb);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static int compare(UUID left, UUID right) {
+        int cmp = Long.compare(left.getMostSignificantBits(), right.getMostSignificantBits());
+        return cmp != 0 ? cmp : Long.compare(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+    }
+
+    private static long[] insert(long[] source, int index, long value) {
+        long[] target = Arrays.copyOf(source, source.length + 1);
+        System.arraycopy(source, index, target, index + 1, source.length - index);
+        target[index] = value;
+        return target;
+    }
+
+    private static long[] remove(long[] source, int index) {
+        long[] target = new long[source.length - 1];
+        System.arraycopy(source, 0, target, 0, index);
+        System.arraycopy(source, index + 1, target, index, source.length - index - 1);
+        return target;
+    }
+}
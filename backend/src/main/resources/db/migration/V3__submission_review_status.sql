@@ -0,0 +1,5 @@
+-- Tracks the asynchronous AI review lifecycle of each submission.
+-- Existing rows were reviewed synchronously, so they start out as COMPLETED.
+alter table submissions
+    add column review_status varchar(20) not null default 'COMPLETED'
+        check (review_status in ('PENDING','COMPLETED','FAILED'));
@@ -0,0 +1,17 @@
+-- Persistent tier of the AI review cache, keyed on language, model and a hash of the normalized code.
+create table ai_review_cache (
+    cache_key varchar(200) primary key,
+    language varchar(20) not null,
+    model varchar(80) not null,
+    summary text not null,
+    created_at timestamptz not null
+);
+
+create table ai_review_cache_suggestions (
+    cache_key varchar(200) not null references ai_review_cache(cache_key) on delete cascade,
+    position int not null,
+    suggestion text not null,
+    primary key (cache_key, position)
+);
+
+create index idx_ai_review_cache_created_at on ai_review_cache(created_at);
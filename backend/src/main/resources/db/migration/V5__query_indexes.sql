@@ -0,0 +1,55 @@
+-- Secondary indexes backing the repository queries. Each composite index matches the filter column followed by the
+-- sort column of the corresponding paged query so Postgres can read rows in order instead of sorting.
+
+-- SubmissionRepository.findByChallenge_IdOrderByCreatedAtDesc
+create index if not exists idx_submissions_challenge_created
+    on submissions (challenge_id, created_at desc);
+
+-- SubmissionRepository.findIdsByReviewStatusCreatedBefore (recovery sweep only ever looks at pending rows)
+create index if not exists idx_submissions_pending_created
+    on submissions (created_at)
+    where review_status = 'PENDING';
+
+-- submissions.review_id is loaded for every submission response
+create index if not exists idx_submissions_review
+    on submissions (review_id);
+
+-- SubmissionReview.suggestions element collection
+create index if not exists idx_submission_review_suggestions_review
+    on submission_review_suggestions (review_id);
+
+-- ChatMessageRepository.findByThreadIdOrderByCreatedAtAsc
+create index if not exists idx_chat_messages_thread_created
+    on chat_messages (thread_id, created_at);
+
+-- chat_messages.parent_id foreign key (reply lookups and cascading deletes)
+create index if not exists idx_chat_messages_parent
+    on chat_messages (parent_id);
+
+-- ChatThreadRepository.findByGroupIdOrderByCreatedAtDesc
+create index if not exists idx_chat_threads_group_created
+    on chat_threads (group_id, created_at desc);
+
+-- ChallengeRepository.findByGroup_IdOrderByCreatedAtDesc
+create index if not exists idx_challenges_group_created
+    on challenges (group_id, created_at desc);
+
+-- StudyGroupRepository.findAllByMentorIdOrderByCreatedAtDesc
+create index if not exists idx_study_groups_mentor_created
+    on study_groups (mentor_id, created_at desc);
+
+-- StudyGroupRepository.findAllByOrderByCreatedAtDesc
+create index if not exists idx_study_groups_created
+    on study_groups (created_at desc);
+
+-- GroupMemberRepository.findGroupsByMemberId
+create index if not exists idx_group_members_member_joined
+    on group_members (member_id, joined_at desc);
+
+-- UserRepository.findByEmailIgnoreCase / existsByEmailIgnoreCase
+create index if not exists idx_users_email_lower
+    on users (lower(email));
+
+-- PasswordResetTokenRepository.deleteAllByUser
+create index if not exists idx_password_reset_tokens_user
+    on password_reset_tokens (user_id);
@@ -0,0 +1,9 @@
+-- Keyset pagination orders chat listings by (created_at, id); include the id tie-breaker so the cursor queries are
+-- answered straight from the index.
+drop index if exists idx_chat_messages_thread_created;
+create index if not exists idx_chat_messages_thread_created_id
+    on chat_messages (thread_id, created_at, id);
+
+drop index if exists idx_chat_threads_group_created;
+create index if not exists idx_chat_threads_group_created_id
+    on chat_threads (group_id, created_at desc, id desc);
@@ -0,0 +1,4 @@
+-- Per-function complexity breakdown computed by the language analyzers, stored as a JSON array of
+-- {name, startLine, lines, complexity, maxNestingDepth} objects. Reviews created before this column existed keep null.
+alter table submission_reviews
+    add column function_metrics jsonb;
@@ -0,0 +1,60 @@
+-- Full-text search over groups, challenges and chat messages (SearchRepository). Every searchable table carries a
+-- weighted tsvector that Postgres keeps up to date on each write, backed by a GIN index.
+
+alter table challenges
+    add column search_vector tsvector generated always as (
+        setweight(to_tsvector('english', title), 'A') || setweight(to_tsvector('english', description), 'B')
+    ) stored;
+
+alter table chat_messages
+    add column search_vector tsvector generated always as (to_tsvector('english', content)) stored;
+
+-- group tags live in study_group_tags, which a generated column cannot read, so triggers maintain the group vector
+alter table study_groups
+    add column search_vector tsvector;
+
+create function study_group_search_vector(group_id uuid, name text, description text) returns tsvector
+    language sql stable as $$
+    select setweight(to_tsvector('english', coalesce(name, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(
+               (select string_agg(t.tag, ' ') from study_group_tags t where t.group_id = $1), '')), 'A')
+        || setweight(to_tsvector('english', coalesce(description, '')), 'B')
+$$;
+
+create function study_groups_search_vector_trigger() returns trigger
+    language plpgsql as $$
+begin
+    new.search_vector := study_group_search_vector(new.id, new.name, new.description);
+    return new;
+end
+$$;
+
+create trigger study_groups_search_vector
+    before insert or update of name, description on study_groups
+    for each row execute function study_groups_search_vector_trigger();
+
+create function study_group_tags_search_vector_trigger() returns trigger
+    language plpgsql as $$
+begin
+    update study_groups g
+    set search_vector = study_group_search_vector(g.id, g.name, g.description)
+    where g.id = case when tg_op = 'DELETE' then old.group_id else new.group_id end;
+    return null;
+end
+$$;
+
+create trigger study_group_tags_search_vector
+    after insert or update or delete on study_group_tags
+    for each row execute function study_group_tags_search_vector_trigger();
+
+update study_groups
+set search_vector = study_group_search_vector(id, name, description);
+
+create index if not exists idx_study_groups_search
+    on study_groups using gin (search_vector);
+
+create index if not exists idx_challenges_search
+    on challenges using gin (search_vector);
+
+create index if not exists idx_chat_messages_search
+    on chat_messages using gin (search_vector);
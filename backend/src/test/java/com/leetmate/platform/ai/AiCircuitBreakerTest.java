@@ -0,0 +1,109 @@
+package com.leetmate.platform.ai;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AiCircuitBreakerTest {
+
+    private MutableClock clock;
+    private AiCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        breaker = new AiCircuitBreaker(4, 2, 50, Duration.ofSeconds(30), clock);
+    }
+
+    @Test
+    void opensOnceFailureRateReachesThreshold() {
+        call(true);
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+        call(false);
+
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void oldOutcomesLeaveTheSlidingWindow() {
+        call(false);
+        call(true);
+        call(true);
+        call(true);
+        call(false);
+
+        // window now holds success, success, success, failure: 25% is below the threshold
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenTrialClosesOrReopensTheCircuit() {
+        call(false);
+        call(false);
+        clock.advance(Duration.ofSeconds(30));
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).as("only one trial call").isFalse();
+        breaker.onFailure();
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.OPEN);
+
+        clock.advance(Duration.ofSeconds(30));
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.onSuccess();
+
+        assertThat(breaker.state()).isEqualTo(AiCircuitBreaker.State.CLOSED);
+        assertThat(breaker.openTime()).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void releasedTrialAllowsAnotherOne() {
+        call(false);
+        call(false);
+        clock.advance(Duration.ofMinutes(1));
+
+        assertThat(breaker.tryAcquire()).isTrue();
+        breaker.release();
+
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    private void call(boolean success) {
+        assertThat(breaker.tryAcquire()).isTrue();
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
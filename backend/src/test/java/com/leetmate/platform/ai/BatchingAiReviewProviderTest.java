@@ -0,0 +1,141 @@
+package com.leetmate.platform.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BatchingAiReviewProviderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<AiReviewRequest>> batches = new CopyOnWriteArrayList<>();
+    private volatile RuntimeException failure;
+    private volatile Set<String> leftOutOfBatches = Set.of();
+    private volatile Duration singleReviewDelay = Duration.ZERO;
+
+    private final BatchAiReviewProvider delegate = new BatchAiReviewProvider() {
+        @Override
+        public Mono<AiReviewResult> reviewAsync(String language, String code) {
+            return reviewBatch(List.of(new AiReviewRequest(language, code)))
+                    .map(results -> results.get(0).orElseThrow())
+                    .delayElement(singleReviewDelay);
+        }
+
+        @Override
+        public Mono<List<Optional<AiReviewResult>>> reviewBatch(List<AiReviewRequest> requests) {
+            batches.add(requests);
+            if (failure != null) {
+                return Mono.error(failure);
+            }
+            return Mono.just(requests.stream()
+                    .map(request -> requests.size() > 1 && leftOutOfBatches.contains(request.code())
+                            ? Optional.<AiReviewResult>empty()
+                            : Optional.of(new AiReviewResult("Reviewed " + request.code(), List.of(), Instant.now())))
+                    .toList());
+        }
+    };
+
+    @Test
+    void fullBatchIsSentWithoutWaiting() {
+        BatchingAiReviewProvider provider = provider(true, 3, 1_000, Duration.ofMinutes(1));
+
+        List<String> summaries = Flux.merge(provider.reviewAsync("java", "a"), provider.reviewAsync("java", "b"),
+                        provider.reviewAsync("java", "c"))
+                .map(AiReviewResult::getSummary)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(summaries).containsExactlyInAnyOrder("Reviewed a", "Reviewed b", "Reviewed c");
+        assertThat(batches).hasSize(1);
+        assertThat(batches.get(0)).extracting(AiReviewRequest::code).containsExactly("a", "b", "c");
+        assertThat(meterRegistry.get("ai.review.batch.size").summary().mean()).isEqualTo(3);
+    }
+
+    @Test
+    void partialBatchIsSentAfterMaxWait() {
+        BatchingAiReviewProvider provider = provider(true, 10, 1_000, Duration.ofMillis(100));
+
+        List<String> summaries = Flux.merge(provider.reviewAsync("java", "a"), provider.reviewAsync("java", "b"))
+                .map(AiReviewResult::getSummary)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(summaries).containsExactlyInAnyOrder("Reviewed a", "Reviewed b");
+        assertThat(batches).hasSize(1);
+    }
+
+    @Test
+    void codeSizeBoundsTheBatch() {
+        BatchingAiReviewProvider provider = provider(true, 10, 5, Duration.ofMillis(100));
+
+        Flux.merge(provider.reviewAsync("java", "aaa"), provider.reviewAsync("java", "bbb"),
+                provider.reviewAsync("java", "c")).blockLast(Duration.ofSeconds(5));
+
+        assertThat(batches).extracting(batch -> batch.stream().map(AiReviewRequest::code).toList())
+                .containsExactly(List.of("aaa"), List.of("bbb", "c"));
+    }
+
+    @Test
+    void batchFailureReachesEveryCaller() {
+        failure = new IllegalStateException("down");
+        BatchingAiReviewProvider provider = provider(true, 2, 1_000, Duration.ofMinutes(1));
+        Mono<AiReviewResult> first = provider.reviewAsync("java", "a").cache();
+        first.subscribe(result -> { }, error -> { });
+
+        assertThatThrownBy(() -> provider.reviewAsync("java", "b").block(Duration.ofSeconds(5)))
+                .hasMessage("down");
+        assertThatThrownBy(() -> first.block(Duration.ofSeconds(5))).hasMessage("down");
+    }
+
+    @Test
+    void submissionsLeftOutOfTheAnswerAreReviewedAgainThroughTheDelegate() {
+        leftOutOfBatches = Set.of("b");
+        BatchingAiReviewProvider provider = provider(true, 2, 1_000, Duration.ofMinutes(1));
+
+        List<String> summaries = Flux.merge(provider.reviewAsync("java", "a"), provider.reviewAsync("java", "b"))
+                .map(AiReviewResult::getSummary)
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(summaries).containsExactlyInAnyOrder("Reviewed a", "Reviewed b");
+        assertThat(batches).extracting(batch -> batch.stream().map(AiReviewRequest::code).toList())
+                .containsExactly(List.of("a", "b"), List.of("b"));
+    }
+
+    @Test
+    void retriedSubmissionWaitsForItsAsynchronousAnswer() {
+        leftOutOfBatches = Set.of("b");
+        singleReviewDelay = Duration.ofMillis(200);
+        BatchingAiReviewProvider provider = provider(true, 2, 1_000, Duration.ofMinutes(1));
+        Mono<AiReviewResult> first = provider.reviewAsync("java", "a").cache();
+        first.subscribe();
+
+        AiReviewResult retried = provider.reviewAsync("java", "b").block(Duration.ofSeconds(5));
+
+        assertThat(retried).isNotNull();
+        assertThat(retried.getSummary()).isEqualTo("Reviewed b");
+        assertThat(first.block(Duration.ofSeconds(5)).getSummary()).isEqualTo("Reviewed a");
+    }
+
+    @Test
+    void disabledProviderPassesReviewsThrough() {
+        BatchingAiReviewProvider provider = provider(false, 10, 1_000, Duration.ofMinutes(1));
+
+        assertThat(provider.review("java", "a").getSummary()).isEqualTo("Reviewed a");
+        assertThat(batches).hasSize(1);
+    }
+
+    private BatchingAiReviewProvider provider(boolean enabled, int maxBatchSize, int maxBatchChars,
+                                              Duration maxWait) {
+        return new BatchingAiReviewProvider(delegate, meterRegistry, enabled, maxBatchSize, maxBatchChars, maxWait);
+    }
+}
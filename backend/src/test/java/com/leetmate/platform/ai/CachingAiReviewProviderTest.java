@@ -0,0 +1,127 @@
+package com.leetmate.platform.ai;
+
+import com.leetmate.platform.config.OpenAiProperties;
+import com.leetmate.platform.entity.AiReviewCacheEntry;
+import com.leetmate.platform.repository.AiReviewCacheRepository;
+import com.leetmate.platform.util.CodeNormalizer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingAiReviewProviderTest {
+
+    @Mock
+    private AiReviewCacheRepository repository;
+
+    private final AtomicInteger delegateCalls = new AtomicInteger();
+    private MeterRegistry meterRegistry;
+    private CachingAiReviewProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ReactiveAiReviewProvider delegate = (language, code) -> Mono.fromSupplier(() -> {
+            delegateCalls.incrementAndGet();
+            return new AiReviewResult("Looks fine", List.of("Add tests"), Instant.now());
+        });
+        provider = new CachingAiReviewProvider(delegate, repository, new CodeNormalizer(), new OpenAiProperties(),
+                meterRegistry, 100, Duration.ofDays(30));
+    }
+
+    @Test
+    void equivalentCodeIsReviewedOnce() {
+        when(repository.findByCacheKeyAndCreatedAtAfter(anyString(), any())).thenReturn(Optional.empty());
+
+        AiReviewResult first = provider.review("java", "return a + b; // sum");
+        AiReviewResult second = provider.review("JAVA", "return   a + b;\n\n");
+
+        assertThat(delegateCalls).hasValue(1);
+        assertThat(second.getSummary()).isEqualTo(first.getSummary());
+        assertThat(second.getSuggestions()).containsExactly("Add tests");
+        ArgumentCaptor<AiReviewCacheEntry> stored = ArgumentCaptor.forClass(AiReviewCacheEntry.class);
+        verify(repository).save(stored.capture());
+        assertThat(stored.getValue().getCacheKey()).startsWith("java:gpt-4o-mini:");
+        assertThat(lookups("memory", "hit")).isEqualTo(1.0);
+        assertThat(lookups("all", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    void persistentTierIsConsultedBeforeDelegate() {
+        AiReviewCacheEntry entry = new AiReviewCacheEntry("key", "java", "gpt-4o-mini", "Cached",
+                List.of("Reuse"), Instant.now().minusSeconds(60));
+        when(repository.findByCacheKeyAndCreatedAtAfter(anyString(), any())).thenReturn(Optional.of(entry));
+
+        AiReviewResult result = provider.reviewAsync("java", "return 1;").block();
+
+        assertThat(result.getSummary()).isEqualTo("Cached");
+        assertThat(result.getCreatedAt()).isAfter(entry.getCreatedAt());
+        assertThat(delegateCalls).hasValue(0);
+        verify(repository, never()).save(any());
+        assertThat(lookups("database", "hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    void degradedReviewsAreNotCached() {
+        when(repository.findByCacheKeyAndCreatedAtAfter(anyString(), any())).thenReturn(Optional.empty());
+        CachingAiReviewProvider degraded = new CachingAiReviewProvider((language, code) -> Mono.fromSupplier(() -> {
+            delegateCalls.incrementAndGet();
+            return new AiReviewResult("Complexity only", List.of(), Instant.now(), true);
+        }), repository, new CodeNormalizer(), new OpenAiProperties(), meterRegistry, 100, Duration.ofDays(30));
+
+        assertThat(degraded.review("java", "return 1;").isDegraded()).isTrue();
+        degraded.review("java", "return 1;");
+
+        assertThat(delegateCalls).hasValue(2);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void failedReviewIsNotReplayedToTheNextRequest() {
+        when(repository.findByCacheKeyAndCreatedAtAfter(anyString(), any())).thenReturn(Optional.empty());
+        CachingAiReviewProvider flaky = new CachingAiReviewProvider((language, code) -> Mono.defer(() ->
+                delegateCalls.incrementAndGet() == 1
+                        ? Mono.error(new IllegalStateException("provider down"))
+                        : Mono.just(new AiReviewResult("Recovered", List.of(), Instant.now()))),
+                repository, new CodeNormalizer(), new OpenAiProperties(), meterRegistry, 100, Duration.ofDays(30));
+
+        assertThatThrownBy(() -> flaky.review("java", "return 1;")).hasMessageContaining("provider down");
+        AiReviewResult second = flaky.review("java", "return 1;");
+
+        assertThat(second.getSummary()).isEqualTo("Recovered");
+        assertThat(delegateCalls).hasValue(2);
+    }
+
+    @Test
+    void differentModelsUseDifferentKeys() {
+        OpenAiProperties other = new OpenAiProperties();
+        other.setModel("gpt-4o");
+        CachingAiReviewProvider otherModel = new CachingAiReviewProvider((language, code) -> Mono.empty(),
+                repository, new CodeNormalizer(), other, meterRegistry, 100, Duration.ofDays(30));
+
+        assertThat(otherModel.cacheKey("java", "return 1;")).isNotEqualTo(provider.cacheKey("java", "return 1;"));
+    }
+
+    private double lookups(String tier, String result) {
+        return meterRegistry.get("ai.review.cache.lookups").tag("tier", tier).tag("result", result).counter().count();
+    }
+}
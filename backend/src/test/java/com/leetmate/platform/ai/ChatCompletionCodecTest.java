@@ -0,0 +1,65 @@
+package com.leetmate.platform.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatCompletionCodecTest {
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final ChatCompletionCodec codec = new ChatCompletionCodec(mapper);
+
+    @Test
+    void promptPartsAreWrittenAsOneEscapedMessage() throws Exception {
+        String code = "if (a) {\n\tprint(\"x\\y\");\r\n}\u0001 // ü → ✓";
+        JsonNode body = encode(new ChatCompletionCodec.Request("gpt-test",
+                List.of("Review:\n", code, new StringBuilder("\n</CODE>")), false, false));
+
+        assertThat(body.path("model").asText()).isEqualTo("gpt-test");
+        assertThat(body.path("messages").path(0).path("role").asText()).isEqualTo("system");
+        assertThat(body.path("messages").path(1).path("content").asText()).isEqualTo("Review:\n" + code + "\n</CODE>");
+        assertThat(body.path("temperature").asDouble()).isEqualTo(0.2);
+        assertThat(body.has("stream")).isFalse();
+        assertThat(body.has("response_format")).isFalse();
+    }
+
+    @Test
+    void largePromptsOutgrowTheInitialBuffer() throws Exception {
+        String code = "\"quoted\"\n".repeat(20_000);
+
+        JsonNode body = encode(new ChatCompletionCodec.Request("gpt-test", List.of(code), false, false));
+
+        assertThat(body.path("messages").path(1).path("content").asText()).isEqualTo(code);
+    }
+
+    @Test
+    void optionsAreWrittenWhenRequested() throws Exception {
+        JsonNode body = encode(new ChatCompletionCodec.Request("gpt-test", List.of("p"), true, true));
+
+        assertThat(body.path("stream").asBoolean()).isTrue();
+        assertThat(body.path("response_format").path("type").asText()).isEqualTo("json_object");
+    }
+
+    @Test
+    void readsStreamedDeltas() throws Exception {
+        assertThat(codec.deltaContent("{\"choices\": [{\"delta\": {\"content\": \"Hi\"}}]}")).isEqualTo("Hi");
+        assertThat(codec.deltaContent("{\"choices\": [{\"delta\": {\"role\": \"assistant\"}}]}")).isEmpty();
+        assertThat(codec.deltaContent(" ")).isEmpty();
+    }
+
+    private JsonNode encode(ChatCompletionCodec.Request request) throws Exception {
+        DataBuffer buffer = codec.encode(request, DefaultDataBufferFactory.sharedInstance);
+        try {
+            return mapper.readTree(buffer.toString(StandardCharsets.UTF_8));
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+}
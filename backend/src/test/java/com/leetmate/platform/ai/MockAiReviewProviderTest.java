@@ -15,4 +15,14 @@ class MockAiReviewProviderTest {
         assertThat(result.getSuggestions()).contains("Add more tests");
         assertThat(result.getCreatedAt()).isNotNull();
     }
+
+    @Test
+    void reactiveVariantEmitsSameReview() {
+        MockAiReviewProvider provider = new MockAiReviewProvider();
+        AiReviewResult result = provider.reviewAsync("python", "print(1)").block();
+
+        assertThat(result).isNotNull();
+        assertThat(result.getSummary()).contains("python");
+        assertThat(result.getSuggestions()).containsExactly("Use descriptive variable names", "Add more tests");
+    }
 }
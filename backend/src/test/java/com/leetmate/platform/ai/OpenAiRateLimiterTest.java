@@ -0,0 +1,99 @@
+package com.leetmate.platform.ai;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import reactor.core.Disposable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class OpenAiRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void requestsWithinBudgetPassImmediately() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(60, 10_000, 0, meterRegistry);
+
+        limiter.acquire(AiReviewPriority.SUBMISSION, 1_000).block(Duration.ofMillis(100));
+        limiter.acquire(AiReviewPriority.SUBMISSION, 1_000).block(Duration.ofMillis(100));
+
+        assertThat(limiter.queueDepth()).isZero();
+        assertThat(meterRegistry.get("ai.review.ratelimit.available").tag("budget", "tokens").gauge().value())
+                .isBetween(8_000.0, 8_100.0);
+    }
+
+    @Test
+    void waitersAreServedByPriorityOnceBudgetReturns() {
+        // 1200 requests per minute refill one request every 50 ms
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(1_200, 1_000_000, 0, meterRegistry);
+        limiter.update(remaining("0"), HttpStatus.OK);
+        List<AiReviewPriority> served = new CopyOnWriteArrayList<>();
+
+        for (AiReviewPriority priority : List.of(AiReviewPriority.BULK_RESCORE, AiReviewPriority.SUBMISSION,
+                AiReviewPriority.MENTOR_REREVIEW)) {
+            limiter.acquire(priority, 10).subscribe(null, null, () -> served.add(priority));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> served.size() == 3);
+        assertThat(served).containsExactly(AiReviewPriority.MENTOR_REREVIEW, AiReviewPriority.SUBMISSION,
+                AiReviewPriority.BULK_RESCORE);
+    }
+
+    @Test
+    void throttledResponsePausesUntilTheReportedReset() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(10_000, 1_000_000, 0, meterRegistry);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-reset-tokens", "300ms");
+        limiter.update(headers, HttpStatus.TOO_MANY_REQUESTS);
+
+        long start = System.nanoTime();
+        limiter.acquire(AiReviewPriority.SUBMISSION, 10).block(Duration.ofSeconds(5));
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(250));
+    }
+
+    @Test
+    void reportedLimitsReplaceTheConfiguredOnes() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(500, 200_000, 0, meterRegistry);
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-limit-tokens", "40000");
+        headers.add("x-ratelimit-remaining-tokens", "39000");
+        limiter.update(headers, HttpStatus.OK);
+
+        assertThat(meterRegistry.get("ai.review.ratelimit.available").tag("budget", "tokens").gauge().value())
+                .isBetween(39_000.0, 39_100.0);
+    }
+
+    @Test
+    void cancelledWaiterLeavesTheQueue() {
+        OpenAiRateLimiter limiter = new OpenAiRateLimiter(1, 1_000, 0, meterRegistry);
+        limiter.update(remaining("0"), HttpStatus.OK);
+
+        Disposable waiting = limiter.acquire(AiReviewPriority.SUBMISSION, 10).subscribe();
+        assertThat(limiter.queueDepth()).isEqualTo(1);
+        waiting.dispose();
+
+        assertThat(limiter.queueDepth()).isZero();
+    }
+
+    @Test
+    void parsesResetDurations() {
+        assertThat(OpenAiRateLimiter.duration("20ms")).isEqualTo(Duration.ofMillis(20));
+        assertThat(OpenAiRateLimiter.duration("1.5s")).isEqualTo(Duration.ofMillis(1_500));
+        assertThat(OpenAiRateLimiter.duration("6m0s")).isEqualTo(Duration.ofMinutes(6));
+        assertThat(OpenAiRateLimiter.duration("1h2m")).isEqualTo(Duration.ofMinutes(62));
+        assertThat(OpenAiRateLimiter.duration(null)).isZero();
+    }
+
+    private static HttpHeaders remaining(String requests) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("x-ratelimit-remaining-requests", requests);
+        return headers;
+    }
+}
@@ -0,0 +1,291 @@
+package com.leetmate.platform.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leetmate.platform.analysis.CStyleCodeAnalyzer;
+import com.leetmate.platform.analysis.CodeAnalyzerRegistry;
+import com.leetmate.platform.analysis.PythonCodeAnalyzer;
+import com.leetmate.platform.config.OpenAiProperties;
+import com.leetmate.platform.config.WebClientConfig;
+import com.leetmate.platform.util.CyclomaticComplexityCalculator;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the real OpenAI provider against a local stub server to verify the bulkhead, deadline and circuit breaker
+ * as well as batched and streamed completions and rate limit handling.
+ */
+class ResilientAiReviewProviderTest {
+
+    private static final String CODE = "int max(int a, int b) {\n    return a > b ? a : b;\n}\n";
+    private static final String COMPLETION = """
+            {"choices": [{"message": {"role": "assistant", "content": "Looks good.\\n- Add tests"}}]}
+            """;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final ConcurrentLinkedQueue<String> bodies = new ConcurrentLinkedQueue<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private volatile StubBehaviour behaviour = exchange -> respond(exchange, 200, COMPLETION);
+    private HttpServer server;
+    private ChatGptAiReviewProvider openAi;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/v1/chat/completions", exchange -> {
+            requests.incrementAndGet();
+            bodies.add(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            try {
+                behaviour.handle(exchange);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        OpenAiProperties properties = new OpenAiProperties();
+        properties.setBaseUrl("http://127.0.0.1:%d/v1".formatted(server.getAddress().getPort()));
+        properties.setApiKey("test-key");
+        openAi = new ChatGptAiReviewProvider(new WebClientConfig().webClient(), properties, MAPPER,
+                new OpenAiRateLimiter(10_000, 10_000_000, 1, meterRegistry));
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void passesSuccessfulReviewsThrough() {
+        AiReviewResult result = provider(4, Duration.ofSeconds(5), 10).reviewAsync("java", CODE).block();
+
+        assertThat(result.isDegraded()).isFalse();
+        assertThat(result.getSummary()).isEqualTo("Looks good.");
+        assertThat(result.getSuggestions()).containsExactly("Add tests");
+    }
+
+    @Test
+    void slowProviderIsCutOffAtTheDeadline() {
+        behaviour = exchange -> {
+            Thread.sleep(2_000);
+            respond(exchange, 200, COMPLETION);
+        };
+
+        long start = System.nanoTime();
+        AiReviewResult result = provider(4, Duration.ofMillis(200), 10).reviewAsync("java", CODE).block();
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofMillis(1_500));
+        assertThat(result.isDegraded()).isTrue();
+        assertThat(result.getSummary()).contains("Cyclomatic complexity is 2");
+        assertThat(meterRegistry.get("ai.review.failures").tag("cause", "timeout").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void waitForRateLimitBudgetDoesNotCountAgainstTheDeadline() {
+        BatchAiReviewProvider queued = (language, code) -> Mono.deferContextual(context ->
+                RateLimitWait.track(context, Mono.delay(Duration.ofMillis(400)).then())
+                        .then(Mono.delay(Duration.ofMillis(100)))
+                        .thenReturn(new AiReviewResult("Sent late.", List.of(), Instant.now(), false)));
+        ResilientAiReviewProvider provider = new ResilientAiReviewProvider(queued, analyzers(), meterRegistry,
+                4, Duration.ofMillis(200), Duration.ofMillis(200), 1, 1, 50, Duration.ofMinutes(1));
+
+        AiReviewResult result = provider.reviewAsync("java", CODE).block(Duration.ofSeconds(5));
+
+        assertThat(result.isDegraded()).isFalse();
+        assertThat(result.getSummary()).isEqualTo("Sent late.");
+        assertThat(meterRegistry.get("ai.review.failures").tag("cause", "timeout").counter().count()).isZero();
+        assertThat(meterRegistry.get("ai.review.circuit.state").gauge().value()).isZero();
+    }
+
+    @Test
+    void openCircuitStopsCallingTheProvider() {
+        behaviour = exchange -> respond(exchange, 500, "{}");
+        ResilientAiReviewProvider provider = provider(4, Duration.ofSeconds(5), 2);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(provider.reviewAsync("java", CODE).block().isDegraded()).isTrue();
+        }
+
+        assertThat(requests).hasValue(2);
+        assertThat(meterRegistry.get("ai.review.rejections").tag("reason", "circuit_open").counter().count())
+                .isEqualTo(3);
+        assertThat(meterRegistry.get("ai.review.circuit.state").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    void bulkheadRejectsCallsBeyondTheConcurrencyLimit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch arrived = new CountDownLatch(1);
+        behaviour = exchange -> {
+            arrived.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            respond(exchange, 200, COMPLETION);
+        };
+        ResilientAiReviewProvider provider = provider(1, Duration.ofSeconds(5), 10);
+
+        var first = provider.reviewAsync("java", CODE).toFuture();
+        assertThat(arrived.await(5, TimeUnit.SECONDS)).isTrue();
+        AiReviewResult rejected = provider.reviewAsync("java", CODE).block(Duration.ofSeconds(1));
+        release.countDown();
+
+        assertThat(rejected.isDegraded()).isTrue();
+        assertThat(first.get(5, TimeUnit.SECONDS).isDegraded()).isFalse();
+        assertThat(requests).hasValue(1);
+        assertThat(meterRegistry.get("ai.review.rejections").tag("reason", "bulkhead").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void fallbackNamesComplexityHotspots() {
+        BatchAiReviewProvider failing = (language, code) -> Mono.error(new IllegalStateException("down"));
+        ResilientAiReviewProvider provider = new ResilientAiReviewProvider(failing, analyzers(), meterRegistry,
+                4, Duration.ofSeconds(5), Duration.ofSeconds(5), 10, 10, 50, Duration.ofMinutes(1));
+        String code = "void branchy(int a) {\n" + "    if (a == 1) { a++; }\n".repeat(12) + "}\n";
+
+        AiReviewResult result = provider.reviewAsync("java", code).block();
+
+        assertThat(result.isDegraded()).isTrue();
+        assertThat(result.getSuggestions())
+                .containsExactly("Consider splitting branchy (line 1): complexity 13, nesting depth 1");
+    }
+
+    @Test
+    void streamedAnswerIsReportedAsItArrives() {
+        behaviour = exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            for (String delta : List.of("Readable ", "solution.\n", "- Add tests")) {
+                String chunk = MAPPER.createObjectNode().set("choices", MAPPER.createArrayNode()
+                        .add(MAPPER.createObjectNode().set("delta", MAPPER.createObjectNode()
+                                .put("content", delta)))).toString();
+                exchange.getResponseBody().write(("data: " + chunk + "\n\n").getBytes(StandardCharsets.UTF_8));
+                exchange.getResponseBody().flush();
+            }
+            exchange.getResponseBody().write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        };
+        List<String> fragments = new ArrayList<>();
+
+        AiReviewResult result = provider(4, Duration.ofSeconds(5), 10)
+                .reviewAsync("java", CODE, fragments::add).block();
+
+        assertThat(fragments).containsExactly("Readable ", "solution.\n", "- Add tests");
+        assertThat(result.getSummary()).isEqualTo("Readable solution.");
+        assertThat(result.getSuggestions()).containsExactly("Add tests");
+        assertThat(bodies.peek()).contains("\"stream\":true");
+    }
+
+    @Test
+    void batchIsReviewedWithOneRequest() {
+        behaviour = exchange -> respond(exchange, 200, completion("""
+                {"reviews": [
+                  {"id": "2", "summary": "Second", "suggestions": ["Rename b"]},
+                  {"id": "1", "summary": "First", "suggestions": []}
+                ]}"""));
+        List<AiReviewRequest> batch = List.of(new AiReviewRequest("java", CODE),
+                new AiReviewRequest("python", "def f(b):\n\treturn b\n"));
+
+        List<AiReviewResult> results = provider(4, Duration.ofSeconds(5), 10).reviewBatch(batch)
+                .map(answers -> answers.stream().map(Optional::orElseThrow).toList())
+                .block();
+
+        assertThat(results).extracting(AiReviewResult::getSummary).containsExactly("First", "Second");
+        assertThat(results.get(1).getSuggestions()).containsExactly("Rename b");
+        assertThat(requests).hasValue(1);
+        assertThat(bodies.peek()).contains("json_object", "<SUBMISSION id=\\\"2\\\" language=\\\"python\\\">");
+    }
+
+    @Test
+    void submissionsMissingFromBatchAnswerAreLeftToTheCaller() {
+        behaviour = exchange -> respond(exchange, 200,
+                completion("{\"reviews\": [{\"id\": \"1\", \"summary\": \"First\", \"suggestions\": []}]}"));
+        List<AiReviewRequest> batch = List.of(new AiReviewRequest("java", CODE), new AiReviewRequest("java", CODE));
+
+        List<Optional<AiReviewResult>> results = provider(4, Duration.ofSeconds(5), 10).reviewBatch(batch).block();
+
+        assertThat(results.get(0)).hasValueSatisfying(result -> assertThat(result.getSummary()).isEqualTo("First"));
+        assertThat(results.get(1)).isEmpty();
+        assertThat(requests).hasValue(1);
+    }
+
+    @Test
+    void failedBatchFallsBackForEverySubmission() {
+        behaviour = exchange -> respond(exchange, 503, "{}");
+        List<AiReviewRequest> batch = List.of(new AiReviewRequest("java", CODE), new AiReviewRequest("java", CODE));
+
+        List<Optional<AiReviewResult>> results = provider(4, Duration.ofSeconds(5), 10).reviewBatch(batch).block();
+
+        assertThat(results).hasSize(2).allMatch(result -> result.orElseThrow().isDegraded());
+        assertThat(meterRegistry.get("ai.review.failures").tag("cause", "error").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void throttledRequestIsRetriedAfterTheReportedReset() {
+        behaviour = exchange -> {
+            if (requests.get() == 1) {
+                exchange.getResponseHeaders().add("x-ratelimit-remaining-requests", "0");
+                exchange.getResponseHeaders().add("x-ratelimit-reset-requests", "50ms");
+                respond(exchange, 429, "{}");
+            } else {
+                respond(exchange, 200, COMPLETION);
+            }
+        };
+
+        AiReviewResult result = provider(4, Duration.ofSeconds(5), 10).reviewAsync("java", CODE).block();
+
+        assertThat(result.isDegraded()).isFalse();
+        assertThat(requests).hasValue(2);
+        assertThat(meterRegistry.get("ai.review.ratelimit.throttled").counter().count()).isEqualTo(1);
+    }
+
+    private ResilientAiReviewProvider provider(int maxConcurrentCalls, Duration timeout, int minimumCalls) {
+        return new ResilientAiReviewProvider(openAi, analyzers(), meterRegistry, maxConcurrentCalls, timeout,
+                timeout, minimumCalls, minimumCalls, 50, Duration.ofMinutes(1));
+    }
+
+    private static CodeAnalyzerRegistry analyzers() {
+        return new CodeAnalyzerRegistry(List.of(new CStyleCodeAnalyzer(), new PythonCodeAnalyzer()),
+                new CyclomaticComplexityCalculator());
+    }
+
+    private static String completion(String content) {
+        return MAPPER.createObjectNode().set("choices", MAPPER.createArrayNode()
+                .add(MAPPER.createObjectNode().set("message", MAPPER.createObjectNode()
+                        .put("role", "assistant")
+                        .put("content", content)))).toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    @FunctionalInterface
+    private interface StubBehaviour {
+        void handle(HttpExchange exchange) throws IOException, InterruptedException;
+    }
+}
@@ -0,0 +1,44 @@
+package com.leetmate.platform.ai;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewTextParserTest {
+
+    private static final String ANSWER = "Solid solution overall.\r\n\n"
+            + "- Handle empty input\n"
+            + "  *   Rename `tmp`  \r\n"
+            + "Plain remark\n"
+            + "-Avoid the nested loop";
+
+    @Test
+    void firstLineIsTheSummaryAndBulletsAreSuggestions() {
+        AiReviewResult result = new ReviewTextParser().append(ANSWER).toResult();
+
+        assertThat(result.getSummary()).isEqualTo("Solid solution overall.");
+        assertThat(result.getSuggestions())
+                .containsExactly("Handle empty input", "Rename `tmp`", "Avoid the nested loop");
+    }
+
+    @Test
+    void fragmentsSplitAnywhereGiveTheSameResult() {
+        ReviewTextParser parser = new ReviewTextParser();
+        for (int i = 0; i < ANSWER.length(); i += 3) {
+            parser.append(ANSWER.substring(i, Math.min(ANSWER.length(), i + 3)));
+        }
+
+        AiReviewResult result = parser.toResult();
+
+        assertThat(result.getSummary()).isEqualTo("Solid solution overall.");
+        assertThat(result.getSuggestions()).hasSize(3);
+    }
+
+    @Test
+    void blankAnswerGetsPlaceholderSummary() {
+        AiReviewResult result = new ReviewTextParser().append(" \n\t\n").toResult();
+
+        assertThat(result.getSummary()).isEqualTo("No review generated.");
+        assertThat(result.getSuggestions()).isEmpty();
+    }
+}
@@ -0,0 +1,103 @@
+package com.leetmate.platform.analysis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CStyleCodeAnalyzerTest {
+
+    private CStyleCodeAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new CStyleCodeAnalyzer();
+    }
+
+    @Test
+    void reportsEachMethodSeparately() {
+        String code = """
+                import java.util.*;
+
+                @SuppressWarnings("unused")
+                class Solution {
+                    // returns the larger value
+                    public int max(int a, int b) {
+                        return a > b ? a : b;
+                    }
+
+                    @Override
+                    public int[] twoSum(int[] nums, int target) throws IllegalStateException {
+                        Map<Integer, Integer> seen = new HashMap<>();
+                        for (int i = 0; i < nums.length; i++) {
+                            if (seen.containsKey(target - nums[i]) && i > 0) {
+                                return new int[] {seen.get(target - nums[i]), i};
+                            }
+                            seen.put(nums[i], i);
+                        }
+                        throw new IllegalStateException("no if/for solution");
+                    }
+                }
+                """;
+
+        CodeMetrics metrics = analyzer.analyze(code);
+
+        assertThat(metrics.complexity()).isEqualTo(5);
+        assertThat(metrics.lines()).isEqualTo(21);
+        assertThat(metrics.codeLines()).isEqualTo(18);
+        assertThat(metrics.maxNestingDepth()).isEqualTo(2);
+        assertThat(metrics.functions())
+                .extracting(FunctionMetrics::name, FunctionMetrics::startLine, FunctionMetrics::lines,
+                        FunctionMetrics::complexity, FunctionMetrics::maxNestingDepth)
+                .containsExactly(tuple("max", 6, 3, 2, 0), tuple("twoSum", 11, 10, 4, 2));
+    }
+
+    @Test
+    void lambdasAndAnonymousClassesBelongToTheEnclosingFunction() {
+        String code = """
+                void run(List<? extends Number> values) {
+                    values.forEach(v -> {
+                        if (v == null) { return; }
+                    });
+                    new Thread() {
+                        public void run() { while (true) { } }
+                    }.start();
+                }
+                """;
+
+        CodeMetrics metrics = analyzer.analyze(code);
+
+        assertThat(metrics.functions()).extracting(FunctionMetrics::name, FunctionMetrics::complexity)
+                .containsExactly(tuple("run", 2), tuple("run", 2));
+        assertThat(metrics.complexity()).isEqualTo(3);
+    }
+
+    @Test
+    void handlesJavaScriptFunctionsAndOperators() {
+        String code = """
+                function pick(a, b) {
+                  const fallback = a ?? b;
+                  return a?.value || `if ${b}`;
+                }
+                const twice = (x) => {
+                  return x && x * 2;
+                };
+                """;
+
+        CodeMetrics metrics = analyzer.analyze(code);
+
+        assertThat(metrics.functions()).extracting(FunctionMetrics::name, FunctionMetrics::complexity)
+                .containsExactly(tuple("pick", 3));
+        assertThat(metrics.complexity()).isEqualTo(4);
+    }
+
+    @Test
+    void emptyCodeHasBaseComplexity() {
+        CodeMetrics metrics = analyzer.analyze("");
+
+        assertThat(metrics.complexity()).isEqualTo(1);
+        assertThat(metrics.lines()).isZero();
+        assertThat(metrics.functions()).isEmpty();
+    }
+}
@@ -0,0 +1,52 @@
+package com.leetmate.platform.analysis;
+
+import com.leetmate.platform.util.CyclomaticComplexityCalculator;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodeAnalyzerRegistryTest {
+
+    private final CodeAnalyzerRegistry registry = new CodeAnalyzerRegistry(
+            List.of(new CStyleCodeAnalyzer(), new PythonCodeAnalyzer()), new CyclomaticComplexityCalculator());
+
+    @Test
+    void selectsAnalyzerByLanguage() {
+        String code = "if a and b or c:\n    pass\n";
+
+        assertThat(registry.analyze(" Python ", code).complexity()).isEqualTo(4);
+        assertThat(registry.analyze("java", code).complexity()).isEqualTo(2);
+    }
+
+    @Test
+    void unknownLanguagesFallBackToTheGenericEstimate() {
+        CodeMetrics metrics = registry.analyze("go", "func f() {\n\n  if x && y {}\n}\n");
+
+        assertThat(metrics.complexity()).isEqualTo(3);
+        assertThat(metrics.lines()).isEqualTo(4);
+        assertThat(metrics.codeLines()).isEqualTo(3);
+        assertThat(metrics.functions()).isEmpty();
+    }
+
+    @Test
+    void rejectsLanguagesClaimedTwice() {
+        CodeAnalyzer duplicate = new CodeAnalyzer() {
+            @Override
+            public Set<String> languages() {
+                return Set.of("java");
+            }
+
+            @Override
+            public CodeMetrics analyze(String code) {
+                return new CodeMetrics(1, 0, 0, 0, List.of());
+            }
+        };
+
+        assertThatThrownBy(() -> new CodeAnalyzerRegistry(List.of(new CStyleCodeAnalyzer(), duplicate),
+                new CyclomaticComplexityCalculator()))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
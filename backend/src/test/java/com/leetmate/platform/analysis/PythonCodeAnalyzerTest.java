@@ -0,0 +1,88 @@
+package com.leetmate.platform.analysis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PythonCodeAnalyzerTest {
+
+    private PythonCodeAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new PythonCodeAnalyzer();
+    }
+
+    @Test
+    void countsPythonDecisionPointsPerFunction() {
+        String code = """
+                # if this were C it would count
+                class Solution:
+                    def two_sum(self, nums, target):
+                        \"\"\"Return indices; if none, raise.\"\"\"
+                        seen = {}
+                        for i, n in enumerate(nums):
+                            if target - n in seen and i > 0:
+                                return [seen[target - n], i]
+                            elif n < 0 or n > target:
+                                continue
+                            seen[n] = i
+                        raise ValueError("no for/while answer")
+
+                    def evens(self, nums):
+                        return [n for n in nums if n % 2 == 0]
+                """;
+
+        CodeMetrics metrics = analyzer.analyze(code);
+
+        assertThat(metrics.complexity()).isEqualTo(8);
+        assertThat(metrics.lines()).isEqualTo(15);
+        assertThat(metrics.codeLines()).isEqualTo(13);
+        assertThat(metrics.maxNestingDepth()).isEqualTo(2);
+        assertThat(metrics.functions())
+                .extracting(FunctionMetrics::name, FunctionMetrics::startLine, FunctionMetrics::lines,
+                        FunctionMetrics::complexity, FunctionMetrics::maxNestingDepth)
+                .containsExactly(tuple("two_sum", 3, 10, 6, 2), tuple("evens", 14, 2, 3, 0));
+    }
+
+    @Test
+    void continuationLinesDoNotOpenBlocks() {
+        String code = """
+                def total(values,
+                          scale):
+                    result = (values[0] +
+                                  values[1])
+                    return result \\
+                        * scale
+                """;
+
+        CodeMetrics metrics = analyzer.analyze(code);
+
+        assertThat(metrics.functions()).extracting(FunctionMetrics::name, FunctionMetrics::lines,
+                        FunctionMetrics::maxNestingDepth)
+                .containsExactly(tuple("total", 6, 0));
+        assertThat(metrics.complexity()).isEqualTo(1);
+    }
+
+    @Test
+    void matchCasesAndExceptClausesAreDecisions() {
+        String code = """
+                def handle(command):
+                    try:
+                        match command:
+                            case "start":
+                                return 1
+                            case _:
+                                return 0
+                    except KeyError:
+                        return -1
+                """;
+
+        CodeMetrics metrics = analyzer.analyze(code);
+
+        assertThat(metrics.complexity()).isEqualTo(4);
+        assertThat(metrics.functions()).extracting(FunctionMetrics::maxNestingDepth).containsExactly(3);
+    }
+}
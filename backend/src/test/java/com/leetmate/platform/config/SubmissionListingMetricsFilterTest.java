@@ -0,0 +1,48 @@
+package com.leetmate.platform.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SubmissionListingMetricsFilterTest {
+
+    private static final String FULL_PAGE = "{\"content\":[{\"code\":\"class A {}\"}]}";
+    private static final String SUMMARY_PAGE = "{\"content\":[{}]}";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SubmissionListingMetricsFilter filter = new SubmissionListingMetricsFilter(meterRegistry);
+
+    @Test
+    void recordsSizeAndLatencyPerView() throws Exception {
+        serve("/challenges/{challengeId}/submissions", FULL_PAGE);
+        serve("/challenges/{challengeId}/submissions/summary", SUMMARY_PAGE);
+
+        assertThat(meterRegistry.get("submissions.listing.response.size").tag("view", "full").summary().totalAmount())
+                .isEqualTo(FULL_PAGE.length());
+        assertThat(meterRegistry.get("submissions.listing.response.size").tag("view", "summary").summary()
+                .totalAmount()).isEqualTo(SUMMARY_PAGE.length());
+        assertThat(meterRegistry.get("submissions.listing.latency").tag("view", "summary").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void ignoresOtherEndpoints() throws Exception {
+        serve("/challenges/{challengeId}", "{}");
+
+        assertThat(meterRegistry.get("submissions.listing.latency").timers())
+                .allMatch(timer -> timer.count() == 0);
+    }
+
+    private void serve(String pattern, String body) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/challenges/1/submissions");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+            res.getOutputStream().write(body.getBytes(StandardCharsets.UTF_8));
+        });
+    }
+}
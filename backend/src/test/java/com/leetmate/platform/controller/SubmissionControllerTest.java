@@ -1,13 +1,18 @@
 package com.leetmate.platform.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leetmate.platform.dto.auth.StreamTicketResponse;
 import com.leetmate.platform.dto.common.PageResponse;
+import com.leetmate.platform.dto.submission.FunctionMetricsResponse;
 import com.leetmate.platform.dto.submission.ReviewResponse;
 import com.leetmate.platform.dto.submission.SubmissionResponse;
+import com.leetmate.platform.dto.submission.SubmissionSummaryResponse;
 import com.leetmate.platform.dto.submission.SubmitSolutionRequest;
+import com.leetmate.platform.entity.ReviewStatus;
 import com.leetmate.platform.entity.UserRole;
 import com.leetmate.platform.security.UserPrincipal;
 import com.leetmate.platform.security.JwtAuthenticationFilter;
+import com.leetmate.platform.service.AuthService;
 import com.leetmate.platform.service.SubmissionService;
 import java.time.Instant;
 import java.util.List;
@@ -23,11 +28,13 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(SubmissionController.class)
@@ -43,6 +50,9 @@ class SubmissionControllerTest {
     @MockBean
     private SubmissionService submissionService;
 
+    @MockBean
+    private AuthService authService;
+
     @MockBean
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
@@ -50,12 +60,36 @@ class SubmissionControllerTest {
             new UserPrincipal(UUID.randomUUID(), "mentee@demo.com", "pwd", UserRole.MENTEE);
 
     @Test
-    void submitReturns201() throws Exception {
+    void reviewStreamIsServedAsServerSentEvents() throws Exception {
+        UUID submissionId = UUID.randomUUID();
+        when(submissionService.streamReview(submissionId)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/submissions/" + submissionId + "/review/events")
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+
+    @Test
+    void reviewStreamTicketIsBoundToTheStreamPath() throws Exception {
+        UUID submissionId = UUID.randomUUID();
+        when(authService.issueStreamTicket(ArgumentMatchers.any(UserPrincipal.class),
+                ArgumentMatchers.eq("/submissions/" + submissionId + "/review/events")))
+                .thenReturn(new StreamTicketResponse("ticket"));
+
+        mockMvc.perform(post("/submissions/" + submissionId + "/review/events/ticket")
+                        .with(SecurityMockMvcRequestPostProcessors.authentication(
+                                new UsernamePasswordAuthenticationToken(menteePrincipal, menteePrincipal.getPassword(),
+                                        menteePrincipal.getAuthorities()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ticket").value("ticket"));
+    }
+
+    @Test
+    void submitReturns202WithPendingReview() throws Exception {
         UUID challengeId = UUID.randomUUID();
         SubmissionResponse response = new SubmissionResponse(UUID.randomUUID(), challengeId,
                 menteePrincipal.getId(), "Mentee", "java",
-                "class Solution {}", 1, Instant.now(),
-                new ReviewResponse(UUID.randomUUID(), "Summary", 5, List.of("Tip"), Instant.now()));
+                "class Solution {}", 1, Instant.now(), ReviewStatus.PENDING, null);
         when(submissionService.submit(ArgumentMatchers.eq(challengeId),
                 ArgumentMatchers.any(SubmitSolutionRequest.class),
                 ArgumentMatchers.any(UUID.class))).thenReturn(response);
@@ -73,8 +107,8 @@ class SubmissionControllerTest {
                                         menteePrincipal, menteePrincipal.getPassword(), menteePrincipal.getAuthorities())))
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(request)))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.review.summary").value("Summary"));
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.reviewStatus").value("PENDING"));
 
         SecurityContextHolder.clearContext();
     }
@@ -84,13 +118,31 @@ class SubmissionControllerTest {
         UUID challengeId = UUID.randomUUID();
         SubmissionResponse response = new SubmissionResponse(UUID.randomUUID(), challengeId,
                 menteePrincipal.getId(), "Mentee", "java",
-                "code", 1, Instant.now(),
-                new ReviewResponse(UUID.randomUUID(), "Summary", 5, List.of("Tip"), Instant.now()));
+                "code", 1, Instant.now(), ReviewStatus.COMPLETED,
+                new ReviewResponse(UUID.randomUUID(), "Summary", 5,
+                        List.of(new FunctionMetricsResponse("twoSum", 1, 4, 5, 1)), List.of("Tip"), Instant.now()));
         PageResponse<SubmissionResponse> page = new PageResponse<>(List.of(response), 0, 20, 1, 1);
         when(submissionService.listSubmissions(challengeId, 0, 20)).thenReturn(page);
 
         mockMvc.perform(get("/challenges/" + challengeId + "/submissions?page=0&size=20"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.content[0].language").value("java"));
+                .andExpect(jsonPath("$.content[0].language").value("java"))
+                .andExpect(jsonPath("$.content[0].review.functions[0].name").value("twoSum"))
+                .andExpect(jsonPath("$.content[0].review.functions[0].complexity").value(5));
+    }
+
+    @Test
+    void summaryListingOmitsCode() throws Exception {
+        UUID challengeId = UUID.randomUUID();
+        SubmissionSummaryResponse summary = new SubmissionSummaryResponse(UUID.randomUUID(), challengeId,
+                menteePrincipal.getId(), "Mentee", "java", 1, Instant.now(), ReviewStatus.COMPLETED, 5);
+        when(submissionService.listSubmissionSummaries(challengeId, 0, 20))
+                .thenReturn(new PageResponse<>(List.of(summary), 0, 20, 1, 1));
+
+        mockMvc.perform(get("/challenges/" + challengeId + "/submissions/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].menteeName").value("Mentee"))
+                .andExpect(jsonPath("$.content[0].complexity").value(5))
+                .andExpect(jsonPath("$.content[0].code").doesNotExist());
     }
 }
@@ -9,7 +9,8 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
- * Simple controller used by {@link GlobalExceptionHandlerTest} to trigger validation errors and not-found scenarios.
+ * Simple controller used by {@link GlobalExceptionHandlerTest} to trigger validation errors, not-found and busy
+ * scenarios.
  */
 @RestController
 @RequestMapping("/test")
@@ -25,6 +26,11 @@ public class TestExceptionController {
         throw new ResourceNotFoundException("missing");
     }
 
+    @GetMapping("/busy")
+    public String busy() {
+        throw new ServiceBusyException("busy");
+    }
+
     public static class DummyRequest {
         @NotBlank
         private String value;
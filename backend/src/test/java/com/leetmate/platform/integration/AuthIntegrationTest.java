@@ -0,0 +1,78 @@
+package com.leetmate.platform.integration;
+
+import com.leetmate.platform.entity.User;
+import com.leetmate.platform.entity.UserRole;
+import com.leetmate.platform.repository.UserRepository;
+import java.time.Instant;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs logins through the hashing pool and the auth executor. New hashes use cost 5, so users stored with cost 4
+ * are upgraded on their next login.
+ */
+@SpringBootTest(properties = "app.password-hashing.strength=5")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DirtiesContext
+class AuthIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void wrongPasswordReturns401AfterAsyncDispatch() throws Exception {
+        storeUser("wrong@test.com", new BCryptPasswordEncoder(5).encode("secret123"));
+
+        mockMvc.perform(asyncDispatch(login("wrong@test.com", "not-the-password")))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.message").value("Invalid credentials"));
+    }
+
+    @Test
+    void loginUpgradesAWeakerStoredHash() throws Exception {
+        User user = storeUser("weak@test.com", new BCryptPasswordEncoder(4).encode("secret123"));
+
+        mockMvc.perform(asyncDispatch(login("weak@test.com", "secret123")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty());
+
+        String storedHash = userRepository.findById(user.getId()).orElseThrow().getPasswordHash();
+        assertThat(storedHash).startsWith("$2a$05$");
+        assertThat(new BCryptPasswordEncoder().matches("secret123", storedHash)).isTrue();
+    }
+
+    private User storeUser(String email, String passwordHash) {
+        return userRepository.save(new User(UUID.randomUUID(), "User", email, passwordHash, UserRole.MENTEE,
+                Instant.now()));
+    }
+
+    private MvcResult login(String email, String password) throws Exception {
+        return mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"email": "%s", "password": "%s"}
+                                """.formatted(email, password)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+}
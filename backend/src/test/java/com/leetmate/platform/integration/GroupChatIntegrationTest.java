@@ -15,9 +15,11 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -174,10 +176,45 @@ class GroupChatIntegrationTest {
                 .andExpect(status().isForbidden());
     }
 
+    @Test
+    void eventStreamsAcceptStreamTicketsButNotLoginTokensInTheUrl() throws Exception {
+        AuthResponse mentor = registerUser("""
+                {"name":"Mentor","email":"mentor@test.com","password":"secret123","role":"MENTOR"}
+                """);
+        AuthResponse outsider = registerUser("""
+                {"name":"Outsider","email":"outsider@test.com","password":"secret123","role":"MENTEE"}
+                """);
+        String groupId = createGroup(mentor.token());
+        String threadId = createThread(groupId, mentor.token(), """
+                {"title":"T","description":"desc"}
+                """);
+
+        MvcResult ticketResult = mockMvc.perform(post("/threads/" + threadId + "/events/ticket")
+                        .header("Authorization", "Bearer " + mentor.token()))
+                .andExpect(status().isOk())
+                .andReturn();
+        String ticket = objectMapper.readTree(ticketResult.getResponse().getContentAsString()).get("ticket").asText();
+
+        mockMvc.perform(get("/threads/" + threadId + "/events").param("ticket", ticket)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+        mockMvc.perform(get("/threads/" + threadId + "/events").param("ticket", mentor.token())
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/threads/" + threadId).param("ticket", ticket))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/threads/" + threadId + "/events/ticket")
+                        .header("Authorization", "Bearer " + outsider.token()))
+                .andExpect(status().isForbidden());
+    }
+
     private AuthResponse registerUser(String payload) throws Exception {
-        MvcResult result = mockMvc.perform(post("/auth/register")
+        MvcResult started = mockMvc.perform(post("/auth/register")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(payload))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isCreated())
                 .andReturn();
         JsonNode json = objectMapper.readTree(result.getResponse().getContentAsString());
@@ -0,0 +1,149 @@
+package com.leetmate.platform.integration;
+
+import com.leetmate.platform.dto.group.CreateGroupRequest;
+import com.leetmate.platform.entity.StudyGroup;
+import com.leetmate.platform.entity.User;
+import com.leetmate.platform.entity.UserRole;
+import com.leetmate.platform.repository.GroupMemberRepository;
+import com.leetmate.platform.repository.StudyGroupRepository;
+import com.leetmate.platform.repository.UserRepository;
+import com.leetmate.platform.service.GroupMemberCounter;
+import com.leetmate.platform.service.GroupService;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class GroupMemberCountIntegrationTest {
+
+    private static final int MENTEES = 40;
+
+    @Autowired
+    private GroupService groupService;
+
+    @Autowired
+    private GroupMemberCounter memberCounter;
+
+    @Autowired
+    private StudyGroupRepository groupRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void concurrentJoinsAndLeavesKeepTheCountExact() throws Exception {
+        UUID groupId = createGroup();
+        List<UUID> mentees = new ArrayList<>();
+        for (int i = 0; i < MENTEES; i++) {
+            mentees.add(userRepository.save(new User(UUID.randomUUID(), "Mentee " + i, "mentee" + i + "@test.com",
+                    "hash", UserRole.MENTEE, Instant.now())).getId());
+        }
+
+        concurrently(mentees, menteeId -> groupService.joinGroup(groupId, menteeId));
+        memberCounter.flush();
+        assertStoredCount(groupId, MENTEES + 1);
+        assertThat(groupService.getGroup(groupId).getMemberCount()).isEqualTo(MENTEES + 1);
+
+        concurrently(mentees.subList(0, MENTEES / 2), menteeId -> groupService.leaveGroup(groupId, menteeId));
+        memberCounter.flush();
+        assertStoredCount(groupId, MENTEES / 2 + 1);
+        assertThat(groupService.getGroup(groupId).getMemberCount()).isEqualTo(MENTEES / 2 + 1);
+    }
+
+    @Test
+    void groupUpdateKeepsCountFlushedDuringItsTransaction() {
+        UUID groupId = createGroup();
+        UUID menteeId = userRepository.save(new User(UUID.randomUUID(), "Mentee", "mentee@test.com", "hash",
+                UserRole.MENTEE, Instant.now())).getId();
+        memberCounter.flush();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            StudyGroup group = groupRepository.findById(groupId).orElseThrow();
+            // a join flushed by another thread commits while this transaction still holds the old count
+            CompletableFuture.runAsync(() -> {
+                groupService.joinGroup(groupId, menteeId);
+                memberCounter.flush();
+            }).join();
+            group.setName("Renamed");
+            groupRepository.save(group);
+        });
+
+        assertStoredCount(groupId, 2);
+        assertThat(groupRepository.findById(groupId).orElseThrow().getName()).isEqualTo("Renamed");
+    }
+
+    @Test
+    void reconcileRepairsDriftedCounts() {
+        UUID groupId = createGroup();
+        memberCounter.flush();
+        jdbcTemplate.update("update study_groups set member_count = member_count + 1 where id = ?", groupId);
+
+        memberCounter.reconcile();
+
+        assertStoredCount(groupId, 1);
+    }
+
+    private UUID createGroup() {
+        User mentor = userRepository.save(new User(UUID.randomUUID(), "Mentor", "mentor@test.com", "hash",
+                UserRole.MENTOR, Instant.now()));
+        CreateGroupRequest request = new CreateGroupRequest();
+        request.setName("Contest");
+        request.setDescription("desc");
+        request.setTags(List.of("contest"));
+        return groupService.createGroup(request, mentor.getId()).getId();
+    }
+
+    private void assertStoredCount(UUID groupId, int expected) {
+        assertThat(groupMemberRepository.findMemberIdsByGroupId(groupId)).hasSize(expected);
+        assertThat(groupRepository.findById(groupId).orElseThrow().getMemberCount()).isEqualTo(expected);
+    }
+
+    private static void concurrently(List<UUID> mentees, Consumer<UUID> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (UUID menteeId : mentees) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    action.accept(menteeId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.leetmate.platform.integration;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
 import java.util.List;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +15,12 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -89,16 +93,23 @@ class SubmissionFlowIntegrationTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .header("Authorization", "Bearer " + menteeToken)
                         .content(submissionPayload))
-                .andExpect(status().isCreated())
-                .andExpect(jsonPath("$.review.summary").exists())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.reviewStatus").value("PENDING"))
                 .andExpect(jsonPath("$.creditsAwarded").value(1))
                 .andReturn();
         JsonNode submissionJson = objectMapper.readTree(submissionResult.getResponse().getContentAsString());
         String submissionId = submissionJson.get("id").asText();
 
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+                mockMvc.perform(get("/submissions/" + submissionId)
+                                .header("Authorization", "Bearer " + menteeToken))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.reviewStatus").value("COMPLETED")));
+
         mockMvc.perform(get("/submissions/" + submissionId)
                         .header("Authorization", "Bearer " + menteeToken))
                 .andExpect(status().isOk())
+                .andExpect(jsonPath("$.review.summary").exists())
                 .andExpect(jsonPath("$.review.complexity").value(2));
 
         mockMvc.perform(get("/challenges/" + challengeId + "/submissions?page=0&size=10")
@@ -108,9 +119,12 @@ class SubmissionFlowIntegrationTest {
     }
 
     private String registerUser(String payload) throws Exception {
-        MvcResult result = mockMvc.perform(post("/auth/register")
+        MvcResult started = mockMvc.perform(post("/auth/register")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(payload))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult result = mockMvc.perform(asyncDispatch(started))
                 .andExpect(status().isCreated())
                 .andReturn();
         JsonNode json = objectMapper.readTree(result.getResponse().getContentAsString());
@@ -0,0 +1,357 @@
+package com.leetmate.platform.repository;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leetmate.platform.entity.ReviewStatus;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the query indexes from the Flyway migrations: seeds the Postgres test database with a realistic volume, calls
+ * every hot repository method, records the SQL and bind values Hibernate sends for it and fails if {@code EXPLAIN}
+ * of any recorded statement scans a large table sequentially. Deriving the statements from the repositories keeps
+ * the check honest when a query or its mapping changes.
+ */
+@DataJpaTest(properties = "spring.datasource.hikari.pool-name=query-plans")
+@Import(QueryPlanRegressionTest.RecordingConfiguration.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DirtiesContext
+class QueryPlanRegressionTest {
+
+    private static final int USERS = 20_000;
+    private static final int GROUPS = 20_000;
+    private static final int ROWS = 200_000;
+    private static final Set<String> LARGE_TABLES = Set.of("users", "study_groups", "group_members", "challenges",
+            "submissions", "chat_threads", "chat_messages", "password_reset_tokens");
+
+    @Autowired
+    private StatementRecorder recorder;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Autowired
+    private ChatThreadRepository chatThreadRepository;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private PasswordResetTokenRepository passwordResetTokenRepository;
+
+    @Autowired
+    private SearchRepository searchRepository;
+
+    private JdbcTemplate jdbc;
+    private final List<String> violations = new ArrayList<>();
+
+    @BeforeEach
+    void seed() {
+        jdbc = new JdbcTemplate(dataSource);
+        Integer users = jdbc.queryForObject("select count(*) from users", Integer.class);
+        if (users == null || users == 0) {
+            insertRows();
+            jdbc.execute("vacuum analyze");
+        }
+    }
+
+    @Test
+    void hotQueriesUseIndexes() throws Exception {
+        UUID user = id("u", 42);
+        UUID mentor = id("u", 420);
+        UUID group = id("g", 42);
+        UUID challenge = id("c", 42);
+        UUID thread = id("t", 42);
+        UUID message = id("cm", 42);
+        PageRequest page = PageRequest.of(0, 20);
+        Instant now = Instant.now();
+
+        check("UserRepository.findByEmailIgnoreCase", () -> userRepository.findByEmailIgnoreCase("User42@load.test"));
+        check("UserRepository.existsByEmailIgnoreCase",
+                () -> userRepository.existsByEmailIgnoreCase("User42@load.test"));
+        check("SubmissionRepository.findByChallenge_IdOrderByCreatedAtDesc",
+                () -> submissionRepository.findByChallenge_IdOrderByCreatedAtDesc(challenge, page));
+        check("SubmissionRepository.findIdsByChallengeId", () -> submissionRepository.findWithReviewByIdIn(
+                submissionRepository.findIdsByChallengeId(challenge, page).getContent()));
+        check("SubmissionRepository.findSummariesByChallengeId",
+                () -> submissionRepository.findSummariesByChallengeId(challenge, page));
+        check("SubmissionRepository.findIdsByReviewStatusCreatedBefore",
+                () -> submissionRepository.findIdsByReviewStatusCreatedBefore(ReviewStatus.PENDING, now,
+                        PageRequest.of(0, 100)));
+        check("ChatMessageRepository.findByThreadIdOrderByCreatedAtAsc",
+                () -> chatMessageRepository.findByThreadIdOrderByCreatedAtAsc(thread, page));
+        check("ChatMessageRepository.findByThreadIdOrderByCreatedAtAscIdAsc",
+                () -> chatMessageRepository.findByThreadIdOrderByCreatedAtAscIdAsc(thread, page));
+        check("ChatMessageRepository.findByThreadIdAfter", () -> chatMessageRepository.findByThreadIdAfter(thread,
+                now.minus(Duration.ofDays(1)), message, page));
+        check("ChatThreadRepository.findByGroupIdOrderByCreatedAtDesc",
+                () -> chatThreadRepository.findByGroupIdOrderByCreatedAtDesc(group, page));
+        check("ChatThreadRepository.findByGroupIdOrderByCreatedAtDescIdDesc",
+                () -> chatThreadRepository.findByGroupIdOrderByCreatedAtDescIdDesc(group, page));
+        check("ChatThreadRepository.findByGroupIdBefore",
+                () -> chatThreadRepository.findByGroupIdBefore(group, now, thread, page));
+        check("ChallengeRepository.findByGroup_IdOrderByCreatedAtDesc",
+                () -> challengeRepository.findByGroup_IdOrderByCreatedAtDesc(group));
+        check("StudyGroupRepository.findAllByMentorIdOrderByCreatedAtDesc",
+                () -> studyGroupRepository.findAllByMentorIdOrderByCreatedAtDesc(mentor));
+        // the directory total is a full count by design and cached with the first pages
+        check("StudyGroupRepository.findAllByOrderByCreatedAtDesc", Set.of("study_groups"),
+                () -> studyGroupRepository.findAllByOrderByCreatedAtDesc(page));
+        check("StudyGroupRepository.recountMembers", () -> studyGroupRepository.recountMembers(List.of(group)));
+        check("GroupMemberRepository.existsByGroupIdAndMemberId",
+                () -> groupMemberRepository.existsByGroupIdAndMemberId(group, user));
+        check("GroupMemberRepository.findByGroupIdAndMemberId",
+                () -> groupMemberRepository.findByGroupIdAndMemberId(group, user));
+        check("GroupMemberRepository.findMemberIdsByGroupId",
+                () -> groupMemberRepository.findMemberIdsByGroupId(group));
+        check("GroupMemberRepository.findGroupsByMemberId", () -> groupMemberRepository.findGroupsByMemberId(user));
+        check("GroupMemberRepository.findAllByGroupIdOrderByJoinedAtAsc",
+                () -> groupMemberRepository.findAllByGroupIdOrderByJoinedAtAsc(group));
+        check("PasswordResetTokenRepository.findByTokenAndUsedAtIsNull",
+                () -> passwordResetTokenRepository.findByTokenAndUsedAtIsNull(id("p", 42)));
+        check("PasswordResetTokenRepository.deleteAllByUser",
+                () -> passwordResetTokenRepository.deleteAllByUser(userRepository.getReferenceById(user)));
+        check("SearchRepository.search",
+                () -> searchRepository.search("dijkstra", true, true, true, user, 20, 0));
+        check("SearchRepository.countResults",
+                () -> searchRepository.countResults("dijkstra", true, true, true, user));
+
+        assertThat(violations).as("queries scanning large tables sequentially").isEmpty();
+    }
+
+    private void check(String query, Runnable call) throws Exception {
+        check(query, Set.of(), call);
+    }
+
+    /**
+     * Runs a repository call in a transaction that is rolled back, then explains every statement it sent.
+     */
+    private void check(String query, Set<String> fullScans, Runnable call) throws Exception {
+        List<RecordedStatement> statements = recorder.record(() -> new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> {
+                    call.run();
+                    status.setRollbackOnly();
+                }));
+        assertThat(statements).as("statements sent by " + query).isNotEmpty();
+        ObjectMapper mapper = new ObjectMapper();
+        for (RecordedStatement statement : statements) {
+            JsonNode plan = mapper.readTree(explain(statement)).get(0).get("Plan");
+            collectSequentialScans(plan, query, fullScans, violations);
+        }
+    }
+
+    private String explain(RecordedStatement statement) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement explain = connection.prepareStatement("explain (format json) " + statement.sql())) {
+            for (RecordedCall parameter : statement.parameters()) {
+                try {
+                    parameter.method().invoke(explain, parameter.args());
+                } catch (IllegalAccessException | InvocationTargetException ex) {
+                    throw new SQLException("Could not bind " + parameter.method().getName(), ex);
+                }
+            }
+            try (ResultSet result = explain.executeQuery()) {
+                result.next();
+                return result.getString(1);
+            }
+        }
+    }
+
+    private static void collectSequentialScans(JsonNode node, String query, Set<String> fullScans,
+                                               List<String> violations) {
+        String relation = node.path("Relation Name").asText();
+        if ("Seq Scan".equals(node.path("Node Type").asText()) && LARGE_TABLES.contains(relation)
+                && !fullScans.contains(relation)) {
+            violations.add(query + " -> Seq Scan on " + relation);
+        }
+        for (JsonNode child : node.path("Plans")) {
+            collectSequentialScans(child, query, fullScans, violations);
+        }
+    }
+
+    private UUID id(String prefix, int n) {
+        return jdbc.queryForObject("select md5(? || ?)::uuid", UUID.class, prefix, n);
+    }
+
+    private void insertRows() {
+        jdbc.execute("""
+                insert into users (id, name, email, password_hash, role, created_at)
+                select md5('u' || i)::uuid, 'User ' || i, 'user' || i || '@load.test', 'hash',
+                       case when i %% 10 = 0 then 'MENTOR' else 'MENTEE' end, now() - i * interval '1 minute'
+                from generate_series(1, %d) i
+                """.formatted(USERS));
+        jdbc.execute("""
+                insert into study_groups (id, name, description, mentor_id, member_count, created_at)
+                select md5('g' || i)::uuid, 'Group ' || i, 'Seeded group', md5('u' || ((i %% %d + 1) * 10))::uuid,
+                       5, now() - i * interval '1 minute'
+                from generate_series(1, %d) i
+                """.formatted(USERS / 10, GROUPS));
+        jdbc.execute("""
+                insert into group_members (id, group_id, member_id, joined_at)
+                select md5('m' || i)::uuid, md5('g' || (i %% %1$d + 1))::uuid,
+                       md5('u' || ((i / %1$d + (i %% %1$d) * 5) %% %2$d + 1))::uuid, now() - i * interval '1 second'
+                from generate_series(0, %3$d - 1) i
+                """.formatted(GROUPS, USERS, GROUPS * 5));
+        jdbc.execute("""
+                insert into challenges (id, group_id, title, description, language, difficulty, starter_code, created_at)
+                select md5('c' || i)::uuid, md5('g' || (i %% %d + 1))::uuid, 'Challenge ' || i, 'Seeded', 'java',
+                       'EASY', 'class Solution {}', now() - i * interval '1 minute'
+                from generate_series(1, %d) i
+                """.formatted(GROUPS, GROUPS));
+        jdbc.execute("""
+                insert into submissions (id, challenge_id, mentee_id, language, code, credits_awarded, created_at,
+                                         review_status)
+                select md5('s' || i)::uuid, md5('c' || (i %% %d + 1))::uuid, md5('u' || (i %% %d + 1))::uuid, 'java',
+                       'class Solution {}', 1, now() - i * interval '1 second',
+                       case when i %% 1000 = 0 then 'PENDING' else 'COMPLETED' end
+                from generate_series(1, %d) i
+                """.formatted(GROUPS, USERS, ROWS));
+        jdbc.execute("""
+                insert into chat_threads (id, group_id, created_by, title, created_at)
+                select md5('t' || i)::uuid, md5('g' || (i %% %d + 1))::uuid, md5('u' || (i %% %d + 1))::uuid,
+                       'Thread ' || i, now() - i * interval '1 minute'
+                from generate_series(1, %d) i
+                """.formatted(GROUPS, USERS, GROUPS));
+        jdbc.execute("""
+                insert into chat_messages (id, thread_id, author_id, content, created_at)
+                select md5('cm' || i)::uuid, md5('t' || (i %% %d + 1))::uuid, md5('u' || (i %% %d + 1))::uuid,
+                       'Message ' || i, now() - i * interval '1 second'
+                from generate_series(1, %d) i
+                """.formatted(GROUPS, USERS, ROWS));
+        jdbc.execute("""
+                insert into password_reset_tokens (token, user_id, created_at, expires_at)
+                select md5('p' || i)::uuid, md5('u' || (i %% %d + 1))::uuid, now(), now() + interval '1 hour'
+                from generate_series(1, %d) i
+                """.formatted(USERS, USERS));
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class RecordingConfiguration {
+
+        @Bean
+        static StatementRecorder statementRecorder() {
+            return new StatementRecorder();
+        }
+    }
+
+    /**
+     * Wraps the data source to capture prepared statements and their bind calls while {@link #record} runs.
+     */
+    static final class StatementRecorder implements BeanPostProcessor {
+
+        private List<RecordedStatement> recorded;
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            return bean instanceof DataSource dataSource ? wrap(dataSource) : bean;
+        }
+
+        synchronized List<RecordedStatement> record(Runnable action) {
+            recorded = new ArrayList<>();
+            try {
+                action.run();
+                return recorded;
+            } finally {
+                recorded = null;
+            }
+        }
+
+        private DataSource wrap(DataSource target) {
+            return new DelegatingDataSource(target) {
+                @Override
+                public Connection getConnection() throws SQLException {
+                    return proxy(Connection.class, super.getConnection(), (method, args, result) ->
+                            method.getName().equals("prepareStatement") && args[0] instanceof String sql
+                                    ? recording((PreparedStatement) result, sql) : result);
+                }
+            };
+        }
+
+        private PreparedStatement recording(PreparedStatement statement, String sql) {
+            List<RecordedCall> parameters = new ArrayList<>();
+            return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length > 1 && args[0] instanceof Integer) {
+                    parameters.add(new RecordedCall(method, args));
+                } else if (name.startsWith("execute") || name.equals("addBatch")) {
+                    synchronized (this) {
+                        if (recorded != null) {
+                            recorded.add(new RecordedStatement(sql, List.copyOf(parameters)));
+                        }
+                    }
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return afterCall.apply(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException ex) {
+                    throw ex.getCause();
+                }
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Throwable;
+    }
+
+    private record RecordedCall(Method method, Object[] args) {
+    }
+
+    private record RecordedStatement(String sql, List<RecordedCall> parameters) {
+    }
+}
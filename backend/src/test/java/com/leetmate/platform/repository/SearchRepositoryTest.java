@@ -0,0 +1,102 @@
+package com.leetmate.platform.repository;
+
+import com.leetmate.platform.entity.Challenge;
+import com.leetmate.platform.entity.ChallengeDifficulty;
+import com.leetmate.platform.entity.ChatMessage;
+import com.leetmate.platform.entity.ChatThread;
+import com.leetmate.platform.entity.GroupMember;
+import com.leetmate.platform.entity.StudyGroup;
+import com.leetmate.platform.entity.User;
+import com.leetmate.platform.entity.UserRole;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the native search queries against the Postgres test database, including the generated and trigger-maintained
+ * search vectors from {@code V8__full_text_search.sql}.
+ */
+@DataJpaTest
+class SearchRepositoryTest {
+
+    @Autowired
+    private SearchRepository searchRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void titleMatchesRankAboveDescriptionMatches() {
+        User mentor = user("mentor@search.test", UserRole.MENTOR);
+        StudyGroup inDescription = group(mentor, "Shortest paths", "We practise dijkstra every week", List.of());
+        StudyGroup inName = group(mentor, "Dijkstra drills", "Weekly practice", List.of());
+        Challenge challenge = entityManager.persist(new Challenge(UUID.randomUUID(), inName, "Dijkstra on a grid",
+                "Find the cheapest route", "java", ChallengeDifficulty.MEDIUM, "code", Instant.now()));
+        entityManager.flush();
+
+        List<SearchRepository.SearchHit> hits = searchRepository.search("dijkstra", true, true, true,
+                mentor.getId(), 10, 0);
+
+        assertThat(hits).extracting(SearchRepository.SearchHit::getId)
+                .containsExactlyInAnyOrder(inName.getId(), inDescription.getId(), challenge.getId());
+        assertThat(hits.get(hits.size() - 1).getId()).isEqualTo(inDescription.getId());
+        assertThat(hits).extracting(SearchRepository.SearchHit::getRank).isSortedAccordingTo((a, b) -> b.compareTo(a));
+        assertThat(searchRepository.countResults("dijkstra", true, true, true, mentor.getId())).isEqualTo(3);
+        assertThat(searchRepository.search("dijkstra", false, true, false, mentor.getId(), 10, 0))
+                .extracting(SearchRepository.SearchHit::getKind).containsExactly("CHALLENGE");
+    }
+
+    @Test
+    void groupVectorFollowsTagChanges() {
+        User mentor = user("tags@search.test", UserRole.MENTOR);
+        StudyGroup group = group(mentor, "Evening club", "Problems after work", List.of("backtracking"));
+        entityManager.flush();
+
+        assertThat(searchRepository.search("backtracking", true, false, false, mentor.getId(), 10, 0))
+                .extracting(SearchRepository.SearchHit::getId).containsExactly(group.getId());
+
+        group.setTags(List.of("memoization"));
+        entityManager.flush();
+
+        assertThat(searchRepository.search("backtracking", true, false, false, mentor.getId(), 10, 0)).isEmpty();
+        assertThat(searchRepository.search("memoization", true, false, false, mentor.getId(), 10, 0))
+                .extracting(SearchRepository.SearchHit::getId).containsExactly(group.getId());
+    }
+
+    @Test
+    void messagesAreOnlyFoundByMentorAndMembers() {
+        User mentor = user("owner@search.test", UserRole.MENTOR);
+        User member = user("member@search.test", UserRole.MENTEE);
+        User outsider = user("outsider@search.test", UserRole.MENTEE);
+        StudyGroup group = group(mentor, "Private room", "Closed discussions", List.of());
+        entityManager.persist(new GroupMember(UUID.randomUUID(), group, member, Instant.now()));
+        ChatThread thread = entityManager.persist(new ChatThread(UUID.randomUUID(), group, member, "Heaps",
+                "desc", Instant.now()));
+        ChatMessage message = entityManager.persist(new ChatMessage(UUID.randomUUID(), thread, member,
+                "Is a fibonacci heap worth it here?", null, Instant.now()));
+        entityManager.flush();
+
+        for (User reader : List.of(mentor, member)) {
+            assertThat(searchRepository.search("fibonacci", true, true, true, reader.getId(), 10, 0))
+                    .extracting(SearchRepository.SearchHit::getId).containsExactly(message.getId());
+            assertThat(searchRepository.countResults("fibonacci", true, true, true, reader.getId())).isEqualTo(1);
+        }
+        assertThat(searchRepository.search("fibonacci", true, true, true, outsider.getId(), 10, 0)).isEmpty();
+        assertThat(searchRepository.countResults("fibonacci", true, true, true, outsider.getId())).isZero();
+    }
+
+    private User user(String email, UserRole role) {
+        return entityManager.persist(new User(UUID.randomUUID(), "User", email, "hash", role, Instant.now()));
+    }
+
+    private StudyGroup group(User mentor, String name, String description, List<String> tags) {
+        return entityManager.persist(new StudyGroup(UUID.randomUUID(), mentor, name, description, tags,
+                Instant.now()));
+    }
+}
@@ -0,0 +1,139 @@
+package com.leetmate.platform.repository;
+
+import com.leetmate.platform.dto.common.PageResponse;
+import com.leetmate.platform.dto.submission.SubmissionResponse;
+import com.leetmate.platform.dto.submission.SubmissionSummaryResponse;
+import com.leetmate.platform.entity.ReviewStatus;
+import com.leetmate.platform.entity.Challenge;
+import com.leetmate.platform.entity.ChallengeDifficulty;
+import com.leetmate.platform.entity.StudyGroup;
+import com.leetmate.platform.entity.Submission;
+import com.leetmate.platform.entity.SubmissionReview;
+import com.leetmate.platform.entity.User;
+import com.leetmate.platform.entity.UserRole;
+import com.leetmate.platform.service.ChallengeService;
+import com.leetmate.platform.service.SubmissionService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Counts the SQL statements behind a page of submissions with Hibernate statistics, so lazy loads per row cannot
+ * creep back into the listings.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SubmissionListingStatementCountTest {
+
+    private static final int SUBMISSIONS = 12;
+    // challenge lookup with its group, id page, page count and the fetch-joined rows
+    private static final int MAX_STATEMENTS = 6;
+
+    @Autowired
+    private SubmissionRepository submissionRepository;
+
+    @Autowired
+    private ChallengeRepository challengeRepository;
+
+    @Autowired
+    private StudyGroupRepository studyGroupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private SubmissionService submissionService;
+    private Challenge challenge;
+
+    @BeforeEach
+    void seed() {
+        ChallengeService challengeService = new ChallengeService(challengeRepository, studyGroupRepository,
+                new SimpleMeterRegistry(), 100, 100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        submissionService = new SubmissionService(submissionRepository, challengeService, userRepository, null, null);
+        User mentor = userRepository.save(new User(UUID.randomUUID(), "Mentor", "mentor@count.test", "hash",
+                UserRole.MENTOR, Instant.now()));
+        StudyGroup group = studyGroupRepository.save(new StudyGroup(UUID.randomUUID(), mentor, "Graphs", "desc",
+                List.of("graphs"), Instant.now()));
+        challenge = challengeRepository.save(new Challenge(UUID.randomUUID(), group, "Two Sum", "desc", "java",
+                ChallengeDifficulty.EASY, "code", Instant.now()));
+        Instant start = Instant.now();
+        for (int i = 0; i < SUBMISSIONS; i++) {
+            User mentee = userRepository.save(new User(UUID.randomUUID(), "Mentee " + i, "mentee" + i + "@count.test",
+                    "hash", UserRole.MENTEE, start));
+            Submission submission = new Submission(UUID.randomUUID(), challenge, mentee, "java", "code " + i, 1,
+                    start.plusSeconds(i));
+            if (i % 3 != 0) {
+                submission.attachReview(new SubmissionReview(UUID.randomUUID(), start, "Review " + i, 2,
+                        List.of("First idea", "Second idea"), List.of()));
+            }
+            submissionRepository.save(submission);
+        }
+        entityManager.flush();
+        // the challenge lookup is served from the cache after the first request, keep it out of the counts
+        challengeService.getChallenge(challenge.getId());
+    }
+
+    @Test
+    void pageCostsTheSameStatementsWhateverItsSize() {
+        long small = statementsFor(2);
+        long full = statementsFor(SUBMISSIONS);
+
+        assertThat(full).isEqualTo(small).isLessThanOrEqualTo(MAX_STATEMENTS);
+    }
+
+    @Test
+    void pageCarriesMenteesReviewsAndSuggestions() {
+        entityManager.clear();
+
+        PageResponse<SubmissionResponse> page = submissionService.listSubmissions(challenge.getId(), 0, SUBMISSIONS);
+
+        assertThat(page.getContent()).hasSize(SUBMISSIONS);
+        assertThat(page.getContent().get(0).getMenteeName()).isEqualTo("Mentee " + (SUBMISSIONS - 1));
+        assertThat(page.getContent().get(0).getReview().getSuggestions()).containsExactly("First idea", "Second idea");
+        assertThat(page.getContent().get(SUBMISSIONS - 1).getReview()).isNull();
+    }
+
+    @Test
+    void summaryPageIsOneProjectionWithoutEntities() {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        PageResponse<SubmissionSummaryResponse> page = submissionService.listSubmissionSummaries(challenge.getId(), 0,
+                SUBMISSIONS);
+
+        assertThat(page.getContent()).hasSize(SUBMISSIONS);
+        assertThat(page.getContent().get(0).menteeName()).isEqualTo("Mentee " + (SUBMISSIONS - 1));
+        assertThat(page.getContent().get(0).complexity()).isEqualTo(2);
+        assertThat(page.getContent().get(SUBMISSIONS - 1).complexity()).isNull();
+        assertThat(page.getContent()).extracting(SubmissionSummaryResponse::reviewStatus)
+                .containsOnly(ReviewStatus.PENDING, ReviewStatus.COMPLETED);
+        // no submission, mentee or review is loaded
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+    }
+
+    private long statementsFor(int size) {
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        submissionService.listSubmissions(challenge.getId(), 0, size);
+        return statistics.getPrepareStatementCount();
+    }
+}
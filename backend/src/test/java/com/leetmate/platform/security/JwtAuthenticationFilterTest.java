@@ -0,0 +1,122 @@
+package com.leetmate.platform.security;
+
+import com.leetmate.platform.entity.User;
+import com.leetmate.platform.entity.UserRole;
+import com.leetmate.platform.repository.UserRepository;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private JwtService jwtService;
+    private PrincipalCache principalCache;
+    private JwtAuthenticationFilter filter;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtService = new JwtService("test-secret-test-secret-test-secret-test", Duration.ofHours(1),
+                Duration.ofMinutes(1));
+        principalCache = new PrincipalCache(userRepository, 100, Duration.ofMinutes(5));
+        filter = new JwtAuthenticationFilter(jwtService, userRepository, principalCache);
+        user = new User(UUID.randomUUID(), "Mentee", "mentee@demo.com", "hash", UserRole.MENTEE, Instant.now());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void repeatedRequestsResolvePrincipalFromCache() throws Exception {
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        String token = jwtService.generateToken(user);
+
+        Authentication first = authenticate(token);
+        Authentication second = authenticate(token);
+
+        assertThat(((UserPrincipal) first.getPrincipal()).getId()).isEqualTo(user.getId());
+        assertThat(((UserPrincipal) second.getPrincipal()).getId()).isEqualTo(user.getId());
+        verify(userRepository, times(1)).findById(user.getId());
+        verify(userRepository, never()).findByEmailIgnoreCase(anyString());
+    }
+
+    @Test
+    void evictionForcesReload() throws Exception {
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        String token = jwtService.generateToken(user);
+
+        authenticate(token);
+        principalCache.evict(user.getId());
+        authenticate(token);
+
+        verify(userRepository, times(2)).findById(user.getId());
+    }
+
+    @Test
+    void unknownUserStaysAnonymous() throws Exception {
+        when(userRepository.findById(user.getId())).thenReturn(Optional.empty());
+
+        assertThat(authenticate(jwtService.generateToken(user))).isNull();
+    }
+
+    @Test
+    void streamTicketOnlyAuthenticatesItsOwnStream() throws Exception {
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        UUID threadId = UUID.randomUUID();
+        String ticket = jwtService.generateStreamTicket(UserPrincipal.from(user), "/threads/" + threadId + "/events");
+
+        assertThat(authenticateStream("/threads/" + threadId + "/events", ticket)).isNotNull();
+        assertThat(authenticateStream("/threads/" + UUID.randomUUID() + "/events", ticket)).isNull();
+        assertThat(authenticate(ticket)).isNull();
+    }
+
+    @Test
+    void loginTokenIsNotAcceptedInTheQueryString() throws Exception {
+        String token = jwtService.generateToken(user);
+
+        assertThat(authenticateStream("/threads/" + UUID.randomUUID() + "/events", token)).isNull();
+        verify(userRepository, never()).findById(user.getId());
+    }
+
+    private Authentication authenticateStream(String path, String ticket) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setParameter("ticket", ticket);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    private Authentication authenticate(String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/groups");
+        request.addHeader(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
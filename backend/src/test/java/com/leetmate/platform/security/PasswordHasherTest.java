@@ -0,0 +1,132 @@
+package com.leetmate.platform.security;
+
+import com.leetmate.platform.exception.ServiceBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher hasher;
+
+    @AfterEach
+    void tearDown() {
+        if (hasher != null) {
+            hasher.destroy();
+        }
+    }
+
+    @Test
+    void hashesAndVerifiesAtTheConfiguredCost() {
+        hasher = hasher(5, 1, 4);
+
+        String hash = hasher.hash("secret123").join();
+
+        assertThat(hash).startsWith("$2a$05$");
+        assertThat(hasher.verify("secret123", hash).join()).isEqualTo(new PasswordHasher.Verification(true, null));
+        assertThat(hasher.verify("wrong", hash).join().matches()).isFalse();
+        assertThat(meterRegistry.get("auth.password.hashing").tag("operation", "verify").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    void weakerHashesAreUpgradedOnVerification() {
+        hasher = hasher(5, 1, 4);
+        String weak = new BCryptPasswordEncoder(4).encode("secret123");
+        String strong = new BCryptPasswordEncoder(6).encode("secret123");
+
+        PasswordHasher.Verification upgraded = hasher.verify("secret123", weak).join();
+
+        assertThat(upgraded.matches()).isTrue();
+        assertThat(upgraded.upgradedHash()).startsWith("$2a$05$");
+        assertThat(hasher.getEncoder().matches("secret123", upgraded.upgradedHash())).isTrue();
+        assertThat(hasher.verify("secret123", strong).join().upgradedHash()).isNull();
+        assertThat(hasher.verify("wrong", weak).join().upgradedHash()).isNull();
+    }
+
+    @Test
+    void upgradeIsDeferredWhileOtherHashesWait() throws Exception {
+        hasher = hasher(5, 1, 4);
+        String weak = new BCryptPasswordEncoder(4).encode("secret123");
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        hasher.hash(new BlockingPassword(started, release));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<PasswordHasher.Verification> busy = hasher.verify("secret123", weak);
+        CompletableFuture<String> waiting = hasher.hash("waiting");
+
+        release.countDown();
+
+        assertThat(busy.get(5, TimeUnit.SECONDS)).isEqualTo(new PasswordHasher.Verification(true, null));
+        waiting.get(5, TimeUnit.SECONDS);
+        assertThat(hasher.verify("secret123", weak).get(5, TimeUnit.SECONDS).upgradedHash()).startsWith("$2a$05$");
+    }
+
+    @Test
+    void saturatedQueueRejectsImmediately() throws Exception {
+        hasher = hasher(4, 1, 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> running = hasher.hash(new BlockingPassword(started, release));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued = hasher.hash("queued");
+
+        assertThatThrownBy(() -> hasher.hash("rejected")).isInstanceOf(ServiceBusyException.class);
+        assertThat(meterRegistry.get("auth.password.hashing.rejected").counter().count()).isEqualTo(1);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("$2a$04$");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).startsWith("$2a$04$");
+    }
+
+    @Test
+    void calibrationStaysWithinBounds() {
+        assertThat(PasswordHasher.calibrate(Duration.ZERO, 4, 6)).isEqualTo(4);
+        assertThat(PasswordHasher.calibrate(Duration.ofMinutes(1), 4, 6)).isEqualTo(6);
+    }
+
+    private PasswordHasher hasher(int strength, int threads, int queueCapacity) {
+        return new PasswordHasher(meterRegistry, strength, 4, 14, Duration.ofMillis(250), threads, queueCapacity);
+    }
+
+    /**
+     * Password whose hashing blocks until released, keeping the only hashing thread busy.
+     */
+    private record BlockingPassword(CountDownLatch started, CountDownLatch release) implements CharSequence {
+
+        @Override
+        public String toString() {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "blocking";
+        }
+
+        @Override
+        public int length() {
+            return toString().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return toString().charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+    }
+}
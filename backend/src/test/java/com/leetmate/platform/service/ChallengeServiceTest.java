@@ -10,6 +10,8 @@ import com.leetmate.platform.entity.UserRole;
 import com.leetmate.platform.exception.ResourceNotFoundException;
 import com.leetmate.platform.repository.ChallengeRepository;
 import com.leetmate.platform.repository.StudyGroupRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -23,6 +25,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,12 +39,14 @@ class ChallengeServiceTest {
     @Mock
     private StudyGroupRepository groupRepository;
 
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
     private ChallengeService challengeService;
     private StudyGroup group;
 
     @BeforeEach
     void setUp() {
-        challengeService = new ChallengeService(challengeRepository, groupRepository);
+        challengeService = new ChallengeService(challengeRepository, groupRepository, meterRegistry, 100, 100,
+                Duration.ofHours(1), Duration.ofMinutes(1));
         User mentor = new User(UUID.randomUUID(), "Mentor", "mentor@demo.com", "hash", UserRole.MENTOR, Instant.now());
         group = new StudyGroup(UUID.randomUUID(), mentor, "Graph Ninjas", "desc", List.of("graph"), Instant.now());
     }
@@ -70,6 +77,38 @@ class ChallengeServiceTest {
         assertThat(list).hasSize(1);
     }
 
+    @Test
+    void challengeIsLoadedOnceAndReferencedWithoutReloading() {
+        Challenge challenge = new Challenge(UUID.randomUUID(), group, "Two Sum", "desc", "java",
+                ChallengeDifficulty.EASY, "class Solution {}", Instant.now());
+        when(challengeRepository.findById(challenge.getId())).thenReturn(Optional.of(challenge));
+        when(challengeRepository.getReferenceById(challenge.getId())).thenReturn(challenge);
+
+        assertThat(challengeService.getChallenge(challenge.getId()).getTitle()).isEqualTo("Two Sum");
+        assertThat(challengeService.getChallengeReference(challenge.getId())).isSameAs(challenge);
+
+        verify(challengeRepository, times(1)).findById(challenge.getId());
+        assertThat(meterRegistry.get("challenge.cache.lookups").tag("cache", "challenges").tag("result", "hit")
+                .functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void creatingAChallengeRefreshesTheGroupList() {
+        when(groupRepository.findById(group.getId())).thenReturn(Optional.of(group));
+        when(challengeRepository.save(any(Challenge.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(challengeRepository.findByGroup_IdOrderByCreatedAtDesc(group.getId())).thenReturn(List.of());
+
+        challengeService.listGroupChallenges(group.getId());
+        challengeService.listGroupChallenges(group.getId());
+        ChallengeResponse created = challengeService.createChallenge(group.getId(), buildRequest(),
+                group.getMentor().getId());
+        challengeService.listGroupChallenges(group.getId());
+
+        verify(challengeRepository, times(2)).findByGroup_IdOrderByCreatedAtDesc(group.getId());
+        assertThat(challengeService.getChallenge(created.getId())).isSameAs(created);
+        verify(challengeRepository, never()).findById(created.getId());
+    }
+
     @Test
     void getUnknownChallengeThrows() {
         when(challengeRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
@@ -1,8 +1,12 @@
 package com.leetmate.platform.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.leetmate.platform.dto.chat.CreateMessageRequest;
@@ -14,9 +18,12 @@ import com.leetmate.platform.entity.UserRole;
 import com.leetmate.platform.exception.ResourceNotFoundException;
 import com.leetmate.platform.repository.ChatMessageRepository;
 import com.leetmate.platform.repository.ChatThreadRepository;
-import com.leetmate.platform.repository.GroupMemberRepository;
 import com.leetmate.platform.repository.StudyGroupRepository;
 import com.leetmate.platform.repository.UserRepository;
+import com.leetmate.platform.service.realtime.ChatEvent;
+import com.leetmate.platform.service.realtime.ChatEventType;
+import com.leetmate.platform.service.realtime.ChatFanoutHub;
+import com.leetmate.platform.util.KeysetCursor;
 import java.lang.reflect.Field;
 import java.time.Instant;
 import java.util.List;
@@ -25,8 +32,12 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.security.access.AccessDeniedException;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,11 +53,17 @@ class GroupChatServiceTest {
     private StudyGroupRepository studyGroupRepository;
 
     @Mock
-    private GroupMemberRepository groupMemberRepository;
+    private GroupMembershipCache membershipCache;
 
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ChatFanoutHub fanoutHub;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private GroupChatService service;
 
     private UUID groupId;
@@ -63,8 +80,10 @@ class GroupChatServiceTest {
                 chatThreadRepository,
                 chatMessageRepository,
                 studyGroupRepository,
-                groupMemberRepository,
-                userRepository);
+                membershipCache,
+                userRepository,
+                fanoutHub,
+                eventPublisher);
 
         groupId = UUID.randomUUID();
         threadId = UUID.randomUUID();
@@ -83,7 +102,7 @@ class GroupChatServiceTest {
 
         when(chatThreadRepository.findById(threadId)).thenReturn(Optional.of(thread));
         when(chatMessageRepository.findById(parentId)).thenReturn(Optional.of(parent));
-        when(groupMemberRepository.existsByGroupIdAndMemberId(groupId, authorId)).thenReturn(true);
+        when(membershipCache.isMember(groupId, authorId)).thenReturn(true);
         when(userRepository.findById(authorId)).thenReturn(Optional.of(author));
         when(chatMessageRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -94,6 +113,11 @@ class GroupChatServiceTest {
         assertEquals(threadId, response.getThreadId());
         assertEquals(parentId, response.getParentMessageId());
         assertEquals(authorId, response.getAuthorId());
+
+        ArgumentCaptor<ChatEvent> event = ArgumentCaptor.forClass(ChatEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(ChatEventType.MESSAGE_CREATED, event.getValue().type());
+        assertEquals(response.getId(), event.getValue().message().getId());
     }
 
     @Test
@@ -104,7 +128,7 @@ class GroupChatServiceTest {
 
         when(chatThreadRepository.findById(threadId)).thenReturn(Optional.of(thread));
         when(chatMessageRepository.findById(parent.getId())).thenReturn(Optional.of(parent));
-        when(groupMemberRepository.existsByGroupIdAndMemberId(groupId, authorId)).thenReturn(true);
+        when(membershipCache.isMember(groupId, authorId)).thenReturn(true);
         when(userRepository.findById(authorId)).thenReturn(Optional.of(author));
 
         CreateMessageRequest request = buildMessageRequest("child", null, parent.getId());
@@ -118,7 +142,7 @@ class GroupChatServiceTest {
 
         when(chatThreadRepository.findById(threadId)).thenReturn(Optional.of(thread));
         when(chatMessageRepository.findById(missingParentId)).thenReturn(Optional.empty());
-        when(groupMemberRepository.existsByGroupIdAndMemberId(groupId, authorId)).thenReturn(true);
+        when(membershipCache.isMember(groupId, authorId)).thenReturn(true);
         when(userRepository.findById(authorId)).thenReturn(Optional.of(author));
 
         CreateMessageRequest request = buildMessageRequest("child", null, missingParentId);
@@ -126,6 +150,58 @@ class GroupChatServiceTest {
         assertThrows(ResourceNotFoundException.class, () -> service.postMessage(threadId, authorId, request));
     }
 
+    @Test
+    void listMessagesAfter_returnsCursorOfLastMessageWhenMoreExist() {
+        Instant base = Instant.parse("2024-05-30T12:00:00Z");
+        ChatMessage first = new ChatMessage(UUID.randomUUID(), thread, author, "one", null, base);
+        ChatMessage second = new ChatMessage(UUID.randomUUID(), thread, author, "two", null, base.plusSeconds(1));
+
+        when(chatThreadRepository.findById(threadId)).thenReturn(Optional.of(thread));
+        when(membershipCache.isMember(groupId, authorId)).thenReturn(true);
+        when(chatMessageRepository.findByThreadIdOrderByCreatedAtAscIdAsc(eq(threadId), any()))
+                .thenReturn(new SliceImpl<>(List.of(first, second), PageRequest.ofSize(2), true));
+
+        var response = service.listMessagesAfter(threadId, authorId, null, 2);
+
+        assertEquals(2, response.getContent().size());
+        KeysetCursor cursor = KeysetCursor.decode(response.getNextCursor());
+        assertEquals(second.getCreatedAt(), cursor.createdAt());
+        assertEquals(second.getId(), cursor.id());
+    }
+
+    @Test
+    void listMessagesAfter_continuesFromCursorAndEndsWithoutNextCursor() {
+        KeysetCursor cursor = new KeysetCursor(Instant.parse("2024-05-30T12:00:00Z"), UUID.randomUUID());
+        ChatMessage last = new ChatMessage(UUID.randomUUID(), thread, author, "last", null, Instant.now());
+
+        when(chatThreadRepository.findById(threadId)).thenReturn(Optional.of(thread));
+        when(membershipCache.isMember(groupId, authorId)).thenReturn(true);
+        when(chatMessageRepository.findByThreadIdAfter(eq(threadId), eq(cursor.createdAt()), eq(cursor.id()), any()))
+                .thenReturn(new SliceImpl<>(List.of(last), PageRequest.ofSize(2), false));
+
+        var response = service.listMessagesAfter(threadId, authorId, cursor.encode(), 2);
+
+        assertEquals(last.getId(), response.getContent().get(0).getId());
+        assertNull(response.getNextCursor());
+        assertFalse(response.isHasNext());
+    }
+
+    @Test
+    void listThreadsAfter_rejectsMalformedCursor() {
+        when(studyGroupRepository.findById(groupId)).thenReturn(Optional.of(group));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> service.listThreadsAfter(groupId, mentor.getId(), "not-a-cursor", 20));
+    }
+
+    @Test
+    void subscribe_rejectsNonMembers() {
+        when(chatThreadRepository.findById(threadId)).thenReturn(Optional.of(thread));
+        when(membershipCache.isMember(groupId, authorId)).thenReturn(false);
+
+        assertThrows(AccessDeniedException.class, () -> service.subscribe(threadId, authorId));
+    }
+
     private CreateMessageRequest buildMessageRequest(String content, String codeLanguage, UUID parentId) throws Exception {
         CreateMessageRequest request = new CreateMessageRequest();
         setField(request, "content", content);
@@ -0,0 +1,99 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.dto.common.PageResponse;
+import com.leetmate.platform.dto.group.GroupResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupDirectoryCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GroupDirectoryCache cache = new GroupDirectoryCache(meterRegistry, 2, 10, 10, Duration.ofMinutes(1));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void firstPagesAreLoadedOnce() {
+        cache.page(0, 20, this::loadPage);
+        cache.page(0, 20, this::loadPage);
+        cache.page(1, 20, this::loadPage);
+        cache.page(1, 20, this::loadPage);
+
+        assertThat(loads).hasValue(2);
+        assertThat(lookups("pages", "hit")).isEqualTo(2);
+        assertThat(lookups("pages", "miss")).isEqualTo(2);
+    }
+
+    @Test
+    void laterPagesBypassTheCache() {
+        cache.page(2, 20, this::loadPage);
+        cache.page(2, 20, this::loadPage);
+
+        assertThat(loads).hasValue(2);
+        assertThat(lookups("pages", "miss")).isZero();
+    }
+
+    @Test
+    void groupChangeDropsTheGroupAndEveryPage() {
+        UUID changed = UUID.randomUUID();
+        UUID other = UUID.randomUUID();
+        cache.page(0, 20, this::loadPage);
+        cache.group(changed, () -> loadGroup(changed));
+        cache.group(other, () -> loadGroup(other));
+
+        cache.onGroupChanged(new GroupChangedEvent(changed));
+        cache.page(0, 20, this::loadPage);
+        cache.group(changed, () -> loadGroup(changed));
+        cache.group(other, () -> loadGroup(other));
+
+        assertThat(loads).hasValue(5);
+        assertThat(lookups("groups", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void membershipChangeDropsOnlyTheGroup() {
+        UUID changed = UUID.randomUUID();
+        cache.page(0, 20, this::loadPage);
+        cache.group(changed, () -> loadGroup(changed));
+
+        cache.onGroupMembersChanged(new GroupMembersChangedEvent(changed, UUID.randomUUID(), true));
+        cache.page(0, 20, this::loadPage);
+        cache.group(changed, () -> loadGroup(changed));
+
+        assertThat(loads).hasValue(3);
+        assertThat(lookups("pages", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    void resultLoadedDuringAChangeIsNotCached() {
+        UUID groupId = UUID.randomUUID();
+        cache.group(groupId, () -> {
+            cache.onGroupChanged(new GroupChangedEvent(groupId));
+            return loadGroup(groupId);
+        });
+        cache.group(groupId, () -> loadGroup(groupId));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    private PageResponse<GroupResponse> loadPage() {
+        loads.incrementAndGet();
+        return new PageResponse<>(List.of(), 0, 20, 0, 0);
+    }
+
+    private GroupResponse loadGroup(UUID groupId) {
+        loads.incrementAndGet();
+        return new GroupResponse(groupId, "Group", "desc", List.of(), 1, Instant.now(), UUID.randomUUID(), "Mentor");
+    }
+
+    private double lookups(String cacheName, String result) {
+        return meterRegistry.get("group.directory.cache.lookups").tag("cache", cacheName).tag("result", result)
+                .functionCounter().count();
+    }
+}
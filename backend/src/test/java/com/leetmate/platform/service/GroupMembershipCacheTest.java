@@ -0,0 +1,59 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.repository.GroupMemberRepository;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class GroupMembershipCacheTest {
+
+    @Mock
+    private GroupMemberRepository groupMemberRepository;
+
+    private GroupMembershipCache cache;
+    private UUID groupId;
+    private UUID member;
+
+    @BeforeEach
+    void setUp() {
+        cache = new GroupMembershipCache(groupMemberRepository, 10, Duration.ofMinutes(10));
+        groupId = UUID.randomUUID();
+        member = UUID.randomUUID();
+    }
+
+    @Test
+    void loadsMembersOncePerGroup() {
+        when(groupMemberRepository.findMemberIdsByGroupId(groupId)).thenReturn(List.of(member));
+
+        assertThat(cache.isMember(groupId, member)).isTrue();
+        assertThat(cache.isMember(groupId, UUID.randomUUID())).isFalse();
+        assertThat(cache.isMember(groupId, member)).isTrue();
+
+        verify(groupMemberRepository, times(1)).findMemberIdsByGroupId(groupId);
+    }
+
+    @Test
+    void joinsAndLeavesUpdateCachedGroupWithoutReloading() {
+        UUID newcomer = UUID.randomUUID();
+        when(groupMemberRepository.findMemberIdsByGroupId(groupId)).thenReturn(List.of(member));
+        cache.isMember(groupId, member);
+
+        cache.memberJoined(groupId, newcomer);
+        cache.memberLeft(groupId, member);
+
+        assertThat(cache.isMember(groupId, newcomer)).isTrue();
+        assertThat(cache.isMember(groupId, member)).isFalse();
+        verify(groupMemberRepository, times(1)).findMemberIdsByGroupId(groupId);
+    }
+}
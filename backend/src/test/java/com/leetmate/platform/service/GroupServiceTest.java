@@ -10,6 +10,8 @@ import com.leetmate.platform.exception.ResourceNotFoundException;
 import com.leetmate.platform.repository.GroupMemberRepository;
 import com.leetmate.platform.repository.StudyGroupRepository;
 import com.leetmate.platform.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
@@ -20,12 +22,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -41,6 +46,14 @@ class GroupServiceTest {
     @Mock
     private GroupMemberRepository groupMemberRepository;
 
+    @Mock
+    private GroupMembershipCache membershipCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private GroupDirectoryCache directoryCache;
+
     private GroupService groupService;
 
     private User mentor;
@@ -48,7 +61,9 @@ class GroupServiceTest {
 
     @BeforeEach
     void setUp() {
-        groupService = new GroupService(repository, userRepository, groupMemberRepository);
+        directoryCache = new GroupDirectoryCache(new SimpleMeterRegistry(), 5, 50, 100, Duration.ofMinutes(1));
+        groupService = new GroupService(repository, userRepository, groupMemberRepository, membershipCache,
+                new GroupMemberCounter(repository), directoryCache, eventPublisher);
         mentor = new User(UUID.randomUUID(), "Mentor", "mentor@demo.com", "hash", UserRole.MENTOR, Instant.now());
         mentee = new User(UUID.randomUUID(), "Mentee", "mentee@demo.com", "hash", UserRole.MENTEE, Instant.now());
     }
@@ -68,6 +83,7 @@ class GroupServiceTest {
         ArgumentCaptor<StudyGroup> captor = ArgumentCaptor.forClass(StudyGroup.class);
         verify(repository).save(captor.capture());
         assertThat(captor.getValue().getName()).isEqualTo("Graph Ninjas");
+        verify(eventPublisher).publishEvent(new GroupChangedEvent(response.getId()));
     }
 
     @Test
@@ -82,11 +98,25 @@ class GroupServiceTest {
         assertThat(page.getTotalElements()).isEqualTo(1);
     }
 
+    @Test
+    void listGroupsServesFirstPagesFromCacheUntilAGroupChanges() {
+        StudyGroup group = new StudyGroup(UUID.randomUUID(), mentor, "Group 1", "desc", List.of("tag"), Instant.now());
+        when(repository.findAllByOrderByCreatedAtDesc(PageRequest.of(0, 2)))
+                .thenReturn(new PageImpl<>(List.of(group), PageRequest.of(0, 2), 1));
+
+        groupService.listGroups(0, 2);
+        groupService.listGroups(0, 2);
+        verify(repository, times(1)).findAllByOrderByCreatedAtDesc(PageRequest.of(0, 2));
+
+        directoryCache.onGroupChanged(new GroupChangedEvent(group.getId()));
+        groupService.listGroups(0, 2);
+        verify(repository, times(2)).findAllByOrderByCreatedAtDesc(PageRequest.of(0, 2));
+    }
+
     @Test
     void joinAndLeaveAdjustMemberCount() {
         StudyGroup group = new StudyGroup(UUID.randomUUID(), mentor, "Group", "desc", List.of("tag"), Instant.now());
         when(repository.findById(group.getId())).thenReturn(Optional.of(group));
-        when(repository.save(group)).thenReturn(group);
         when(userRepository.findById(mentee.getId())).thenReturn(Optional.of(mentee));
         when(groupMemberRepository.existsByGroupIdAndMemberId(group.getId(), mentee.getId())).thenReturn(false);
         when(groupMemberRepository.findByGroupIdAndMemberId(group.getId(), mentee.getId()))
@@ -97,6 +127,11 @@ class GroupServiceTest {
 
         GroupResponse afterLeave = groupService.leaveGroup(group.getId(), mentee.getId());
         assertThat(afterLeave.getMemberCount()).isEqualTo(0);
+        verify(repository, never()).save(group);
+        verify(membershipCache).memberJoined(group.getId(), mentee.getId());
+        verify(membershipCache).memberLeft(group.getId(), mentee.getId());
+        verify(eventPublisher).publishEvent(new GroupMembersChangedEvent(group.getId(), mentee.getId(), true));
+        verify(eventPublisher).publishEvent(new GroupMembersChangedEvent(group.getId(), mentee.getId(), false));
     }
 
     @Test
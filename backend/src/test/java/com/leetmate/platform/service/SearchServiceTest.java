@@ -0,0 +1,114 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.dto.common.PageResponse;
+import com.leetmate.platform.dto.search.SearchResultResponse;
+import com.leetmate.platform.dto.search.SearchResultType;
+import com.leetmate.platform.repository.SearchRepository;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceTest {
+
+    @Mock
+    private SearchRepository searchRepository;
+
+    private SearchService searchService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchService(searchRepository);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void searchesEveryTypeByDefaultAndSkipsTheCountForAShortFirstPage() {
+        UUID groupId = UUID.randomUUID();
+        UUID messageId = UUID.randomUUID();
+        when(searchRepository.search("dijkstra", true, true, true, userId, 20, 0))
+                .thenReturn(List.of(hit("GROUP", groupId, groupId, 0.4), hit("MESSAGE", messageId, groupId, 0.1)));
+
+        PageResponse<SearchResultResponse> page = searchService.search(userId, "dijkstra", null, 0, 20);
+
+        assertThat(page.getContent()).extracting(SearchResultResponse::type)
+                .containsExactly(SearchResultType.GROUP, SearchResultType.MESSAGE);
+        assertThat(page.getContent().get(1).groupId()).isEqualTo(groupId);
+        assertThat(page.getTotalElements()).isEqualTo(2);
+        assertThat(page.getTotalPages()).isEqualTo(1);
+        verify(searchRepository, never()).countResults(anyString(), anyBoolean(), anyBoolean(), anyBoolean(), any());
+    }
+
+    @Test
+    void fullPageCountsTheResultsOfTheSelectedTypes() {
+        when(searchRepository.search("graph", false, true, false, userId, 1, 1))
+                .thenReturn(List.of(hit("CHALLENGE", UUID.randomUUID(), UUID.randomUUID(), 0.2)));
+        when(searchRepository.countResults("graph", false, true, false, userId)).thenReturn(3L);
+
+        PageResponse<SearchResultResponse> page = searchService.search(userId, "graph",
+                List.of(SearchResultType.CHALLENGE), 1, 1);
+
+        assertThat(page.getTotalElements()).isEqualTo(3);
+        assertThat(page.getTotalPages()).isEqualTo(3);
+    }
+
+    @Test
+    void blankQueryIsRejected() {
+        assertThatThrownBy(() -> searchService.search(userId, "  ", null, 0, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void oversizedPageIsRejected() {
+        assertThatThrownBy(() -> searchService.search(userId, "graph", null, 0, 101))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static SearchRepository.SearchHit hit(String kind, UUID id, UUID groupId, double rank) {
+        return new SearchRepository.SearchHit() {
+            @Override
+            public String getKind() {
+                return kind;
+            }
+
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public UUID getGroupId() {
+                return groupId;
+            }
+
+            @Override
+            public String getTitle() {
+                return "Title";
+            }
+
+            @Override
+            public String getSnippet() {
+                return "snippet";
+            }
+
+            @Override
+            public double getRank() {
+                return rank;
+            }
+        };
+    }
+}
@@ -0,0 +1,185 @@
+package com.leetmate.platform.service;
+
+import com.leetmate.platform.ai.AiReviewResult;
+import com.leetmate.platform.ai.MockAiReviewProvider;
+import com.leetmate.platform.ai.ReactiveAiReviewProvider;
+import com.leetmate.platform.analysis.CStyleCodeAnalyzer;
+import com.leetmate.platform.analysis.CodeAnalyzerRegistry;
+import com.leetmate.platform.analysis.FunctionMetrics;
+import com.leetmate.platform.analysis.PythonCodeAnalyzer;
+import com.leetmate.platform.entity.Challenge;
+import com.leetmate.platform.entity.ChallengeDifficulty;
+import com.leetmate.platform.entity.ReviewStatus;
+import com.leetmate.platform.entity.StudyGroup;
+import com.leetmate.platform.entity.Submission;
+import com.leetmate.platform.entity.SubmissionReview;
+import com.leetmate.platform.entity.User;
+import com.leetmate.platform.entity.UserRole;
+import com.leetmate.platform.repository.SubmissionRepository;
+import com.leetmate.platform.service.realtime.ReviewStreamHub;
+import com.leetmate.platform.util.CyclomaticComplexityCalculator;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SubmissionReviewWorkerTest {
+
+    @Mock
+    private SubmissionRepository submissionRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ReviewStreamHub reviewStreams;
+
+    private Submission submission;
+
+    @BeforeEach
+    void setUp() {
+        User mentor = new User(UUID.randomUUID(), "Mentor", "mentor@demo.com", "hash", UserRole.MENTOR, Instant.now());
+        User mentee = new User(UUID.randomUUID(), "Mentee", "mentee@demo.com", "hash", UserRole.MENTEE, Instant.now());
+        StudyGroup group = new StudyGroup(UUID.randomUUID(), mentor, "Graph", "desc", List.of("graph"), Instant.now());
+        Challenge challenge = new Challenge(UUID.randomUUID(), group, "Two Sum", "desc", "java",
+                ChallengeDifficulty.EASY, "class Solution {}", Instant.now());
+        submission = new Submission(UUID.randomUUID(), challenge, mentee, "java",
+                "if (a) { return 1; }", 1, Instant.now());
+    }
+
+    @Test
+    void enqueueAttachesReviewAndPublishesEvent() {
+        when(submissionRepository.findById(submission.getId())).thenReturn(Optional.of(submission));
+
+        newWorker(new MockAiReviewProvider()).enqueue(submission.getId());
+
+        assertThat(submission.getReviewStatus()).isEqualTo(ReviewStatus.COMPLETED);
+        assertThat(submission.getReview()).isPresent();
+        assertThat(submission.getReview().get().getComplexity()).isEqualTo(2);
+        verify(submissionRepository).save(submission);
+        verify(eventPublisher).publishEvent(new SubmissionReviewedEvent(submission.getId(), ReviewStatus.COMPLETED));
+    }
+
+    @Test
+    void reviewRecordsPerFunctionComplexityForTheSubmissionLanguage() {
+        Submission python = new Submission(UUID.randomUUID(), submission.getChallenge(), submission.getMentee(),
+                "python", "def solve(a, b):\n    if a and b:\n        return a\n    return b\n", 1, Instant.now());
+        when(submissionRepository.findById(python.getId())).thenReturn(Optional.of(python));
+
+        newWorker(new MockAiReviewProvider()).enqueue(python.getId());
+
+        SubmissionReview review = python.getReview().orElseThrow();
+        assertThat(review.getComplexity()).isEqualTo(3);
+        assertThat(review.getFunctionMetrics())
+                .containsExactly(new FunctionMetrics("solve", 1, 4, 3, 1));
+    }
+
+    @Test
+    void providerFailureMarksSubmissionFailed() {
+        when(submissionRepository.findById(submission.getId())).thenReturn(Optional.of(submission));
+        ReactiveAiReviewProvider failing = (language, code) ->
+                Mono.error(new IllegalStateException("OpenAI unavailable"));
+
+        newWorker(failing).enqueue(submission.getId());
+
+        assertThat(submission.getReviewStatus()).isEqualTo(ReviewStatus.FAILED);
+        assertThat(submission.getReview()).isEmpty();
+        verify(submissionRepository).save(submission);
+    }
+
+    @Test
+    void streamedTextIsRelayedWhileTheReviewIsGenerated() {
+        when(submissionRepository.findById(submission.getId())).thenReturn(Optional.of(submission));
+        ReactiveAiReviewProvider streaming = new ReactiveAiReviewProvider() {
+            @Override
+            public Mono<AiReviewResult> reviewAsync(String language, String code) {
+                return reviewAsync(language, code, text -> {
+                });
+            }
+
+            @Override
+            public Mono<AiReviewResult> reviewAsync(String language, String code, Consumer<String> onText) {
+                return Mono.fromSupplier(() -> {
+                    onText.accept("Solid ");
+                    onText.accept("solution.");
+                    return new AiReviewResult("Solid solution.", List.of(), Instant.now());
+                });
+            }
+        };
+
+        newWorker(streaming).enqueue(submission.getId());
+
+        verify(reviewStreams).append(submission.getId(), "Solid ");
+        verify(reviewStreams).append(submission.getId(), "solution.");
+        assertThat(submission.getReview().orElseThrow().getSummary()).isEqualTo("Solid solution.");
+    }
+
+    @Test
+    void rejectedTaskLeavesSubmissionPending() {
+        SubmissionReviewWorker worker = new SubmissionReviewWorker(submissionRepository, new MockAiReviewProvider(),
+                codeAnalyzers(), task -> {
+                    throw new RejectedExecutionException("queue full");
+                }, eventPublisher, reviewStreams, 4, 10, Duration.ofMinutes(2));
+
+        worker.enqueue(submission.getId());
+
+        assertThat(submission.getReviewStatus()).isEqualTo(ReviewStatus.PENDING);
+        verify(submissionRepository, never()).save(any());
+    }
+
+    @Test
+    void reviewsBeyondTheLimitWaitUntilARunningReviewFinishes() {
+        Submission second = new Submission(UUID.randomUUID(), submission.getChallenge(), submission.getMentee(),
+                "java", "return 2;", 1, Instant.now());
+        Map<UUID, Submission> submissions = Map.of(submission.getId(), submission, second.getId(), second);
+        when(submissionRepository.findById(any()))
+                .thenAnswer(invocation -> Optional.ofNullable(submissions.get(invocation.getArgument(0))));
+        List<Sinks.One<AiReviewResult>> calls = new ArrayList<>();
+        ReactiveAiReviewProvider pending = (language, code) -> {
+            Sinks.One<AiReviewResult> call = Sinks.one();
+            calls.add(call);
+            return call.asMono();
+        };
+        SubmissionReviewWorker worker = new SubmissionReviewWorker(submissionRepository, pending, codeAnalyzers(),
+                Runnable::run, eventPublisher, reviewStreams, 1, 10, Duration.ofMinutes(2));
+
+        worker.enqueue(submission.getId());
+        worker.enqueue(second.getId());
+
+        assertThat(calls).hasSize(1);
+        calls.get(0).tryEmitValue(new AiReviewResult("Done.", List.of(), Instant.now()));
+        assertThat(submission.getReviewStatus()).isEqualTo(ReviewStatus.COMPLETED);
+        assertThat(calls).hasSize(2);
+        assertThat(second.getReviewStatus()).isEqualTo(ReviewStatus.PENDING);
+    }
+
+    private SubmissionReviewWorker newWorker(ReactiveAiReviewProvider provider) {
+        return new SubmissionReviewWorker(submissionRepository, provider, codeAnalyzers(),
+                Runnable::run, eventPublisher, reviewStreams, 4, 10, Duration.ofMinutes(2));
+    }
+
+    private static CodeAnalyzerRegistry codeAnalyzers() {
+        return new CodeAnalyzerRegistry(List.of(new CStyleCodeAnalyzer(), new PythonCodeAnalyzer()),
+                new CyclomaticComplexityCalculator());
+    }
+}
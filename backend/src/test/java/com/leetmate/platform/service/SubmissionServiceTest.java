@@ -1,10 +1,10 @@
 package com.leetmate.platform.service;
 
-import com.leetmate.platform.ai.MockAiReviewProvider;
 import com.leetmate.platform.dto.submission.SubmissionResponse;
 import com.leetmate.platform.dto.submission.SubmitSolutionRequest;
 import com.leetmate.platform.entity.Challenge;
 import com.leetmate.platform.entity.ChallengeDifficulty;
+import com.leetmate.platform.entity.ReviewStatus;
 import com.leetmate.platform.entity.StudyGroup;
 import com.leetmate.platform.entity.Submission;
 import com.leetmate.platform.entity.User;
@@ -12,14 +12,16 @@ import com.leetmate.platform.entity.UserRole;
 import com.leetmate.platform.exception.ResourceNotFoundException;
 import com.leetmate.platform.repository.SubmissionRepository;
 import com.leetmate.platform.repository.UserRepository;
-import com.leetmate.platform.util.CyclomaticComplexityCalculator;
+import com.leetmate.platform.service.realtime.ReviewStreamHub;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
@@ -29,6 +31,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +47,12 @@ class SubmissionServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private SubmissionReviewWorker reviewWorker;
+
+    @Mock
+    private ReviewStreamHub reviewStreams;
+
     private SubmissionService submissionService;
     private Challenge challenge;
     private User mentee;
@@ -50,7 +60,7 @@ class SubmissionServiceTest {
     @BeforeEach
     void setUp() {
         submissionService = new SubmissionService(submissionRepository, challengeService,
-                userRepository, new MockAiReviewProvider(), new CyclomaticComplexityCalculator());
+                userRepository, reviewWorker, reviewStreams);
         User mentor = new User(UUID.randomUUID(), "Mentor", "mentor@demo.com", "hash", UserRole.MENTOR, Instant.now());
         StudyGroup group = new StudyGroup(UUID.randomUUID(), mentor, "Graph", "desc", List.of("graph"), Instant.now());
         challenge = new Challenge(UUID.randomUUID(), group, "Two Sum", "desc", "java",
@@ -59,23 +69,25 @@ class SubmissionServiceTest {
     }
 
     @Test
-    void submitCreatesReviewAndAwardsCredit() {
-        when(challengeService.findChallenge(challenge.getId())).thenReturn(challenge);
+    void submitPersistsPendingSubmissionAndSchedulesReview() {
+        when(challengeService.getChallengeReference(challenge.getId())).thenReturn(challenge);
         when(userRepository.findById(mentee.getId())).thenReturn(Optional.of(mentee));
         when(submissionRepository.save(any(Submission.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         SubmissionResponse response = submissionService.submit(challenge.getId(), newSubmitRequest(), mentee.getId());
 
         assertThat(response.getCreditsAwarded()).isEqualTo(1);
-        assertThat(response.getReview()).isNotNull();
+        assertThat(response.getReviewStatus()).isEqualTo(ReviewStatus.PENDING);
+        assertThat(response.getReview()).isNull();
+        verify(reviewWorker).enqueue(response.getId());
     }
 
     @Test
     void listSubmissionsSupportsPagination() {
-        when(challengeService.findChallenge(challenge.getId())).thenReturn(challenge);
         Submission persisted = new Submission(UUID.randomUUID(), challenge, mentee, "java", "code", 1, Instant.now());
-        when(submissionRepository.findByChallenge_IdOrderByCreatedAtDesc(eq(challenge.getId()), any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(List.of(persisted), PageRequest.of(0, 1), 1));
+        when(submissionRepository.findIdsByChallengeId(eq(challenge.getId()), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(List.of(persisted.getId()), PageRequest.of(0, 1), 1));
+        when(submissionRepository.findWithReviewByIdIn(List.of(persisted.getId()))).thenReturn(List.of(persisted));
 
         var page = submissionService.listSubmissions(challenge.getId(), 0, 1);
 
@@ -83,6 +95,21 @@ class SubmissionServiceTest {
         assertThat(page.getTotalElements()).isEqualTo(1);
     }
 
+    @Test
+    void listSubmissionsKeepsPageOrderAndSkipsVanishedRows() {
+        Submission newer = new Submission(UUID.randomUUID(), challenge, mentee, "java", "newer", 1, Instant.now());
+        Submission older = new Submission(UUID.randomUUID(), challenge, mentee, "java", "older", 1,
+                Instant.now().minusSeconds(60));
+        List<UUID> ids = List.of(newer.getId(), UUID.randomUUID(), older.getId());
+        when(submissionRepository.findIdsByChallengeId(eq(challenge.getId()), any(PageRequest.class)))
+                .thenReturn(new PageImpl<>(ids, PageRequest.of(0, 3), 3));
+        when(submissionRepository.findWithReviewByIdIn(ids)).thenReturn(List.of(older, newer));
+
+        var page = submissionService.listSubmissions(challenge.getId(), 0, 3);
+
+        assertThat(page.getContent()).extracting(SubmissionResponse::getCode).containsExactly("newer", "older");
+    }
+
     @Test
     void getUnknownSubmissionThrows() {
         when(submissionRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
@@ -91,6 +118,42 @@ class SubmissionServiceTest {
                 .isInstanceOf(ResourceNotFoundException.class);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    void streamingAFinishedReviewSendsTheResultImmediately() {
+        Submission reviewed = new Submission(UUID.randomUUID(), challenge, mentee, "java", "code", 1, Instant.now());
+        reviewed.markReviewFailed();
+        when(submissionRepository.existsById(reviewed.getId())).thenReturn(true);
+        when(submissionRepository.findById(reviewed.getId())).thenReturn(Optional.of(reviewed));
+        ArgumentCaptor<Supplier<Object>> result = ArgumentCaptor.forClass(Supplier.class);
+
+        submissionService.streamReview(reviewed.getId());
+
+        verify(reviewStreams).subscribe(reviewed.getId());
+        verify(reviewStreams).complete(eq(reviewed.getId()), result.capture());
+        assertThat(result.getValue().get()).isInstanceOfSatisfying(SubmissionResponse.class,
+                response -> assertThat(response.getReviewStatus()).isEqualTo(ReviewStatus.FAILED));
+    }
+
+    @Test
+    void streamingAPendingReviewWaitsForTheWorker() {
+        Submission pending = new Submission(UUID.randomUUID(), challenge, mentee, "java", "code", 1, Instant.now());
+        when(submissionRepository.existsById(pending.getId())).thenReturn(true);
+        when(submissionRepository.findById(pending.getId())).thenReturn(Optional.of(pending));
+
+        submissionService.streamReview(pending.getId());
+
+        verify(reviewStreams).subscribe(pending.getId());
+        verify(reviewStreams, never()).complete(any(), any());
+    }
+
+    @Test
+    void streamingUnknownSubmissionThrows() {
+        assertThatThrownBy(() -> submissionService.streamReview(UUID.randomUUID()))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(reviewStreams, never()).subscribe(any());
+    }
+
     private SubmitSolutionRequest newSubmitRequest() {
         SubmitSolutionRequest request = new SubmitSolutionRequest();
         request.setLanguage("java");
@@ -0,0 +1,182 @@
+package com.leetmate.platform.service.realtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.leetmate.platform.dto.chat.MessageResponse;
+import com.leetmate.platform.exception.ServiceBusyException;
+import com.leetmate.platform.service.GroupMembersChangedEvent;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+class ChatFanoutHubTest {
+
+    private static final UUID GROUP = UUID.randomUUID();
+    private static final UUID USER = UUID.randomUUID();
+
+    private InMemoryChatEventBroker broker;
+    private ChatFanoutHub hub;
+
+    @BeforeEach
+    void setUp() {
+        broker = new InMemoryChatEventBroker();
+        ObjectMapper objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        hub = new ChatFanoutHub(broker, objectMapper, 3, Duration.ofMinutes(1), 2, 100);
+    }
+
+    @AfterEach
+    void tearDown() {
+        hub.destroy();
+    }
+
+    @Test
+    void deliversEventsOnlyToSubscribersOfTheThreadInOrder() {
+        UUID threadId = UUID.randomUUID();
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter otherThread = new RecordingEmitter();
+        hub.register(threadId, GROUP, USER, first);
+        hub.register(threadId, GROUP, USER, second);
+        hub.register(UUID.randomUUID(), GROUP, USER, otherThread);
+
+        broker.publish(new ChatEvent(ChatEventType.MESSAGE_CREATED, threadId, message(threadId, "hello")));
+        broker.publish(new ChatEvent(ChatEventType.MESSAGE_UPDATED, threadId, message(threadId, "edited")));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> first.sent.size() == 2 && second.sent.size() == 2);
+        assertThat(first.sent.get(0)).contains("event:MESSAGE_CREATED").contains("\"content\":\"hello\"");
+        assertThat(first.sent.get(1)).contains("event:MESSAGE_UPDATED").contains("\"content\":\"edited\"");
+        assertThat(otherThread.sent).isEmpty();
+    }
+
+    @Test
+    void dropsSubscribersWhoseConnectionFailed() {
+        UUID threadId = UUID.randomUUID();
+        RecordingEmitter broken = new RecordingEmitter();
+        broken.failing = true;
+        hub.register(threadId, GROUP, USER, broken);
+
+        broker.publish(new ChatEvent(ChatEventType.MESSAGE_CREATED, threadId, message(threadId, "hello")));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> hub.getSubscriberCount() == 0);
+    }
+
+    @Test
+    void rejectsSubscriptionsBeyondTheNodeLimit() {
+        UUID threadId = UUID.randomUUID();
+        hub.register(threadId, GROUP, USER, new RecordingEmitter());
+        hub.register(threadId, GROUP, USER, new RecordingEmitter());
+        hub.register(threadId, GROUP, USER, new RecordingEmitter());
+
+        assertThatThrownBy(() -> hub.register(threadId, GROUP, USER, new RecordingEmitter()))
+                .isInstanceOf(ServiceBusyException.class);
+        assertThat(hub.getSubscriberCount()).isEqualTo(3);
+    }
+
+    @Test
+    void heartbeatsAreWrittenOnTheFanoutLanes() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        hub.register(UUID.randomUUID(), GROUP, USER, emitter);
+
+        hub.heartbeat();
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.sent.size() == 1);
+        assertThat(emitter.sent.get(0)).contains("heartbeat");
+        assertThat(emitter.senders).allMatch(name -> name.startsWith("chat-fanout-"));
+    }
+
+    @Test
+    void leavingTheGroupClosesTheMembersStreams() {
+        UUID threadId = UUID.randomUUID();
+        UUID otherUser = UUID.randomUUID();
+        RecordingEmitter leaving = new RecordingEmitter();
+        RecordingEmitter staying = new RecordingEmitter();
+        hub.register(threadId, GROUP, USER, leaving);
+        hub.register(threadId, GROUP, otherUser, staying);
+
+        hub.onGroupMembersChanged(new GroupMembersChangedEvent(GROUP, USER, false));
+        broker.publish(new ChatEvent(ChatEventType.MESSAGE_CREATED, threadId, message(threadId, "after leave")));
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> staying.sent.size() == 1);
+        assertThat(hub.getSubscriberCount()).isEqualTo(1);
+        assertThat(leaving.sent).isEmpty();
+    }
+
+    @Test
+    void fullLaneClosesTheThreadsStreamsSoTheyReconnect() {
+        ChatFanoutHub saturated = new ChatFanoutHub(broker, new ObjectMapper().registerModule(new JavaTimeModule()),
+                10, Duration.ofMinutes(1), 1, 1);
+        try {
+            UUID slowThread = UUID.randomUUID();
+            UUID busyThread = UUID.randomUUID();
+            RecordingEmitter stalled = new RecordingEmitter();
+            stalled.stalled = true;
+            RecordingEmitter reconnecting = new RecordingEmitter();
+            saturated.register(slowThread, GROUP, USER, stalled);
+            saturated.register(busyThread, GROUP, USER, reconnecting);
+            saturated.dispatch(new ChatEvent(ChatEventType.MESSAGE_CREATED, slowThread, message(slowThread, "a")));
+            await().atMost(Duration.ofSeconds(5)).until(() -> stalled.sendStarted);
+
+            saturated.dispatch(new ChatEvent(ChatEventType.MESSAGE_CREATED, busyThread, message(busyThread, "b")));
+            saturated.dispatch(new ChatEvent(ChatEventType.MESSAGE_CREATED, busyThread, message(busyThread, "c")));
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> reconnecting.completed);
+            assertThat(saturated.getSubscriberCount()).isEqualTo(1);
+        } finally {
+            saturated.destroy();
+        }
+    }
+
+    private MessageResponse message(UUID threadId, String content) {
+        return new MessageResponse(UUID.randomUUID(), threadId, UUID.randomUUID(), "Mentee", "MENTEE", content,
+                null, Instant.now(), null);
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final List<String> senders = new CopyOnWriteArrayList<>();
+        private volatile boolean failing;
+        private volatile boolean stalled;
+        private volatile boolean sendStarted;
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (failing) {
+                throw new IOException("connection reset");
+            }
+            sendStarted = true;
+            if (stalled) {
+                // stands in for a write blocked on a full socket buffer until the hub shuts down
+                try {
+                    Thread.sleep(Duration.ofMinutes(1).toMillis());
+                } catch (InterruptedException ex) {
+                    throw new IOException("write interrupted", ex);
+                }
+            }
+            senders.add(Thread.currentThread().getName());
+            StringBuilder frame = new StringBuilder();
+            builder.build().forEach(part -> frame.append(part.getData()));
+            sent.add(frame.toString());
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+    }
+}
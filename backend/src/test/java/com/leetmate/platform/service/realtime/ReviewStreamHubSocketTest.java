@@ -0,0 +1,125 @@
+package com.leetmate.platform.service.realtime;
+
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.embedded.EmbeddedWebServerFactoryCustomizerAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.awaitility.Awaitility.await;
+
+/**
+ * Streams a review through an embedded Tomcat to a socket that never reads, checking that the connector's write
+ * timeout fails the blocked write so the hub drops the subscriber and its sender thread serves other reviews again.
+ */
+class ReviewStreamHubSocketTest {
+
+    private static ConfigurableApplicationContext context;
+    private static ReviewStreamHub hub;
+    private static int port;
+
+    @BeforeAll
+    static void startServer() {
+        context = new SpringApplicationBuilder(StreamingApp.class)
+                .web(WebApplicationType.SERVLET)
+                .properties("server.port=0", "server.tomcat.connection-timeout=500ms")
+                .run();
+        hub = context.getBean(ReviewStreamHub.class);
+        port = ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    @AfterAll
+    static void stopServer() {
+        context.close();
+    }
+
+    @Test
+    void clientThatStopsReadingIsDroppedOnceTheWriteTimesOut() throws Exception {
+        UUID slowReview = UUID.randomUUID();
+        try (Socket client = new Socket()) {
+            client.setReceiveBufferSize(4096);
+            client.connect(new InetSocketAddress("localhost", port));
+            OutputStream request = client.getOutputStream();
+            request.write(("GET /reviews/" + slowReview + "/events HTTP/1.1\r\n"
+                    + "Host: localhost\r\nAccept: text/event-stream\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            request.flush();
+            await().atMost(Duration.ofSeconds(5)).until(() -> hub.getStreamCount() == 1);
+
+            // far more than the socket buffers on both ends hold, so the only sender thread blocks
+            String chunk = "x".repeat(64 * 1024);
+            for (int i = 0; i < 256; i++) {
+                hub.append(slowReview, chunk);
+            }
+            UUID otherReview = UUID.randomUUID();
+            List<String> delivered = new CopyOnWriteArrayList<>();
+            hub.register(otherReview, new SseEmitter() {
+                @Override
+                public void send(SseEventBuilder builder) {
+                    delivered.add("text");
+                }
+            });
+            hub.append(otherReview, "Delivered");
+
+            await().atMost(Duration.ofSeconds(5)).until(() -> !delivered.isEmpty());
+            hub.complete(slowReview, () -> {
+                throw new AssertionError("the stalled subscriber is still registered");
+            });
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ImportAutoConfiguration({ServletWebServerFactoryAutoConfiguration.class,
+            EmbeddedWebServerFactoryCustomizerAutoConfiguration.class, DispatcherServletAutoConfiguration.class,
+            WebMvcAutoConfiguration.class, HttpMessageConvertersAutoConfiguration.class,
+            JacksonAutoConfiguration.class})
+    static class StreamingApp {
+
+        @Bean(destroyMethod = "destroy")
+        ReviewStreamHub reviewStreamHub() {
+            return new ReviewStreamHub(Duration.ofMinutes(1), 1, 10);
+        }
+
+        @Bean
+        StreamController streamController(ReviewStreamHub reviewStreamHub) {
+            return new StreamController(reviewStreamHub);
+        }
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final ReviewStreamHub hub;
+
+        StreamController(ReviewStreamHub hub) {
+            this.hub = hub;
+        }
+
+        @GetMapping("/reviews/{submissionId}/events")
+        SseEmitter events(@PathVariable UUID submissionId) {
+            return hub.subscribe(submissionId);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.leetmate.platform.service.realtime;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+class ReviewStreamHubTest {
+
+    private final ReviewStreamHub hub = new ReviewStreamHub(Duration.ofMinutes(1), 1, 10);
+
+    @AfterEach
+    void tearDown() {
+        hub.destroy();
+    }
+
+    @Test
+    void lateSubscriberReceivesBufferedTextThenTheReview() {
+        UUID submissionId = UUID.randomUUID();
+        hub.append(submissionId, "Clean ");
+        hub.append(submissionId, "solution");
+        RecordingEmitter emitter = new RecordingEmitter();
+
+        hub.register(submissionId, emitter);
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.text().equals("Clean solution"));
+        hub.append(submissionId, ".");
+        hub.complete(submissionId, () -> "stored");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> emitter.completed);
+        assertThat(emitter.text()).isEqualTo("Clean solution.");
+        assertThat(emitter.sent.get(emitter.sent.size() - 1)).contains("event:review").contains("stored");
+        assertThat(hub.getStreamCount()).isZero();
+    }
+
+    @Test
+    void subscribersOfTheSameReviewAllReceiveIt() {
+        UUID submissionId = UUID.randomUUID();
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        hub.register(submissionId, first);
+        hub.register(submissionId, second);
+
+        hub.append(submissionId, "Looks good");
+        hub.complete(submissionId, () -> "stored");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> first.completed && second.completed);
+        assertThat(first.text()).isEqualTo("Looks good");
+        assertThat(second.text()).isEqualTo("Looks good");
+    }
+
+    @Test
+    void unwatchedReviewIsDroppedWithoutBuildingTheResult() {
+        UUID submissionId = UUID.randomUUID();
+        hub.append(submissionId, "Looks good");
+
+        hub.complete(submissionId, () -> {
+            throw new AssertionError("nobody is subscribed");
+        });
+
+        assertThat(hub.getStreamCount()).isZero();
+    }
+
+    @Test
+    void subscriberAfterCompletionGetsAFreshStream() {
+        UUID submissionId = UUID.randomUUID();
+        hub.register(submissionId, new RecordingEmitter());
+        hub.complete(submissionId, () -> "stored");
+        RecordingEmitter late = new RecordingEmitter();
+
+        hub.register(submissionId, late);
+        hub.complete(submissionId, () -> "stored again");
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> late.completed);
+        assertThat(late.sent).singleElement().asString().contains("stored again");
+    }
+
+    @Test
+    void fullSenderQueueClosesSubscribersSoTheyReconnect() {
+        ReviewStreamHub saturated = new ReviewStreamHub(Duration.ofMinutes(1), 1, 1);
+        try {
+            UUID slowReview = UUID.randomUUID();
+            RecordingEmitter stalled = new RecordingEmitter();
+            stalled.stalled = true;
+            saturated.register(slowReview, stalled);
+            saturated.append(slowReview, "Blocks the only sender thread");
+            await().atMost(Duration.ofSeconds(5)).until(() -> stalled.sendStarted);
+            RecordingEmitter queued = new RecordingEmitter();
+            RecordingEmitter rejected = new RecordingEmitter();
+
+            saturated.register(UUID.randomUUID(), queued);
+            saturated.register(UUID.randomUUID(), rejected);
+
+            assertThat(rejected.completed).isTrue();
+            assertThat(queued.completed).isFalse();
+        } finally {
+            saturated.destroy();
+        }
+    }
+
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private final StringBuilder text = new StringBuilder();
+        private volatile boolean completed;
+        private volatile boolean stalled;
+        private volatile boolean sendStarted;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted = true;
+            if (stalled) {
+                // stands in for a write blocked on a full socket buffer until the hub shuts down
+                try {
+                    Thread.sleep(Duration.ofMinutes(1).toMillis());
+                } catch (InterruptedException ex) {
+                    throw new IOException("write interrupted", ex);
+                }
+            }
+            StringBuilder frame = new StringBuilder();
+            builder.build().forEach(part -> {
+                frame.append(part.getData());
+                if (part.getData() instanceof Map<?, ?> data) {
+                    synchronized (text) {
+                        text.append(data.get("text"));
+                    }
+                }
+            });
+            sent.add(frame.toString());
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+        }
+
+        private String text() {
+            synchronized (text) {
+                return text.toString();
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.leetmate.platform.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CodeNormalizerTest {
+
+    private CodeNormalizer normalizer;
+
+    @BeforeEach
+    void setUp() {
+        normalizer = new CodeNormalizer();
+    }
+
+    @Test
+    void ignoresCommentsAndWhitespaceInCStyleCode() {
+        String original = """
+                int sum(int a, int b) {
+                    return a + b;
+                }
+                """;
+        String reformatted = """
+                // adds two numbers
+                int sum(int a,   int b) {   /* inline */
+                
+                \treturn a + b;   
+                }
+                """;
+        assertThat(normalizer.normalize("java", reformatted)).isEqualTo(normalizer.normalize("java", original));
+    }
+
+    @Test
+    void keepsStringLiteralsVerbatim() {
+        String first = "print(\"a  // b\");";
+        String second = "print(\"a // b\");";
+        assertThat(normalizer.normalize("java", first)).isNotEqualTo(normalizer.normalize("java", second));
+        assertThat(normalizer.normalize("java", first)).contains("\"a  // b\"");
+    }
+
+    @Test
+    void keepsPythonIndentationButDropsHashComments() {
+        String nested = """
+                def f(x):
+                    if x:  # check
+                        return 1
+                    return 0
+                """;
+        String flattened = """
+                def f(x):
+                    if x:
+                        return 1
+                return 0
+                """;
+        assertThat(normalizer.normalize("python", nested)).doesNotContain("#");
+        assertThat(normalizer.normalize("Python", nested)).isNotEqualTo(normalizer.normalize("python", flattened));
+    }
+
+    @Test
+    void multiLineCommentDoesNotJoinStatements() {
+        assertThat(normalizer.normalize("java", "a();/*\n*/b();")).isEqualTo("a();\nb();\n");
+    }
+}
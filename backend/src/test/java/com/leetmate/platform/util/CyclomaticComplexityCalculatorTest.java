@@ -1,5 +1,8 @@
 package com.leetmate.platform.util;
 
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -104,4 +107,104 @@ class CyclomaticComplexityCalculatorTest {
                 """;
         assertThat(calculator.calculate(code)).isEqualTo(6);
     }
+
+    @Test
+    void escapedQuotesDoNotEndLiterals() {
+        String code = "String s = \"say \\\"if\\\" while\"; char c = '\\''; if (x) {}";
+        assertThat(calculator.calculate(code)).isEqualTo(2);
+    }
+
+    @Test
+    void operatorsPairWithoutOverlapping() {
+        assertThat(calculator.calculate("a &&& b |||| c")).isEqualTo(4);
+        assertThat(calculator.calculate("a &/* gap */& b")).isEqualTo(2);
+    }
+
+    @Test
+    void keywordsMustBeWholeWords() {
+        assertThat(calculator.calculate("iff forEach whileLoop _case catch2 showcase")).isEqualTo(1);
+        assertThat(calculator.calculate("x = y;if")).isEqualTo(2);
+    }
+
+    @Test
+    void matchesRegexReferenceOnRandomInput() {
+        Random random = new Random(7);
+        String[] fragments = {"if", "for", "while", "case", "catch", "iff", "_if", "x", " ", "\n", "(", ")",
+                "&", "|", "?", "\"", "'", "\\", "//", "/*", "*/", "*", "/", "1", "\u00e9"};
+        for (int sample = 0; sample < 5_000; sample++) {
+            StringBuilder code = new StringBuilder();
+            int parts = random.nextInt(40);
+            for (int i = 0; i < parts; i++) {
+                code.append(fragments[random.nextInt(fragments.length)]);
+            }
+            String input = code.toString();
+            assertThat(calculator.calculate(input)).as(input).isEqualTo(RegexReference.calculate(input));
+        }
+    }
+
+    /**
+     * The original strip-then-match implementation, kept as an oracle for the single-pass scanner.
+     */
+    private static final class RegexReference {
+
+        private static final Pattern[] PATTERNS = {
+                Pattern.compile("\\b(if|for|while|case|catch)\\b"),
+                Pattern.compile("&&"),
+                Pattern.compile("\\|\\|"),
+                Pattern.compile("\\?")};
+
+        static int calculate(String code) {
+            if (code.isBlank()) {
+                return 1;
+            }
+            String sanitized = strip(code);
+            int complexity = 1;
+            for (Pattern pattern : PATTERNS) {
+                Matcher matcher = pattern.matcher(sanitized);
+                while (matcher.find()) {
+                    complexity++;
+                }
+            }
+            return complexity;
+        }
+
+        private static String strip(String code) {
+            StringBuilder builder = new StringBuilder(code.length());
+            boolean inSingleComment = false;
+            boolean inMultiComment = false;
+            char quote = 0;
+            for (int i = 0; i < code.length(); i++) {
+                char current = code.charAt(i);
+                char next = i + 1 < code.length() ? code.charAt(i + 1) : '\0';
+                if (inSingleComment) {
+                    if (current == '\n') {
+                        inSingleComment = false;
+                        builder.append(current);
+                    }
+                } else if (inMultiComment) {
+                    if (current == '*' && next == '/') {
+                        inMultiComment = false;
+                        i++;
+                    }
+                } else if (quote != 0) {
+                    if (current == '\\' && next != '\0') {
+                        i++;
+                    } else if (current == quote) {
+                        quote = 0;
+                    }
+                    builder.append(' ');
+                } else if (current == '/' && (next == '/' || next == '*')) {
+                    inSingleComment = next == '/';
+                    inMultiComment = next == '*';
+                    i++;
+                } else if (current == '"' || current == '\'') {
+                    quote = current;
+                    builder.append(' ');
+                } else {
+                    builder.append(current);
+                }
+            }
+            return builder.toString();
+        }
+    }
 }
@@ -0,0 +1,71 @@
+package com.leetmate.platform.util;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidSetTest {
+
+    @Test
+    void containsExactlyTheGivenIdentifiers() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        ids.add(ids.get(0));
+
+        UuidSet set = UuidSet.of(ids);
+
+        assertThat(set.size()).isEqualTo(500);
+        assertThat(ids).allMatch(set::contains);
+        assertThat(set.contains(UUID.randomUUID())).isFalse();
+    }
+
+    @Test
+    void withAndWithoutReturnModifiedCopies() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UuidSet original = UuidSet.of(List.of(first));
+
+        UuidSet added = original.with(second);
+        UuidSet removed = added.without(first);
+
+        assertThat(original.contains(second)).isFalse();
+        assertThat(added.contains(first)).isTrue();
+        assertThat(added.contains(second)).isTrue();
+        assertThat(removed.contains(first)).isFalse();
+        assertThat(removed.contains(second)).isTrue();
+        assertThat(added.with(second)).isSameAs(added);
+        assertThat(UuidSet.empty().without(first)).isSameAs(UuidSet.empty());
+    }
+
+    @Test
+    void staysConsistentUnderRandomMutations() {
+        Set<UUID> expected = new HashSet<>();
+        UuidSet set = UuidSet.empty();
+        List<UUID> pool = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            pool.add(new UUID(i % 7 - 3, i));
+        }
+        java.util.Random random = new java.util.Random(42);
+        for (int i = 0; i < 1000; i++) {
+            UUID id = pool.get(random.nextInt(pool.size()));
+            if (random.nextBoolean()) {
+                expected.add(id);
+                set = set.with(id);
+            } else {
+                expected.remove(id);
+                set = set.without(id);
+            }
+        }
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (UUID id : pool) {
+            assertThat(set.contains(id)).isEqualTo(expected.contains(id));
+        }
+    }
+}